@@ -1,19 +1,16 @@
 package com.minecolonies.api.colony;
 
 import com.minecolonies.api.util.ChunkLoadStorage;
+import com.minecolonies.api.util.ChunkStorageRegions;
 import com.minecolonies.api.util.NBTUtils;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.Tuple;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -45,7 +42,7 @@ public interface IChunkmanagerCapability
      * Get all chunk storages for serialization.
      * @return the storages.
      */
-    Map<ChunkPos, ChunkLoadStorage> getAllChunkStorages();
+    ChunkStorageRegions getAllChunkStorages();
 
     /**
      * The implementation of the colonyTagCapability.
@@ -53,24 +50,24 @@ public interface IChunkmanagerCapability
     class Impl implements IChunkmanagerCapability
     {
         /**
-         * Map of chunkPos to chunkLoadStorage.
+         * The chunkLoadStorages by region and chunk.
          */
-        private final Map<ChunkPos, ChunkLoadStorage> chunkStorages = new HashMap<>();
+        private final ChunkStorageRegions chunkStorages = new ChunkStorageRegions();
 
         @Nullable
         @Override
         public ChunkLoadStorage getChunkStorage(final int chunkX, final int chunkZ)
         {
-            return chunkStorages.remove(new ChunkPos(chunkX, chunkZ));
+            return chunkStorages.remove(chunkX, chunkZ);
         }
 
         @Override
         public boolean addChunkStorage(final int chunkX, final int chunkZ, final ChunkLoadStorage storage)
         {
-            final ChunkLoadStorage existingStorage = chunkStorages.get(new ChunkPos(chunkX, chunkZ));
+            final ChunkLoadStorage existingStorage = chunkStorages.get(chunkX, chunkZ);
             if (existingStorage == null)
             {
-                chunkStorages.put(new ChunkPos(chunkX, chunkZ), storage);
+                chunkStorages.put(chunkX, chunkZ, storage);
                 return false;
             }
             else
@@ -82,7 +79,7 @@ public interface IChunkmanagerCapability
 
 
         @Override
-        public Map<ChunkPos, ChunkLoadStorage> getAllChunkStorages()
+        public ChunkStorageRegions getAllChunkStorages()
         {
             return chunkStorages;
         }
@@ -97,7 +94,7 @@ public interface IChunkmanagerCapability
         public NBTBase writeNBT(@NotNull final Capability<IChunkmanagerCapability> capability, @NotNull final IChunkmanagerCapability instance, @Nullable final EnumFacing side)
         {
             final NBTTagCompound compound = new NBTTagCompound();
-            compound.setTag(TAG_ALL_CHUNK_STORAGES, instance.getAllChunkStorages().entrySet().stream().map(entry -> write(entry.getKey(), entry.getValue())).collect(NBTUtils.toNBTTagList()));
+            compound.setTag(TAG_CHUNK_REGIONS, instance.getAllChunkStorages().toNBT());
             return compound;
         }
 
@@ -105,39 +102,41 @@ public interface IChunkmanagerCapability
         public void readNBT(@NotNull final Capability<IChunkmanagerCapability> capability, @NotNull final IChunkmanagerCapability instance,
           @Nullable final EnumFacing side, @NotNull final NBTBase nbt)
         {
-            if(nbt instanceof NBTTagCompound && ((NBTTagCompound) nbt).hasKey(TAG_ID))
+            if (!(nbt instanceof NBTTagCompound))
             {
-                NBTUtils.streamCompound(((NBTTagCompound) nbt).getTagList(TAG_ALL_CHUNK_STORAGES, Constants.NBT.TAG_COMPOUND))
-                  .map(Storage::read).forEach(key -> instance.addChunkStorage(key.getFirst().x, key.getFirst().z, key.getSecond()));
+                return;
+            }
+
+            final NBTTagCompound compound = (NBTTagCompound) nbt;
+            if (compound.hasKey(TAG_CHUNK_REGIONS))
+            {
+                ChunkStorageRegions.readNBT(compound.getTagList(TAG_CHUNK_REGIONS, Constants.NBT.TAG_COMPOUND), storage -> add(instance, storage));
+            }
+            else if (compound.hasKey(TAG_ALL_CHUNK_STORAGES))
+            {
+                NBTUtils.streamCompound(compound.getTagList(TAG_ALL_CHUNK_STORAGES, Constants.NBT.TAG_COMPOUND))
+                  .map(Storage::read).forEach(storage -> add(instance, storage));
             }
         }
 
         /**
-         * Write a single ChunkPos, ChunkLoadStorage pair to nbt.
-         * @param key the key.
-         * @param value the value
-         * @return the resulting compound.
+         * Add a read storage to the capability.
+         * @param instance the capability.
+         * @param storage the storage.
          */
-        private static NBTTagCompound write(final ChunkPos key, final ChunkLoadStorage value)
+        private static void add(final IChunkmanagerCapability instance, final ChunkLoadStorage storage)
         {
-            final NBTTagCompound compound = new NBTTagCompound();
-            compound.setTag(TAG_CHUNK_STORAGE, value.toNBT());
-            compound.setInteger(TAG_X, key.x);
-            compound.setInteger(TAG_Z, key.z);
-            return compound;
+            instance.addChunkStorage((int) storage.getXz(), (int) (storage.getXz() >> 32), storage);
         }
 
         /**
-         * Read a key value pair for the chunkloadstorages.
+         * Read a chunkloadstorage of the old format, one compound per chunk.
          * @param compound the compound to read it from.
-         * @return a tuple for both.
+         * @return the storage.
          */
-        private static Tuple<ChunkPos, ChunkLoadStorage> read(final NBTTagCompound compound)
+        private static ChunkLoadStorage read(final NBTTagCompound compound)
         {
-            final ChunkLoadStorage storage = new ChunkLoadStorage(compound.getCompoundTag(TAG_CHUNK_STORAGE));
-            final int x = compound.getInteger(TAG_X);
-            final int z = compound.getInteger(TAG_Z);
-            return new Tuple<>(new ChunkPos(x,z), storage);
+            return new ChunkLoadStorage(compound.getCompoundTag(TAG_CHUNK_STORAGE));
         }
     }
 }
@@ -3,15 +3,19 @@ package com.minecolonies.api.colony;
 import com.minecolonies.api.util.NBTUtils;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CLOSE_COLONIES;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_COLONIES;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_ID;
 
@@ -45,11 +49,31 @@ public interface IColonyTagCapability
 
     /**
      * Get a list of all close colonies.
-     * @return a list of their ids.
+     * @return a read only list of their ids.
      */
     @NotNull
     List<Integer> getAllCloseColonies();
 
+    /**
+     * Get the amount of close colonies.
+     * @return the amount.
+     */
+    int getCloseColonyCount();
+
+    /**
+     * Get the id of a close colony without boxing it.
+     * @param index the index, from 0 to the amount of close colonies.
+     * @return the id of it.
+     */
+    int getCloseColony(int index);
+
+    /**
+     * Check if a colony is close to the chunk.
+     * @param id the id to check.
+     * @return true if so.
+     */
+    boolean isCloseColony(int id);
+
     /**
      * Add a new colony to the chunk.
      * @param id the id to add.
@@ -69,9 +93,15 @@ public interface IColonyTagCapability
     public class Impl implements IColonyTagCapability
     {
         /**
-         * The list of all close colonies.
+         * Shared array of a chunk without close colonies.
          */
-        private final List<Integer> colonies = new ArrayList<>();
+        private static final int[] NO_COLONIES = new int[0];
+
+        /**
+         * The ids of all close colonies.
+         * Replaced instead of changed, so handed out views never change.
+         */
+        private int[] colonies = NO_COLONIES;
 
         /**
          * The colony owning the chunk.
@@ -83,9 +113,11 @@ public interface IColonyTagCapability
         @Override
         public IColonyTagCapability addColony(final int id)
         {
-            if(!colonies.contains(id))
+            if(!isCloseColony(id))
             {
-                colonies.add(id);
+                final int[] newColonies = Arrays.copyOf(colonies, colonies.length + 1);
+                newColonies[colonies.length] = id;
+                colonies = newColonies;
             }
             return this;
         }
@@ -93,7 +125,7 @@ public interface IColonyTagCapability
         @Override
         public void reset()
         {
-            colonies.clear();
+            colonies = NO_COLONIES;
             owningColony = 0;
         }
 
@@ -101,12 +133,13 @@ public interface IColonyTagCapability
         @Override
         public IColonyTagCapability removeColony(final int id)
         {
-            for(int i = 0; i < colonies.size(); i++)
+            final int index = indexOf(colonies, id);
+            if(index >= 0)
             {
-                if(colonies.get(i) == id)
-                {
-                    colonies.remove(i);
-                }
+                final int[] newColonies = new int[colonies.length - 1];
+                System.arraycopy(colonies, 0, newColonies, 0, index);
+                System.arraycopy(colonies, index + 1, newColonies, index, newColonies.length - index);
+                colonies = newColonies.length == 0 ? NO_COLONIES : newColonies;
             }
             if(owningColony == id)
             {
@@ -133,7 +166,82 @@ public interface IColonyTagCapability
         @Override
         public List<Integer> getAllCloseColonies()
         {
-            return new ArrayList<>(colonies);
+            return new ColonyIdList(colonies);
+        }
+
+        @Override
+        public int getCloseColonyCount()
+        {
+            return colonies.length;
+        }
+
+        @Override
+        public int getCloseColony(final int index)
+        {
+            return colonies[index];
+        }
+
+        @Override
+        public boolean isCloseColony(final int id)
+        {
+            return indexOf(colonies, id) >= 0;
+        }
+
+        /**
+         * Find a colony id in an array.
+         * @param ids the array.
+         * @param id  the id to find.
+         * @return the index or -1 if it isn't in it.
+         */
+        private static int indexOf(@NotNull final int[] ids, final int id)
+        {
+            for(int i = 0; i < ids.length; i++)
+            {
+                if(ids[i] == id)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Read only list view of an array of colony ids.
+     */
+    class ColonyIdList extends AbstractList<Integer> implements RandomAccess
+    {
+        /**
+         * The ids, never changed.
+         */
+        private final int[] ids;
+
+        /**
+         * Create a view of an array.
+         * @param ids the ids.
+         */
+        ColonyIdList(@NotNull final int[] ids)
+        {
+            super();
+            this.ids = ids;
+        }
+
+        @Override
+        public Integer get(final int index)
+        {
+            return ids[index];
+        }
+
+        @Override
+        public int size()
+        {
+            return ids.length;
+        }
+
+        @Override
+        public boolean contains(final Object o)
+        {
+            return o instanceof Integer && Impl.indexOf(ids, (Integer) o) >= 0;
         }
     }
 
@@ -145,9 +253,15 @@ public interface IColonyTagCapability
         @Override
         public NBTBase writeNBT(@NotNull final Capability<IColonyTagCapability> capability, @NotNull final IColonyTagCapability instance, @Nullable final EnumFacing side)
         {
+            final int[] ids = new int[instance.getCloseColonyCount()];
+            for(int i = 0; i < ids.length; i++)
+            {
+                ids[i] = instance.getCloseColony(i);
+            }
+
             final NBTTagCompound compound = new NBTTagCompound();
             compound.setInteger(TAG_ID, instance.getOwningColony());
-            compound.setTag(TAG_COLONIES, instance.getAllCloseColonies().stream().map(Storage::write).collect(NBTUtils.toNBTTagList()));
+            compound.setTag(TAG_CLOSE_COLONIES, new NBTTagIntArray(ids));
             return compound;
         }
 
@@ -157,22 +271,22 @@ public interface IColonyTagCapability
         {
             if(nbt instanceof NBTTagCompound && ((NBTTagCompound) nbt).hasKey(TAG_ID))
             {
-                instance.setOwningColony(((NBTTagCompound) nbt).getInteger(TAG_ID));
-                NBTUtils.streamCompound(((NBTTagCompound) nbt).getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
-                        .map(compound -> compound.getInteger(TAG_ID)).forEach(instance::addColony);
+                final NBTTagCompound compound = (NBTTagCompound) nbt;
+                instance.setOwningColony(compound.getInteger(TAG_ID));
+                if(compound.hasKey(TAG_CLOSE_COLONIES))
+                {
+                    for(final int id : compound.getIntArray(TAG_CLOSE_COLONIES))
+                    {
+                        instance.addColony(id);
+                    }
+                }
+                else
+                {
+                    // Chunks saved before the ids were stored as an int array.
+                    NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
+                            .map(colonyCompound -> colonyCompound.getInteger(TAG_ID)).forEach(instance::addColony);
+                }
             }
         }
-
-        /**
-         * Write one colony id to nbt.
-         * @param id the id.
-         * @return the compound of it.
-         */
-        private static NBTTagCompound write(final int id)
-        {
-            final NBTTagCompound compound = new NBTTagCompound();
-            compound.setInteger(TAG_ID, id);
-            return compound;
-        }
     }
 }
@@ -229,6 +229,24 @@ public class Configurations
 
         @Config.Comment("Turn on Minecolonies pvp mode, attention (colonies can be destroyed and can be griefed under certain conditions.)")
         public boolean pvp_mode = false;
+
+        @Config.Comment("Should the network traffic be recorded per message type, colony and player? (Check it with '/mc colonies netstats')")
+        public boolean enableNetworkStatistics = false;
+
+        @Config.Comment("Interval in minutes in which the network statistics are written to the log, 0 to disable")
+        public int networkStatisticsLogInterval = 10;
+
+        @Config.Comment("Range in blocks around a citizen in which players receive its updates right away")
+        public int citizenViewUpdateRange = 64;
+
+        @Config.Comment("Interval in ticks in which citizen updates are sent to players which are not close to the citizen and have no citizen window open")
+        public int citizenViewLowRateInterval = 200;
+
+        @Config.Comment("Citizens further away than this from every player subscribed to their colony only get their worker AI updated coarsely (0 to disable)")
+        public int citizenLodDistance = 128;
+
+        @Config.Comment("Amount of ticks between two worker AI updates of citizens which are far away from every player subscribed to their colony")
+        public int citizenLodTickInterval = 20;
      }
 
     public static class Pathfinding
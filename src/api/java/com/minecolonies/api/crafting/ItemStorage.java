@@ -175,7 +175,7 @@ public class ItemStorage
 
         return stack.isItemEqual(that.getItemStack())
                 && (this.shouldIgnoreDamageValue || that.getDamageValue() == this.getDamageValue())
-                && (this.shouldIgnoreNBTValue || that.getItemStack().getTagCompound() == this.getItemStack().getTagCompound());
+                && (this.shouldIgnoreNBTValue || Objects.equals(that.getItemStack().getTagCompound(), this.getItemStack().getTagCompound()));
     }
 
     /**
@@ -4,10 +4,8 @@ import com.minecolonies.api.colony.IColonyTagCapability;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.Constants;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -32,14 +30,14 @@ public class ChunkLoadStorage
     private int colonyId;
 
     /**
-     * The list of colonies to be added to this loc.
+     * The ids of the colonies to be removed from this loc.
      */
-    private final List<Integer> coloniesToRemove = new ArrayList<>();
+    private int[] coloniesToRemove;
 
     /**
-     * The list of colonies to be removed from this loc.
+     * The ids of the colonies to be added to this loc.
      */
-    private final List<Integer> coloniesToAdd = new ArrayList<>();
+    private int[] coloniesToAdd;
 
     /**
      * XZ pos as long.
@@ -61,11 +59,10 @@ public class ChunkLoadStorage
         this.xz = compound.getLong(TAG_POS);
         this.dimension = compound.getInteger(TAG_DIMENSION);
 
-        coloniesToAdd.clear();
-        coloniesToAdd.addAll(NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES_TO_ADD, Constants.NBT.TAG_COMPOUND))
-                .map(tempComound -> tempComound.getInteger(TAG_COLONY_ID)).collect(Collectors.toList()));
-        coloniesToRemove.addAll(NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES_TO_REMOVE, Constants.NBT.TAG_COMPOUND))
-                .map(tempComound -> tempComound.getInteger(TAG_COLONY_ID)).collect(Collectors.toList()));
+        coloniesToAdd = NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES_TO_ADD, Constants.NBT.TAG_COMPOUND))
+                .mapToInt(tempComound -> tempComound.getInteger(TAG_COLONY_ID)).toArray();
+        coloniesToRemove = NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES_TO_REMOVE, Constants.NBT.TAG_COMPOUND))
+                .mapToInt(tempComound -> tempComound.getInteger(TAG_COLONY_ID)).toArray();
     }
 
     /**
@@ -81,14 +78,25 @@ public class ChunkLoadStorage
         this.colonyId = owning ? colonyId : 0;
         this.xz = xz;
         this.dimension = dimension;
-        if(add)
-        {
-            coloniesToAdd.add(colonyId);
-        }
-        else
-        {
-            coloniesToRemove.add(colonyId);
-        }
+        this.coloniesToAdd = add ? new int[] {colonyId} : new int[0];
+        this.coloniesToRemove = add ? new int[0] : new int[] {colonyId};
+    }
+
+    /**
+     * Create a chunkload storage from its packed values.
+     * @param colonyId the id of the owning colony or 0.
+     * @param xz the chunk xz.
+     * @param dimension the dimension.
+     * @param coloniesToAdd the ids of the colonies to add.
+     * @param coloniesToRemove the ids of the colonies to remove.
+     */
+    public ChunkLoadStorage(final int colonyId, final long xz, final int dimension, final int[] coloniesToAdd, final int[] coloniesToRemove)
+    {
+        this.colonyId = colonyId;
+        this.xz = xz;
+        this.dimension = dimension;
+        this.coloniesToAdd = coloniesToAdd.clone();
+        this.coloniesToRemove = coloniesToRemove.clone();
     }
 
     /**
@@ -102,8 +110,8 @@ public class ChunkLoadStorage
         compound.setLong(TAG_POS, xz);
         compound.setInteger(TAG_DIMENSION, dimension);
 
-        compound.setTag(TAG_COLONIES_TO_ADD, coloniesToAdd.stream().map(ChunkLoadStorage::getCompoundOfColonyId).collect(NBTUtils.toNBTTagList()));
-        compound.setTag(TAG_COLONIES_TO_REMOVE, coloniesToRemove.stream().map(ChunkLoadStorage::getCompoundOfColonyId).collect(NBTUtils.toNBTTagList()));
+        compound.setTag(TAG_COLONIES_TO_ADD, Arrays.stream(coloniesToAdd).mapToObj(ChunkLoadStorage::getCompoundOfColonyId).collect(NBTUtils.toNBTTagList()));
+        compound.setTag(TAG_COLONIES_TO_REMOVE, Arrays.stream(coloniesToRemove).mapToObj(ChunkLoadStorage::getCompoundOfColonyId).collect(NBTUtils.toNBTTagList()));
         return compound;
     }
 
@@ -132,6 +140,24 @@ public class ChunkLoadStorage
         return dimension;
     }
 
+    /**
+     * Getter for the ids of the colonies to add.
+     * @return a copy of the ids.
+     */
+    public int[] getColoniesToAdd()
+    {
+        return coloniesToAdd.clone();
+    }
+
+    /**
+     * Getter for the ids of the colonies to remove.
+     * @return a copy of the ids.
+     */
+    public int[] getColoniesToRemove()
+    {
+        return coloniesToRemove.clone();
+    }
+
     /**
      * Get the x long.
      * @return the long representing two integers.
@@ -156,14 +182,14 @@ public class ChunkLoadStorage
         return colonyId == storage.colonyId &&
                 xz == storage.xz &&
                 dimension == storage.dimension &&
-                Objects.equals(coloniesToRemove, storage.coloniesToRemove) &&
-                Objects.equals(coloniesToAdd, storage.coloniesToAdd);
+                Arrays.equals(coloniesToRemove, storage.coloniesToRemove) &&
+                Arrays.equals(coloniesToAdd, storage.coloniesToAdd);
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash(colonyId, coloniesToRemove, coloniesToAdd, xz, dimension);
+        return Objects.hash(colonyId, Arrays.hashCode(coloniesToRemove), Arrays.hashCode(coloniesToAdd), xz, dimension);
     }
 
     /**
@@ -194,7 +220,7 @@ public class ChunkLoadStorage
      */
     public boolean isEmpty()
     {
-        return coloniesToAdd.isEmpty() && coloniesToRemove.isEmpty();
+        return coloniesToAdd.length == 0 && coloniesToRemove.length == 0;
     }
 
     /**
@@ -206,13 +232,13 @@ public class ChunkLoadStorage
     {
         for(final int tempColonyId: newStorage.coloniesToAdd)
         {
-            if(this.coloniesToRemove.contains(tempColonyId))
+            if(contains(this.coloniesToRemove, tempColonyId))
             {
-                this.coloniesToRemove.remove(new Integer(tempColonyId));
+                this.coloniesToRemove = remove(this.coloniesToRemove, tempColonyId);
             }
-            else if(!this.coloniesToAdd.contains(tempColonyId))
+            else if(!contains(this.coloniesToAdd, tempColonyId))
             {
-                this.coloniesToAdd.add(tempColonyId);
+                this.coloniesToAdd = add(this.coloniesToAdd, tempColonyId);
             }
         }
 
@@ -223,19 +249,71 @@ public class ChunkLoadStorage
                 this.colonyId = 0;
             }
 
-            if(this.coloniesToAdd.contains(tempColonyId))
+            if(contains(this.coloniesToAdd, tempColonyId))
             {
-                this.coloniesToAdd.remove(new Integer(tempColonyId));
+                this.coloniesToAdd = remove(this.coloniesToAdd, tempColonyId);
             }
-            else if(!this.coloniesToRemove.contains(tempColonyId))
+            else if(!contains(this.coloniesToRemove, tempColonyId))
             {
-                this.coloniesToRemove.add(tempColonyId);
+                this.coloniesToRemove = add(this.coloniesToRemove, tempColonyId);
             }
         }
 
-        if(newStorage.getColonyId() > 0 || !newStorage.coloniesToRemove.isEmpty())
+        if(newStorage.getColonyId() > 0 || newStorage.coloniesToRemove.length > 0)
         {
             this.colonyId = newStorage.getColonyId();
         }
     }
+
+    /**
+     * Check if an id array contains an id.
+     * @param ids the ids.
+     * @param id the id.
+     * @return true if so.
+     */
+    private static boolean contains(final int[] ids, final int id)
+    {
+        for (final int tempId : ids)
+        {
+            if (tempId == id)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Append an id to an id array.
+     * @param ids the ids.
+     * @param id the id.
+     * @return the new array.
+     */
+    private static int[] add(final int[] ids, final int id)
+    {
+        final int[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+
+    /**
+     * Remove the first occurrence of an id from an id array.
+     * @param ids the ids.
+     * @param id the id.
+     * @return the new array.
+     */
+    private static int[] remove(final int[] ids, final int id)
+    {
+        for (int i = 0; i < ids.length; i++)
+        {
+            if (ids[i] == id)
+            {
+                final int[] result = new int[ids.length - 1];
+                System.arraycopy(ids, 0, result, 0, i);
+                System.arraycopy(ids, i + 1, result, i, ids.length - i - 1);
+                return result;
+            }
+        }
+        return ids;
+    }
 }
@@ -0,0 +1,500 @@
+package com.minecolonies.api.util;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Compact map of the pending chunk load storages of a world.
+ * The storages are grouped in regions of 32x32 chunks, the regions are kept in an open addressed map keyed by their position as long.
+ * A region only holds arrays of its occupied chunks, sorted by their index inside the region.
+ * Each region is serialized as a handful of int arrays instead of a compound per chunk.
+ */
+public class ChunkStorageRegions
+{
+    /**
+     * Bits of a chunk coordinate inside its region.
+     */
+    private static final int REGION_BITS = 5;
+
+    /**
+     * Mask of a chunk coordinate inside its region.
+     */
+    private static final int REGION_MASK = (1 << REGION_BITS) - 1;
+
+    /**
+     * Initial capacity of the region table, always a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Initial capacity of the chunk arrays of a region.
+     */
+    private static final int INITIAL_REGION_CAPACITY = 4;
+
+    /**
+     * NBT tag of the position of a region.
+     */
+    private static final String TAG_REGION = "region";
+
+    /**
+     * NBT tag of the indices of the chunks inside their region.
+     */
+    private static final String TAG_INDICES = "indices";
+
+    /**
+     * NBT tag of the owning colony ids of the chunks.
+     */
+    private static final String TAG_OWNERS = "owners";
+
+    /**
+     * NBT tag of the dimensions of the chunks.
+     */
+    private static final String TAG_DIMENSIONS = "dimensions";
+
+    /**
+     * NBT tag of the amount of colonies to add per chunk.
+     */
+    private static final String TAG_ADD_COUNTS = "addCounts";
+
+    /**
+     * NBT tag of the colonies to add of all chunks.
+     */
+    private static final String TAG_ADDS = "adds";
+
+    /**
+     * NBT tag of the amount of colonies to remove per chunk.
+     */
+    private static final String TAG_REMOVE_COUNTS = "removeCounts";
+
+    /**
+     * NBT tag of the colonies to remove of all chunks.
+     */
+    private static final String TAG_REMOVES = "removes";
+
+    /**
+     * The region positions, valid where the region is not null.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /**
+     * The regions by slot.
+     */
+    private Region[] regions = new Region[INITIAL_CAPACITY];
+
+    /**
+     * Amount of regions.
+     */
+    private int regionCount = 0;
+
+    /**
+     * Amount of storages.
+     */
+    private int size = 0;
+
+    /**
+     * Get the storage of a chunk.
+     *
+     * @param chunkX the x chunk location.
+     * @param chunkZ the z chunk location.
+     * @return the storage or null.
+     */
+    @Nullable
+    public ChunkLoadStorage get(final int chunkX, final int chunkZ)
+    {
+        final int slot = findSlot(getRegionKey(chunkX, chunkZ));
+        return regions[slot] == null ? null : regions[slot].get(getIndex(chunkX, chunkZ));
+    }
+
+    /**
+     * Set the storage of a chunk.
+     *
+     * @param chunkX  the x chunk location.
+     * @param chunkZ  the z chunk location.
+     * @param storage the storage.
+     */
+    public void put(final int chunkX, final int chunkZ, @NotNull final ChunkLoadStorage storage)
+    {
+        final long key = getRegionKey(chunkX, chunkZ);
+        int slot = findSlot(key);
+        if (regions[slot] == null)
+        {
+            if ((regionCount + 1) * 2 > regions.length)
+            {
+                resize();
+                slot = findSlot(key);
+            }
+            keys[slot] = key;
+            regions[slot] = new Region();
+            regionCount++;
+        }
+
+        if (regions[slot].put(getIndex(chunkX, chunkZ), storage))
+        {
+            size++;
+        }
+    }
+
+    /**
+     * Remove the storage of a chunk.
+     *
+     * @param chunkX the x chunk location.
+     * @param chunkZ the z chunk location.
+     * @return the removed storage or null.
+     */
+    @Nullable
+    public ChunkLoadStorage remove(final int chunkX, final int chunkZ)
+    {
+        final int slot = findSlot(getRegionKey(chunkX, chunkZ));
+        final Region region = regions[slot];
+        if (region == null)
+        {
+            return null;
+        }
+
+        final ChunkLoadStorage storage = region.remove(getIndex(chunkX, chunkZ));
+        if (storage != null)
+        {
+            size--;
+            if (region.count == 0)
+            {
+                removeSlot(slot);
+            }
+        }
+        return storage;
+    }
+
+    /**
+     * Get the amount of storages.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Write all storages to NBT, one compound of int arrays per region.
+     *
+     * @return the list of regions.
+     */
+    @NotNull
+    public NBTTagList toNBT()
+    {
+        final NBTTagList regionTagList = new NBTTagList();
+        for (int slot = 0; slot < regions.length; slot++)
+        {
+            final Region region = regions[slot];
+            if (region == null)
+            {
+                continue;
+            }
+
+            final int[] indices = new int[region.count];
+            final int[] owners = new int[region.count];
+            final int[] dimensions = new int[region.count];
+            final int[] addCounts = new int[region.count];
+            final int[] removeCounts = new int[region.count];
+            final IntArrayBuilder adds = new IntArrayBuilder();
+            final IntArrayBuilder removes = new IntArrayBuilder();
+
+            for (int chunk = 0; chunk < region.count; chunk++)
+            {
+                final ChunkLoadStorage storage = region.storages[chunk];
+                final int[] toAdd = storage.getColoniesToAdd();
+                final int[] toRemove = storage.getColoniesToRemove();
+                indices[chunk] = region.indices[chunk];
+                owners[chunk] = storage.getColonyId();
+                dimensions[chunk] = storage.getDimension();
+                addCounts[chunk] = toAdd.length;
+                removeCounts[chunk] = toRemove.length;
+                adds.addAll(toAdd);
+                removes.addAll(toRemove);
+            }
+
+            final NBTTagCompound regionCompound = new NBTTagCompound();
+            regionCompound.setLong(TAG_REGION, keys[slot]);
+            regionCompound.setTag(TAG_INDICES, new NBTTagIntArray(indices));
+            regionCompound.setTag(TAG_OWNERS, new NBTTagIntArray(owners));
+            regionCompound.setTag(TAG_DIMENSIONS, new NBTTagIntArray(dimensions));
+            regionCompound.setTag(TAG_ADD_COUNTS, new NBTTagIntArray(addCounts));
+            regionCompound.setTag(TAG_ADDS, new NBTTagIntArray(adds.toArray()));
+            regionCompound.setTag(TAG_REMOVE_COUNTS, new NBTTagIntArray(removeCounts));
+            regionCompound.setTag(TAG_REMOVES, new NBTTagIntArray(removes.toArray()));
+            regionTagList.appendTag(regionCompound);
+        }
+        return regionTagList;
+    }
+
+    /**
+     * Read the storages written by {@link #toNBT()}.
+     *
+     * @param regionTagList the list of regions.
+     * @param consumer      receives every storage.
+     */
+    public static void readNBT(@NotNull final NBTTagList regionTagList, @NotNull final Consumer<ChunkLoadStorage> consumer)
+    {
+        for (int i = 0; i < regionTagList.tagCount(); i++)
+        {
+            final NBTTagCompound regionCompound = regionTagList.getCompoundTagAt(i);
+            final long key = regionCompound.getLong(TAG_REGION);
+            final int regionX = (int) key;
+            final int regionZ = (int) (key >> 32);
+            final int[] indices = regionCompound.getIntArray(TAG_INDICES);
+            final int[] owners = regionCompound.getIntArray(TAG_OWNERS);
+            final int[] dimensions = regionCompound.getIntArray(TAG_DIMENSIONS);
+            final int[] addCounts = regionCompound.getIntArray(TAG_ADD_COUNTS);
+            final int[] adds = regionCompound.getIntArray(TAG_ADDS);
+            final int[] removeCounts = regionCompound.getIntArray(TAG_REMOVE_COUNTS);
+            final int[] removes = regionCompound.getIntArray(TAG_REMOVES);
+
+            int addOffset = 0;
+            int removeOffset = 0;
+            for (int chunk = 0; chunk < indices.length; chunk++)
+            {
+                final int chunkX = (regionX << REGION_BITS) | (indices[chunk] & REGION_MASK);
+                final int chunkZ = (regionZ << REGION_BITS) | (indices[chunk] >> REGION_BITS);
+                consumer.accept(new ChunkLoadStorage(owners[chunk], ChunkPos.asLong(chunkX, chunkZ), dimensions[chunk],
+                  Arrays.copyOfRange(adds, addOffset, addOffset + addCounts[chunk]),
+                  Arrays.copyOfRange(removes, removeOffset, removeOffset + removeCounts[chunk])));
+                addOffset += addCounts[chunk];
+                removeOffset += removeCounts[chunk];
+            }
+        }
+    }
+
+    /**
+     * Get the position of the region of a chunk as long.
+     *
+     * @param chunkX the x chunk location.
+     * @param chunkZ the z chunk location.
+     * @return the key of the region.
+     */
+    private static long getRegionKey(final int chunkX, final int chunkZ)
+    {
+        return ChunkPos.asLong(chunkX >> REGION_BITS, chunkZ >> REGION_BITS);
+    }
+
+    /**
+     * Get the index of a chunk inside its region.
+     *
+     * @param chunkX the x chunk location.
+     * @param chunkZ the z chunk location.
+     * @return the index.
+     */
+    private static int getIndex(final int chunkX, final int chunkZ)
+    {
+        return (chunkX & REGION_MASK) | ((chunkZ & REGION_MASK) << REGION_BITS);
+    }
+
+    /**
+     * Get the start slot of a key in a table.
+     *
+     * @param key    the region key.
+     * @param length the length of the table.
+     * @return the slot.
+     */
+    private static int getStartSlot(final long key, final int length)
+    {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (length - 1);
+    }
+
+    /**
+     * Find the slot of a region, or the empty slot it would be put in.
+     *
+     * @param key the region key.
+     * @return the slot.
+     */
+    private int findSlot(final long key)
+    {
+        int slot = getStartSlot(key, regions.length);
+        while (regions[slot] != null && keys[slot] != key)
+        {
+            slot = (slot + 1) & (regions.length - 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Remove a region and move the following regions of the probe sequence back into the gap.
+     *
+     * @param slot the slot of the region.
+     */
+    private void removeSlot(final int slot)
+    {
+        final int mask = regions.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (regions[next] != null)
+        {
+            final int start = getStartSlot(keys[next], regions.length);
+            //Move the region if its start slot isn't between the gap and its current slot
+            if (((next - start) & mask) >= ((next - gap) & mask))
+            {
+                keys[gap] = keys[next];
+                regions[gap] = regions[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        regions[gap] = null;
+        regionCount--;
+    }
+
+    /**
+     * Double the capacity of the region table.
+     */
+    private void resize()
+    {
+        final long[] oldKeys = keys;
+        final Region[] oldRegions = regions;
+        keys = new long[oldKeys.length * 2];
+        regions = new Region[oldRegions.length * 2];
+        for (int i = 0; i < oldRegions.length; i++)
+        {
+            if (oldRegions[i] != null)
+            {
+                final int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                regions[slot] = oldRegions[i];
+            }
+        }
+    }
+
+    /**
+     * The storages of a 32x32 chunk region.
+     */
+    private static final class Region
+    {
+        /**
+         * The indices of the occupied chunks inside the region, sorted, valid up to the count.
+         */
+        private int[] indices = new int[INITIAL_REGION_CAPACITY];
+
+        /**
+         * The storages of the occupied chunks, in the order of the indices.
+         */
+        private ChunkLoadStorage[] storages = new ChunkLoadStorage[INITIAL_REGION_CAPACITY];
+
+        /**
+         * Amount of storages in the region.
+         */
+        private int count = 0;
+
+        /**
+         * Get the storage of a chunk.
+         *
+         * @param index the index of the chunk inside the region.
+         * @return the storage or null.
+         */
+        @Nullable
+        private ChunkLoadStorage get(final int index)
+        {
+            final int position = Arrays.binarySearch(indices, 0, count, index);
+            return position < 0 ? null : storages[position];
+        }
+
+        /**
+         * Set the storage of a chunk.
+         *
+         * @param index   the index of the chunk inside the region.
+         * @param storage the storage.
+         * @return true if the chunk had no storage before.
+         */
+        private boolean put(final int index, @NotNull final ChunkLoadStorage storage)
+        {
+            int position = Arrays.binarySearch(indices, 0, count, index);
+            if (position >= 0)
+            {
+                storages[position] = storage;
+                return false;
+            }
+
+            position = -position - 1;
+            if (count == indices.length)
+            {
+                indices = Arrays.copyOf(indices, count * 2);
+                storages = Arrays.copyOf(storages, count * 2);
+            }
+            System.arraycopy(indices, position, indices, position + 1, count - position);
+            System.arraycopy(storages, position, storages, position + 1, count - position);
+            indices[position] = index;
+            storages[position] = storage;
+            count++;
+            return true;
+        }
+
+        /**
+         * Remove the storage of a chunk.
+         *
+         * @param index the index of the chunk inside the region.
+         * @return the removed storage or null.
+         */
+        @Nullable
+        private ChunkLoadStorage remove(final int index)
+        {
+            final int position = Arrays.binarySearch(indices, 0, count, index);
+            if (position < 0)
+            {
+                return null;
+            }
+
+            final ChunkLoadStorage storage = storages[position];
+            count--;
+            System.arraycopy(indices, position + 1, indices, position, count - position);
+            System.arraycopy(storages, position + 1, storages, position, count - position);
+            storages[count] = null;
+            return storage;
+        }
+    }
+
+    /**
+     * Growing int array.
+     */
+    private static final class IntArrayBuilder
+    {
+        /**
+         * The values.
+         */
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        /**
+         * Amount of values.
+         */
+        private int length = 0;
+
+        /**
+         * Append values.
+         *
+         * @param toAdd the values.
+         */
+        private void addAll(@NotNull final int[] toAdd)
+        {
+            if (length + toAdd.length > values.length)
+            {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, length + toAdd.length));
+            }
+            System.arraycopy(toAdd, 0, values, length, toAdd.length);
+            length += toAdd.length;
+        }
+
+        /**
+         * Get the values.
+         *
+         * @return an array of the values.
+         */
+        @NotNull
+        private int[] toArray()
+        {
+            return Arrays.copyOf(values, length);
+        }
+    }
+}
@@ -107,6 +107,12 @@ public final class BuildingConstants
      */
     public static final int MAX_DEPTH_LEVEL_3 = 5;
 
+    /**
+     * Ticks after which the storage view of a building resolves its containers again,
+     * to pick up containers which were placed at a registered position later.
+     */
+    public static final int STORAGE_VIEW_REFRESH_TICKS = 100;
+
     /**
      * Private constructor to hide implicit public one.
      */
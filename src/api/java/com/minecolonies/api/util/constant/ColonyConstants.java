@@ -111,6 +111,36 @@ public final class ColonyConstants
     public static final int              MEDIUM_HORDE_SIZE            = 10;
     public static final int              BIG_HORDE_SIZE               = 20;
 
+    /**
+     * Ticks a player keeps receiving citizen updates right away after an open citizen window requested a refresh.
+     */
+    public static final int WINDOW_INTEREST_TICKS       = 200;
+
+    /**
+     * Ticks between the refresh requests of an open citizen window.
+     */
+    public static final int WINDOW_INTEREST_RENEW_TICKS = 100;
+
+    /**
+     * Ticks between two chunk scans of the tree manager.
+     */
+    public static final int TREE_SCAN_INTERVAL = 20;
+
+    /**
+     * Ticks a tree stays reserved for a lumberjack without being renewed.
+     */
+    public static final int TREE_RESERVATION_TICKS = 1200;
+
+    /**
+     * Ticks a fishing spot stays reserved for a fisherman without being renewed.
+     */
+    public static final int POND_RESERVATION_TICKS = 2400;
+
+    /**
+     * Ticks a hungry citizen stays claimed by a cook without being served.
+     */
+    public static final int HUNGER_CLAIM_TICKS = 600;
+
     /**
      * Private constructor to hide the implicit one.
      */
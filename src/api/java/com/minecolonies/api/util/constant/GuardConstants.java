@@ -101,6 +101,21 @@ public final class GuardConstants
      */
     public static final double MOVE_MINIMAL = 0.01D;
 
+    /**
+     * Ticks after which the threats of a colony are searched again.
+     */
+    public static final int THREAT_REFRESH_TICKS = 20;
+
+    /**
+     * Ticks a line of sight check between a guard and a target is cached.
+     */
+    public static final int LINE_OF_SIGHT_CACHE_TICKS = 10;
+
+    /**
+     * Blocks the threat search area reaches past the colony border, covers the vision of guards at the border.
+     */
+    public static final int THREAT_AREA_MARGIN = 32;
+
     // -- Guard Movement -- \\
 
     /**
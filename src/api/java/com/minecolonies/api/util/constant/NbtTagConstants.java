@@ -27,6 +27,7 @@ public final class NbtTagConstants
     public static final String TAG_PRIO                   = "prio";
     public static final String TAG_PRIO_ID                = "prioId";
     public static final String TAG_COLONIES               = "colonies";
+    public static final String TAG_CLOSE_COLONIES         = "closeColonies";
     public static final String TAG_UUID                   = "uuid";
     public static final String TAG_STATISTICS             = "statistics";
     public static final String TAG_MINER_STATISTICS       = "minerStatistics";
@@ -57,6 +58,12 @@ public final class NbtTagConstants
     public static final String TAG_BUILDING_MANAGER       = "buildingManager";
     public static final String TAG_CITIZEN_MANAGER        = "citizenManager";
     public static final String TAG_STATS_MANAGER          = "statsManager";
+    public static final String TAG_TREE_MANAGER           = "treeManager";
+    public static final String TAG_TREES                  = "trees";
+    public static final String TAG_SAPLING                = "sapling";
+    public static final String TAG_POND_MANAGER           = "pondManager";
+    public static final String TAG_PONDS                  = "ponds";
+    public static final String TAG_USES                   = "uses";
     public static final String TAG_COLONY_ID              = "colony";
     public static final String TAG_CITIZEN                = "citizen";
     public static final String TAG_HELD_ITEM_SLOT         = "HeldItemSlot";
@@ -288,6 +295,11 @@ public final class NbtTagConstants
      */
     public static final String TAG_ALL_CHUNK_STORAGES = "allchunk";
 
+    /**
+     * Tag for the chunk storages packed by region.
+     */
+    public static final String TAG_CHUNK_REGIONS = "chunkRegions";
+
     /**
      * Tag used to store the neighbor pos to NBT.
      */
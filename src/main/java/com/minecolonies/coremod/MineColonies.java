@@ -12,7 +12,9 @@ import com.minecolonies.coremod.commands.CommandEntryPointNew;
 import com.minecolonies.coremod.event.BarbarianSpawnEventHandler;
 import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
+import com.minecolonies.coremod.network.NetworkStatistics;
 import com.minecolonies.coremod.network.messages.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.placementhandlers.MinecoloniesPlacementHandlers;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
@@ -69,6 +71,7 @@ public class MineColonies
         MinecraftForge.EVENT_BUS.register(new BarbarianSpawnEventHandler());
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(new ColonyPermissionEventDispatcher());
     }
 
     /**
@@ -188,6 +191,7 @@ public class MineColonies
     {
         int id = 0;
         network = NetworkRegistry.INSTANCE.newSimpleChannel(Constants.MOD_NAME);
+        NetworkStatistics.install(NetworkRegistry.INSTANCE.getChannel(Constants.MOD_NAME, Side.SERVER));
 
         getNetwork().registerMessage(ServerUUIDMessage.class, ServerUUIDMessage.class, ++id, Side.CLIENT);
 
@@ -255,6 +259,7 @@ public class MineColonies
         getNetwork().registerMessage(ReplaceBlockMessage.class, ReplaceBlockMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(AssignComposterItemMessage.class, AssignComposterItemMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(TeamColonyColorChangeMessage.class, TeamColonyColorChangeMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(CitizenViewRefreshMessage.class, CitizenViewRefreshMessage.class, ++id, Side.SERVER);
 
 
         // Schematic transfer messages
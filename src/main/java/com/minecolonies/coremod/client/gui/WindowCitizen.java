@@ -23,6 +23,7 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.entity.citizenhandlers.CitizenHappinessHandler; 
+import com.minecolonies.coremod.network.messages.CitizenViewRefreshMessage;
 import com.minecolonies.coremod.network.messages.OpenInventoryMessage;
 import com.minecolonies.coremod.network.messages.TransferItemsToCitizenRequestMessage;
 import com.minecolonies.coremod.network.messages.UpdateRequestStateMessage;
@@ -42,6 +43,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
+import static com.minecolonies.api.util.constant.ColonyConstants.WINDOW_INTEREST_RENEW_TICKS;
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.WindowConstants.*;
 
@@ -75,6 +77,11 @@ public class WindowCitizen extends AbstractWindowSkeleton
      */
     private       int             lifeCount  = 0;
 
+    /**
+     * Ticks since the last citizen update request.
+     */
+    private       int             refreshTicks = 0;
+
     /**
      * Constructor to initiate the citizen windows.
      *
@@ -97,6 +104,12 @@ public class WindowCitizen extends AbstractWindowSkeleton
         {
             lifeCount++;
         }
+
+        if (++refreshTicks >= WINDOW_INTEREST_RENEW_TICKS)
+        {
+            refreshTicks = 0;
+            MineColonies.getNetwork().sendToServer(new CitizenViewRefreshMessage(citizen.getColonyId()));
+        }
     }
 
     /**
@@ -105,6 +118,7 @@ public class WindowCitizen extends AbstractWindowSkeleton
     @Override
     public void onOpened()
     {
+        MineColonies.getNetwork().sendToServer(new CitizenViewRefreshMessage(citizen.getColonyId()));
         findPaneOfTypeByID(WINDOW_ID_NAME, Label.class).setLabelText(citizen.getName());
 
         createHealthBar(citizen, findPaneOfTypeByID(WINDOW_ID_HEALTHBAR, View.class));
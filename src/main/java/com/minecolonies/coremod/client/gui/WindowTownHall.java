@@ -39,6 +39,7 @@ import java.text.DecimalFormat;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.ColonyConstants.WINDOW_INTEREST_RENEW_TICKS;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static com.minecolonies.api.util.constant.WindowConstants.*;
 import static com.minecolonies.coremod.commands.colonycommands.ListColoniesCommand.TELEPORT_COMMAND;
@@ -138,6 +139,11 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
      */
     private final        ScrollingList feudsList;
 
+    /**
+     * Ticks since the last citizen update request.
+     */
+    private int refreshTicks = 0;
+
     /**
      * Constructor for the town hall window.
      *
@@ -344,6 +350,7 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
     public void onOpened()
     {
         super.onOpened();
+        MineColonies.getNetwork().sendToServer(new CitizenViewRefreshMessage(townHall.getColony().getID()));
 
         if (lastTabButton != null)
         {
@@ -1110,6 +1117,12 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
     {
         super.onUpdate();
 
+        if (++refreshTicks >= WINDOW_INTEREST_RENEW_TICKS)
+        {
+            refreshTicks = 0;
+            MineColonies.getNetwork().sendToServer(new CitizenViewRefreshMessage(townHall.getColony().getID()));
+        }
+
         final String currentPage = findPaneOfTypeByID(VIEW_PAGES, SwitchView.class).getCurrentView().getID();
         switch (currentPage)
         {
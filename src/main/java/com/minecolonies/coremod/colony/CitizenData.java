@@ -13,6 +13,7 @@ import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBarrack
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.managers.ICitizenManager;
+import com.minecolonies.coremod.entity.CitizenEntityRegistry;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
 import com.minecolonies.coremod.entity.citizenhandlers.CitizenHappinessHandler; 
@@ -30,7 +31,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
-import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 
@@ -235,6 +235,7 @@ public class CitizenData
         intelligence = nbtTagSkillsCompound.getInteger("intelligence");
         dexterity = nbtTagSkillsCompound.getInteger("dexterity");
         saturation = compound.getDouble(TAG_SATURATION);
+        onSaturationChanged();
 
         if (compound.hasKey("job"))
         {
@@ -715,13 +716,10 @@ public class CitizenData
      */
     public void updateCitizenEntityIfNecessary()
     {
-        final List<EntityCitizen> list = colony.getWorld()
-                .getEntities(EntityCitizen.class,
-                        entityCitizen -> entityCitizen.getCitizenColonyHandler().getColonyId() == colony.getID() && entityCitizen.getCitizenData().getId() == getId());
-
-        if (!list.isEmpty())
+        final Optional<EntityCitizen> entity = CitizenEntityRegistry.getEntity(colony.getID(), getId());
+        if (entity.isPresent())
         {
-            setCitizenEntity(list.get(0));
+            setCitizenEntity(entity.get());
             return;
         }
 
@@ -941,6 +939,7 @@ public class CitizenData
     public void increaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        onSaturationChanged();
     }
 
     /**
@@ -951,6 +950,18 @@ public class CitizenData
     public void decreaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation));
+        onSaturationChanged();
+    }
+
+    /**
+     * Let the cooks of the colony know if the citizen started or stopped starving.
+     */
+    private void onSaturationChanged()
+    {
+        if (colony != null)
+        {
+            colony.getHungerManager().onSaturationChanged(this);
+        }
     }
 
     /**
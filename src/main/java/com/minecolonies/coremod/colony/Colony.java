@@ -36,7 +36,6 @@ import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
@@ -110,6 +109,26 @@ public class Colony implements IColony
      */
     private final IColonyPackageManager packageManager = new ColonyPackageManager(this);
 
+    /**
+     * The threat manager of the colony.
+     */
+    private final IThreatManager threatManager = new ThreatManager(this);
+
+    /**
+     * The tree manager of the colony.
+     */
+    private final ITreeManager treeManager = new TreeManager(this);
+
+    /**
+     * The pond manager of the colony.
+     */
+    private final IPondManager pondManager = new PondManager(this);
+
+    /**
+     * The hunger manager of the colony.
+     */
+    private final IHungerManager hungerManager = new HungerManager(this);
+
     /**
      * The Positions which players can freely interact.
      */
@@ -243,9 +262,8 @@ public class Colony implements IColony
             this.world.getScoreboard().getTeam(TEAM_COLONY_NAME + id).setAllowFriendlyFire(false);
         }
 
-        // Register a new event handler
+        // Events are routed to it by the global dispatcher
         eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
 
         for (final String s : Configurations.gameplay.freeToInteractBlocks)
         {
@@ -318,6 +336,12 @@ public class Colony implements IColony
         // Permissions
         permissions.loadPermissions(compound);
 
+        //  Ponds before Citizens, because fishermen of older versions hand their ponds to the manager
+        if (compound.hasKey(TAG_POND_MANAGER))
+        {
+            pondManager.readFromNBT(compound.getCompoundTag(TAG_POND_MANAGER));
+        }
+
         if(compound.hasKey(TAG_CITIZEN_MANAGER))
         {
             citizenManager.readFromNBT(compound.getCompoundTag(TAG_CITIZEN_MANAGER));
@@ -348,6 +372,11 @@ public class Colony implements IColony
             statsManager.readFromNBT(compound);
         }
 
+        if (compound.hasKey(TAG_TREE_MANAGER))
+        {
+            treeManager.readFromNBT(compound.getCompoundTag(TAG_TREE_MANAGER));
+        }
+
         //  Workload
         workManager.readFromNBT(compound.getCompoundTag(TAG_WORK));
 
@@ -459,6 +488,14 @@ public class Colony implements IColony
         statsManager.writeToNBT(statsCompound);
         compound.setTag(TAG_STATS_MANAGER, statsCompound);
 
+        final NBTTagCompound treeCompound = new NBTTagCompound();
+        treeManager.writeToNBT(treeCompound);
+        compound.setTag(TAG_TREE_MANAGER, treeCompound);
+
+        final NBTTagCompound pondCompound = new NBTTagCompound();
+        pondManager.writeToNBT(pondCompound);
+        compound.setTag(TAG_POND_MANAGER, pondCompound);
+
         //  Workload
         @NotNull final NBTTagCompound workManagerCompound = new NBTTagCompound();
         workManager.writeToNBT(workManagerCompound);
@@ -711,6 +748,7 @@ public class Colony implements IColony
         }
 
         buildingManager.onWorldTick(event);
+        treeManager.onWorldTick(event);
 
         if (isDay && !world.isDaytime())
         {
@@ -1162,6 +1200,42 @@ public class Colony implements IColony
         return packageManager;
     }
 
+    /**
+     * Get the threat manager of the colony.
+     * @return the manager.
+     */
+    public IThreatManager getThreatManager()
+    {
+        return threatManager;
+    }
+
+    /**
+     * Get the tree manager of the colony.
+     * @return the manager.
+     */
+    public ITreeManager getTreeManager()
+    {
+        return treeManager;
+    }
+
+    /**
+     * Get the pond manager of the colony.
+     * @return the manager.
+     */
+    public IPondManager getPondManager()
+    {
+        return pondManager;
+    }
+
+    /**
+     * Get the hunger manager of the colony.
+     * @return the manager.
+     */
+    public IHungerManager getHungerManager()
+    {
+        return hungerManager;
+    }
+
     /**
      * Get all visiting players.
      * @return the list.
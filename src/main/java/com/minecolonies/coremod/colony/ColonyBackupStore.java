@@ -0,0 +1,610 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.xml.bind.DatatypeConverter;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content addressed store for the colony backups.
+ * The files are split into chunks at content defined boundaries and every chunk is stored once by its hash,
+ * a snapshot only records which chunks make up each file. Backing up unchanged colonies only writes the snapshot.
+ * <p>
+ * Layout inside the minecolonies folder:
+ * - backups/chunks/ab/abcdef... the gzipped chunks.
+ * - backups/snapshots/2018-01-01_12.00.00.dat the snapshots.
+ * - backups/restore the snapshot to restore on the next world load.
+ */
+public final class ColonyBackupStore
+{
+    /**
+     * Folder of the store inside the minecolonies folder.
+     */
+    private static final String BACKUP_FOLDER = "backups";
+
+    /**
+     * Folder of the chunks inside the store.
+     */
+    private static final String CHUNK_FOLDER = "chunks";
+
+    /**
+     * Folder of the snapshots inside the store.
+     */
+    private static final String SNAPSHOT_FOLDER = "snapshots";
+
+    /**
+     * Name of the file which holds the snapshot to restore.
+     */
+    private static final String RESTORE_FILE = "restore";
+
+    /**
+     * Extension of the snapshot files.
+     */
+    private static final String SNAPSHOT_EXTENSION = ".dat";
+
+    /**
+     * Format of the snapshot names, sorts in chronological order.
+     */
+    private static final String SNAPSHOT_DATE_FORMAT = "yyyy-MM-dd_HH.mm.ss";
+
+    /**
+     * Pattern of the colony files which are replaced by a restore.
+     */
+    private static final String COLONY_FILE_PATTERN = "colony\\d+\\.dat";
+
+    /**
+     * Tag of the list of files of a snapshot.
+     */
+    private static final String TAG_FILES = "files";
+
+    /**
+     * Tag of the name of a file.
+     */
+    private static final String TAG_NAME = "name";
+
+    /**
+     * Tag of the size of a file.
+     */
+    private static final String TAG_SIZE = "size";
+
+    /**
+     * Tag of the chunk hashes of a file.
+     */
+    private static final String TAG_CHUNKS = "chunks";
+
+    /**
+     * Smallest chunk, unless the file ends earlier.
+     */
+    private static final int MIN_CHUNK_SIZE = 16 * 1024;
+
+    /**
+     * Biggest chunk, cut even if no boundary has been found.
+     */
+    private static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Bits of the rolling hash which have to be zero at a boundary, about one boundary every 64 KiB.
+     */
+    private static final long BOUNDARY_MASK = 0xFFFF_0000_0000_0000L;
+
+    /**
+     * Seed of the random values of the rolling hash, must never change or old chunks won't match anymore.
+     */
+    private static final long GEAR_SEED = 0x6D696E65636F6CL;
+
+    /**
+     * Random value per byte for the rolling hash.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static
+    {
+        final Random random = new Random(GEAR_SEED);
+        for (int i = 0; i < GEAR.length; i++)
+        {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * The folder of the files to back up.
+     */
+    private final File dataFolder;
+
+    /**
+     * The folder of the store.
+     */
+    private final File storeFolder;
+
+    /**
+     * Create the store of a data folder.
+     *
+     * @param dataFolder the minecolonies folder of the world.
+     */
+    public ColonyBackupStore(@NotNull final File dataFolder)
+    {
+        this.dataFolder = dataFolder;
+        this.storeFolder = new File(dataFolder, BACKUP_FOLDER);
+    }
+
+    /**
+     * Create a snapshot of files of the data folder, only chunks which aren't stored yet are written.
+     *
+     * @param fileNames the names of the files.
+     * @return the name of the snapshot or null if it failed.
+     */
+    @Nullable
+    public String backup(@NotNull final List<String> fileNames)
+    {
+        try
+        {
+            final NBTTagList fileTagList = new NBTTagList();
+            int written = 0;
+            for (final String fileName : fileNames)
+            {
+                final byte[] data = Files.readAllBytes(new File(dataFolder, fileName).toPath());
+                final NBTTagList chunkTagList = new NBTTagList();
+                for (final byte[] chunk : split(data))
+                {
+                    final String hash = hash(chunk);
+                    if (writeChunk(hash, chunk))
+                    {
+                        written++;
+                    }
+                    chunkTagList.appendTag(new NBTTagString(hash));
+                }
+
+                final NBTTagCompound fileCompound = new NBTTagCompound();
+                fileCompound.setString(TAG_NAME, fileName);
+                fileCompound.setLong(TAG_SIZE, data.length);
+                fileCompound.setTag(TAG_CHUNKS, chunkTagList);
+                fileTagList.appendTag(fileCompound);
+            }
+
+            final NBTTagCompound snapshotCompound = new NBTTagCompound();
+            snapshotCompound.setTag(TAG_FILES, fileTagList);
+            final String snapshot = getNewSnapshotName();
+            final File snapshotFile = getSnapshotFile(snapshot);
+            checkDirectory(snapshotFile.getParentFile());
+            CompressedStreamTools.safeWrite(snapshotCompound, snapshotFile);
+
+            Log.getLogger().info(String.format("Backed up %d files to snapshot %s, %d new chunks", fileNames.size(), snapshot, written));
+            return snapshot;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the names of all snapshots, oldest first.
+     *
+     * @return the names.
+     */
+    @NotNull
+    public List<String> getSnapshots()
+    {
+        final List<String> snapshots = new ArrayList<>();
+        final File[] files = new File(storeFolder, SNAPSHOT_FOLDER).listFiles();
+        if (files != null)
+        {
+            for (final File file : files)
+            {
+                if (file.getName().endsWith(SNAPSHOT_EXTENSION))
+                {
+                    snapshots.add(file.getName().substring(0, file.getName().length() - SNAPSHOT_EXTENSION.length()));
+                }
+            }
+        }
+        Collections.sort(snapshots);
+        return snapshots;
+    }
+
+    /**
+     * Restore a snapshot on the next world load, restoring it now would be overwritten by the next save.
+     *
+     * @param snapshot the name of the snapshot.
+     * @return false if there is no such snapshot.
+     */
+    public boolean scheduleRestore(@NotNull final String snapshot)
+    {
+        if (!getSnapshots().contains(snapshot))
+        {
+            return false;
+        }
+
+        try
+        {
+            checkDirectory(storeFolder);
+            Files.write(new File(storeFolder, RESTORE_FILE).toPath(), snapshot.getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to schedule the restore of " + snapshot, e);
+            return false;
+        }
+    }
+
+    /**
+     * Restore the scheduled snapshot, called before the colonies are loaded.
+     */
+    public void applyPendingRestore()
+    {
+        final File restoreFile = new File(storeFolder, RESTORE_FILE);
+        if (!restoreFile.exists())
+        {
+            return;
+        }
+
+        try
+        {
+            final String snapshot = new String(Files.readAllBytes(restoreFile.toPath()), StandardCharsets.UTF_8).trim();
+            restore(snapshot);
+            Log.getLogger().info("Restored colony data from snapshot " + snapshot);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Unable to restore colony data", e);
+        }
+        finally
+        {
+            if (!restoreFile.delete())
+            {
+                Log.getLogger().warn("Unable to delete " + restoreFile);
+            }
+        }
+    }
+
+    /**
+     * Delete all but the newest snapshots and the chunks only they used.
+     *
+     * @param keep the amount of snapshots to keep.
+     * @return the amount of deleted snapshots.
+     */
+    public int prune(final int keep)
+    {
+        final List<String> snapshots = getSnapshots();
+        final int toDelete = Math.max(0, snapshots.size() - Math.max(keep, 0));
+        for (final String snapshot : snapshots.subList(0, toDelete))
+        {
+            if (!getSnapshotFile(snapshot).delete())
+            {
+                Log.getLogger().warn("Unable to delete snapshot " + snapshot);
+            }
+        }
+
+        final Set<String> used = new HashSet<>();
+        try
+        {
+            for (final String snapshot : snapshots.subList(toDelete, snapshots.size()))
+            {
+                final NBTTagList fileTagList = readSnapshot(snapshot).getTagList(TAG_FILES, NBT.TAG_COMPOUND);
+                for (int i = 0; i < fileTagList.tagCount(); i++)
+                {
+                    final NBTTagList chunkTagList = fileTagList.getCompoundTagAt(i).getTagList(TAG_CHUNKS, NBT.TAG_STRING);
+                    for (int j = 0; j < chunkTagList.tagCount(); j++)
+                    {
+                        used.add(chunkTagList.getStringTagAt(j));
+                    }
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read the snapshots, keeping all chunks", e);
+            return toDelete;
+        }
+
+        int deletedChunks = 0;
+        final File[] folders = new File(storeFolder, CHUNK_FOLDER).listFiles();
+        if (folders != null)
+        {
+            for (final File folder : folders)
+            {
+                final File[] chunks = folder.listFiles();
+                if (chunks == null)
+                {
+                    continue;
+                }
+                for (final File chunk : chunks)
+                {
+                    if (!used.contains(chunk.getName()) && chunk.delete())
+                    {
+                        deletedChunks++;
+                    }
+                }
+            }
+        }
+
+        Log.getLogger().info(String.format("Pruned %d snapshots and %d chunks", toDelete, deletedChunks));
+        return toDelete;
+    }
+
+    /**
+     * Write the files of a snapshot back to the data folder and remove the colony files it doesn't have.
+     * All chunks are read and written to temporary files before anything is overwritten,
+     * the colony files which aren't in the snapshot are only removed once all files have been moved into place.
+     *
+     * @param snapshot the name of the snapshot.
+     * @throws IOException if the snapshot can't be restored.
+     */
+    void restore(@NotNull final String snapshot) throws IOException
+    {
+        final NBTTagList fileTagList = readSnapshot(snapshot).getTagList(TAG_FILES, NBT.TAG_COMPOUND);
+        final Map<String, byte[]> files = new LinkedHashMap<>();
+        for (int i = 0; i < fileTagList.tagCount(); i++)
+        {
+            final NBTTagCompound fileCompound = fileTagList.getCompoundTagAt(i);
+            final ByteArrayOutputStream data = new ByteArrayOutputStream();
+            final NBTTagList chunkTagList = fileCompound.getTagList(TAG_CHUNKS, NBT.TAG_STRING);
+            for (int j = 0; j < chunkTagList.tagCount(); j++)
+            {
+                data.write(readChunk(chunkTagList.getStringTagAt(j)));
+            }
+
+            if (data.size() != fileCompound.getLong(TAG_SIZE))
+            {
+                throw new IOException("Restored size of " + fileCompound.getString(TAG_NAME) + " doesn't match the snapshot");
+            }
+            files.put(fileCompound.getString(TAG_NAME), data.toByteArray());
+        }
+
+        final List<File> temps = new ArrayList<>();
+        try
+        {
+            for (final Map.Entry<String, byte[]> entry : files.entrySet())
+            {
+                final File temp = new File(dataFolder, entry.getKey() + "_tmp");
+                temps.add(temp);
+                Files.write(temp.toPath(), entry.getValue());
+            }
+        }
+        catch (final IOException e)
+        {
+            deleteAll(temps);
+            throw new IOException("Unable to write the restored files, the current data has been kept", e);
+        }
+
+        int moved = 0;
+        try
+        {
+            for (final String fileName : files.keySet())
+            {
+                Files.move(temps.get(moved).toPath(), new File(dataFolder, fileName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+                moved++;
+            }
+        }
+        catch (final IOException e)
+        {
+            deleteAll(temps.subList(moved, temps.size()));
+            throw new IOException(String.format("Only %d of %d files have been restored, the colony data is incomplete", moved, files.size()), e);
+        }
+
+        final File[] existing = dataFolder.listFiles();
+        if (existing != null)
+        {
+            for (final File file : existing)
+            {
+                if (file.getName().matches(COLONY_FILE_PATTERN) && !files.containsKey(file.getName()) && !file.delete())
+                {
+                    Log.getLogger().warn("Unable to delete " + file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete files, used to clean up temporary files.
+     *
+     * @param files the files.
+     */
+    private static void deleteAll(@NotNull final List<File> files)
+    {
+        for (final File file : files)
+        {
+            if (file.exists() && !file.delete())
+            {
+                Log.getLogger().warn("Unable to delete " + file);
+            }
+        }
+    }
+
+    /**
+     * Read a snapshot.
+     *
+     * @param snapshot the name of the snapshot.
+     * @return the snapshot data.
+     * @throws IOException if it can't be read.
+     */
+    @NotNull
+    private NBTTagCompound readSnapshot(@NotNull final String snapshot) throws IOException
+    {
+        final NBTTagCompound compound = CompressedStreamTools.read(getSnapshotFile(snapshot));
+        if (compound == null)
+        {
+            throw new IOException("Snapshot " + snapshot + " doesn't exist");
+        }
+        return compound;
+    }
+
+    /**
+     * Store a chunk if it isn't stored yet.
+     *
+     * @param hash  the hash of the chunk.
+     * @param chunk the content.
+     * @return true if it has been written.
+     * @throws IOException if it can't be written.
+     */
+    private boolean writeChunk(@NotNull final String hash, @NotNull final byte[] chunk) throws IOException
+    {
+        final File file = getChunkFile(hash);
+        if (file.exists())
+        {
+            return false;
+        }
+
+        checkDirectory(file.getParentFile());
+        final File temp = new File(file.getParentFile(), hash + "_tmp");
+        try (OutputStream stream = new GZIPOutputStream(new FileOutputStream(temp)))
+        {
+            stream.write(chunk);
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    /**
+     * Read a stored chunk.
+     *
+     * @param hash the hash of the chunk.
+     * @return the content.
+     * @throws IOException if it is missing or can't be read.
+     */
+    @NotNull
+    byte[] readChunk(@NotNull final String hash) throws IOException
+    {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (InputStream stream = new GZIPInputStream(new FileInputStream(getChunkFile(hash))))
+        {
+            final byte[] buffer = new byte[MIN_CHUNK_SIZE];
+            int read;
+            while ((read = stream.read(buffer)) != -1)
+            {
+                data.write(buffer, 0, read);
+            }
+        }
+
+        final byte[] chunk = data.toByteArray();
+        if (!hash.equals(hash(chunk)))
+        {
+            throw new IOException("Chunk " + hash + " is corrupted");
+        }
+        return chunk;
+    }
+
+    /**
+     * Get a name for a new snapshot, from the current time.
+     *
+     * @return the name.
+     */
+    @NotNull
+    private String getNewSnapshotName()
+    {
+        final String date = new SimpleDateFormat(SNAPSHOT_DATE_FORMAT).format(new Date());
+        String snapshot = date;
+        for (int i = 1; getSnapshotFile(snapshot).exists(); i++)
+        {
+            snapshot = date + "_" + i;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the file of a snapshot.
+     *
+     * @param snapshot the name of the snapshot.
+     * @return the file.
+     */
+    @NotNull
+    private File getSnapshotFile(@NotNull final String snapshot)
+    {
+        return new File(new File(storeFolder, SNAPSHOT_FOLDER), snapshot + SNAPSHOT_EXTENSION);
+    }
+
+    /**
+     * Get the file of a chunk, grouped in folders by the first two characters of the hash.
+     *
+     * @param hash the hash of the chunk.
+     * @return the file.
+     */
+    @NotNull
+    private File getChunkFile(@NotNull final String hash)
+    {
+        return new File(new File(new File(storeFolder, CHUNK_FOLDER), hash.substring(0, 2)), hash);
+    }
+
+    /**
+     * Split data into chunks, the boundaries depend on the content around them.
+     * This way a change only affects the chunks it is in, the following ones are cut the same way as before.
+     *
+     * @param data the data.
+     * @return the chunks.
+     */
+    @NotNull
+    static List<byte[]> split(@NotNull final byte[] data)
+    {
+        final List<byte[]> chunks = new ArrayList<>();
+        int start = 0;
+        long hash = 0;
+        for (int i = 0; i < data.length; i++)
+        {
+            hash = (hash << 1) + GEAR[data[i] & 0xFF];
+            final int size = i - start + 1;
+            if ((size >= MIN_CHUNK_SIZE && (hash & BOUNDARY_MASK) == 0) || size >= MAX_CHUNK_SIZE)
+            {
+                chunks.add(Arrays.copyOfRange(data, start, i + 1));
+                start = i + 1;
+                hash = 0;
+            }
+        }
+
+        if (start < data.length)
+        {
+            chunks.add(Arrays.copyOfRange(data, start, data.length));
+        }
+        return chunks;
+    }
+
+    /**
+     * Calculate the hash a chunk is stored by.
+     *
+     * @param chunk the content.
+     * @return the hash as lower case hex string.
+     * @throws IOException if the hash algorithm isn't available.
+     */
+    @NotNull
+    static String hash(@NotNull final byte[] chunk) throws IOException
+    {
+        try
+        {
+            return DatatypeConverter.printHexBinary(MessageDigest.getInstance("SHA-1").digest(chunk)).toLowerCase(Locale.ROOT);
+        }
+        catch (final NoSuchAlgorithmException e)
+        {
+            throw new IOException("SHA-1 isn't available", e);
+        }
+    }
+
+    /**
+     * check/create a directory and its parents.
+     *
+     * @param directory to be created
+     * @throws IOException if it doesn't exist and can't be created.
+     */
+    private static void checkDirectory(@NotNull final File directory) throws IOException
+    {
+        if (!directory.exists() && !directory.mkdirs())
+        {
+            throw new IOException("Directory doesn't exist and failed to be created: " + directory);
+        }
+    }
+}
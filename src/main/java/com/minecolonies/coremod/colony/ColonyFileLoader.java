@@ -0,0 +1,98 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the colony and chunk info files on world load.
+ * The files are read and parsed in parallel, the results are returned in the order of the files
+ * so that the caller can apply them to the world on the main thread in a deterministic order.
+ */
+public final class ColonyFileLoader
+{
+    /**
+     * Amount of progress messages logged while loading many files.
+     */
+    private static final int PROGRESS_STEPS = 10;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyFileLoader()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Read a list of NBT files in parallel.
+     *
+     * @param files       the files.
+     * @param description what is loaded, for the log.
+     * @return the data of each file in the same order, null for files which don't exist or can't be read.
+     */
+    @NotNull
+    public static List<NBTTagCompound> loadAll(@NotNull final List<File> files, @NotNull final String description)
+    {
+        final long start = System.nanoTime();
+        final int progressStep = Math.max(1, files.size() / PROGRESS_STEPS);
+        final AtomicInteger loaded = new AtomicInteger();
+
+        final List<NBTTagCompound> data = files.parallelStream().map(file ->
+        {
+            final NBTTagCompound compound = load(file);
+            final int count = loaded.incrementAndGet();
+            if (files.size() > PROGRESS_STEPS && count % progressStep == 0)
+            {
+                Log.getLogger().info(String.format("Loading %s: %d/%d", description, count, files.size()));
+            }
+            return compound;
+        }).collect(Collectors.toList());
+
+        Log.getLogger().info(String.format("Read %d %s in %.1f ms", files.size(), description, (System.nanoTime() - start) / NANOS_PER_MILLI));
+        return data;
+    }
+
+    /**
+     * Read a single NBT file, called from the loading threads.
+     *
+     * @param file the file.
+     * @return the data or null.
+     */
+    @Nullable
+    private static NBTTagCompound load(@NotNull final File file)
+    {
+        if (!file.exists())
+        {
+            return null;
+        }
+
+        final long start = System.nanoTime();
+        try
+        {
+            final NBTTagCompound compound = CompressedStreamTools.read(file);
+            Log.getLogger().debug(String.format("Read %s in %.1f ms", file.getName(), (System.nanoTime() - start) / NANOS_PER_MILLI));
+            return compound;
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when loading file from path in ColonyManager!", exception);
+            return null;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.colony;
 
-import com.google.common.io.Files;
 import com.minecolonies.api.colony.IChunkmanagerCapability;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
@@ -34,20 +33,14 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
 import static com.minecolonies.api.util.constant.Constants.HALF_A_CIRCLE;
@@ -85,11 +78,6 @@ public final class ColonyManager
      */
     private static final String FILENAME_MINECOLONIES = "colonies.dat";
 
-    /**
-     * The file name pattern of the minecolonies backup.
-     */
-    private static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.zip";
-
     /**
      * Printed text if world capability couldn't be found.
      */
@@ -174,6 +162,12 @@ public final class ColonyManager
      */
     private static int missingChunksToLoad = 0;
 
+    /**
+     * The backup store of the colony data of the loaded save, null while no world is loaded.
+     */
+    @Nullable
+    private static ColonyBackupStore backupStore = null;
+
     /**
      * Creates a new compatibilityManager.
      */
@@ -427,7 +421,6 @@ public final class ColonyManager
                 }
             }
 
-            MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
             Log.getLogger().info("Deleting colony: " + colony.getID());
             colonies.remove(id);
             coloniesByWorld.get(colony.getDimension()).remove(colony);
@@ -538,7 +531,7 @@ public final class ColonyManager
         {
             storage.applyToCap(colonyCap);
         }
-        return !colonyCap.getAllCloseColonies().isEmpty();
+        return colonyCap.getCloseColonyCount() > 0;
     }
 
     /**
@@ -682,14 +675,14 @@ public final class ColonyManager
         {
             return getColonyView(cap.getOwningColony());
         }
-        else if(!cap.getAllCloseColonies().isEmpty())
+        else if(cap.getCloseColonyCount() > 0)
         {
             @Nullable ColonyView closestColony = null;
             long closestDist = Long.MAX_VALUE;
 
-            for (final int cId : cap.getAllCloseColonies())
+            for (int i = 0; i < cap.getCloseColonyCount(); i++)
             {
-                final ColonyView c = getColonyView(cId);
+                final ColonyView c = getColonyView(cap.getCloseColony(i));
                 if (c != null && c.getDimension() == w.provider.getDimension())
                 {
                     final long dist = c.getDistanceSquared(pos);
@@ -737,14 +730,14 @@ public final class ColonyManager
         {
             return getColony(cap.getOwningColony());
         }
-        else if(!cap.getAllCloseColonies().isEmpty())
+        else if(cap.getCloseColonyCount() > 0)
         {
             @Nullable Colony closestColony = null;
             long closestDist = Long.MAX_VALUE;
 
-            for (final int cId : cap.getAllCloseColonies())
+            for (int i = 0; i < cap.getCloseColonyCount(); i++)
             {
-                final Colony c = getColony(cId);
+                final Colony c = getColony(cap.getCloseColony(i));
                 if (c != null && c.getDimension() == w.provider.getDimension())
                 {
                     final long dist = c.getDistanceSquared(pos);
@@ -1027,6 +1020,9 @@ public final class ColonyManager
                 //load the structures when we know where the world is
                 Structures.init();
 
+                backupStore = new ColonyBackupStore(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH));
+                backupStore.applyPendingRestore();
+
                 @NotNull final File file = getSaveLocation();
                 @Nullable final NBTTagCompound data = loadNBTFromPath(file);
                 if (data != null)
@@ -1038,9 +1034,14 @@ public final class ColonyManager
                         final int size = data.getInteger(TAG_NEW_COLONIES);
 
                         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+                        final List<File> colonyFiles = new ArrayList<>();
                         for (int colonyId = 0; colonyId <= size; colonyId++)
                         {
-                            @Nullable final NBTTagCompound colonyData = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY, colonyId)));
+                            colonyFiles.add(new File(saveDir, String.format(FILENAME_COLONY, colonyId)));
+                        }
+
+                        for (@Nullable final NBTTagCompound colonyData : ColonyFileLoader.loadAll(colonyFiles, "colonies"))
+                        {
                             if (colonyData != null)
                             {
                                 @NotNull final Colony colony = Colony.loadColony(colonyData, world);
@@ -1081,6 +1082,11 @@ public final class ColonyManager
         }
     }
 
+    /**
+     * Back up the colony data into a new snapshot of the backup store.
+     *
+     * @return true if it succeeded.
+     */
     public static boolean backupColonyData()
     {
         if (numWorldsLoaded > 0 && saveNeeded)
@@ -1088,57 +1094,35 @@ public final class ColonyManager
             saveColonies(false);
         }
 
-        try(FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        final List<String> fileNames = new ArrayList<>();
+        for (int i = 1; i < colonies.getTopID() + 1; i++)
         {
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
-
-            for (int i = 1; i < colonies.getTopID() + 1; i++)
+            @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i));
+            if (file.exists())
             {
-                @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i));
-                if (file.exists())
-                {
-                    addToZipFile(String.format(FILENAME_COLONY, i), zos, saveDir);
-                }
+                fileNames.add(file.getName());
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-
-            zos.close();
-            fos.close();
-        }
-        catch (final Exception e)
-        {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Unable to backup colony data, please contact an administrator");
-            return false;
         }
+        fileNames.add(getSaveLocation().getName());
 
-        return true;
+        return getBackupStore().backup(fileNames) != null;
     }
 
     /**
-     * Add zip to file.
-     * @param fileName the file name.
-     * @param zos the output stream.
-     * @param folder the folder.
+     * Get the backup store of the colony data.
+     * It is created when the first world loads and dropped when the last one unloads.
+     *
+     * @return the store.
      */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
+    @NotNull
+    public static ColonyBackupStore getBackupStore()
     {
-        final File file = new File(folder, fileName);
-        try(FileInputStream fis = new FileInputStream(file))
-        {
-            zos.putNextEntry(new ZipEntry(fileName));
-            Files.copy(file, zos);
-        }
-        catch (final Exception e)
+        if (backupStore == null)
         {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Error packing " + fileName + " into the zip.");
+            backupStore = new ColonyBackupStore(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH));
         }
+        return backupStore;
     }
 
     /**
@@ -1228,9 +1212,12 @@ public final class ColonyManager
         final File[] files = chunkDir.listFiles();
         if (files != null)
         {
-            for (final File file : files)
+            Arrays.sort(files);
+            final List<NBTTagCompound> chunkDataList = ColonyFileLoader.loadAll(Arrays.asList(files), "chunk infos");
+            for (int i = 0; i < files.length; i++)
             {
-                @Nullable final NBTTagCompound chunkData = loadNBTFromPath(file);
+                final File file = files[i];
+                @Nullable final NBTTagCompound chunkData = chunkDataList.get(i);
                 if (chunkData != null)
                 {
                     final ChunkLoadStorage storage = new ChunkLoadStorage(chunkData);
@@ -1244,19 +1231,6 @@ public final class ColonyManager
         }
     }
 
-    /**
-     * Get save location for Minecolonies backup data, from the world/save
-     * directory.
-     *
-     * @return Save file for minecolonies.
-     */
-    @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
-    }
-
     /**
      * Get the Universal Unique ID for the server.
      *
@@ -1303,6 +1277,7 @@ public final class ColonyManager
             {
                 colonies.clear();
                 coloniesByWorld.clear();
+                backupStore = null;
             }
         }
     }
@@ -147,59 +147,145 @@ public final class ColonyView implements IColony
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Populate a network packet representing the changes of a ColonyView.
+     * Only the fields which differ from the snapshot the receiver already knows are written,
+     * the block and position sets are sent as lists of added and removed entries.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link ByteBuf} to write data in.
-     * @param isNewSubScription true if this is a new subscription.
+     * @param buf      {@link ByteBuf} to write data in.
+     * @param current  the current state of the colony.
+     * @param lastSent the state last sent to the receiver, null to send everything.
      */
-    public static void serializeNetworkData(@NotNull final Colony colony, @NotNull final ByteBuf buf, final boolean isNewSubScription)
+    public static void serializeNetworkData(@NotNull final ByteBuf buf, @NotNull final ColonyViewSnapshot current, @Nullable final ColonyViewSnapshot lastSent)
     {
+        final int changedFields = current.getChangedFields(lastSent);
+        buf.writeBoolean(lastSent == null);
+        buf.writeInt(changedFields);
+
         //  General Attributes
-        ByteBufUtils.writeUTF8String(buf, colony.getName());
-        buf.writeInt(colony.getDimension());
-        BlockPosUtil.writeToByteBuf(buf, colony.getCenter());
-        buf.writeBoolean(colony.isManualHiring());
+        if ((changedFields & ColonyViewSnapshot.NAME) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, current.getName());
+        }
+        if ((changedFields & ColonyViewSnapshot.LOCATION) != 0)
+        {
+            buf.writeInt(current.getDimension());
+            BlockPosUtil.writeToByteBuf(buf, current.getCenter());
+        }
+        if ((changedFields & ColonyViewSnapshot.MANUAL_HIRING) != 0)
+        {
+            buf.writeBoolean(current.isManualHiring());
+        }
         //  Citizenry
-        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
-
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Set<BlockPos> waypoints = colony.getWayPoints().keySet();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
+        if ((changedFields & ColonyViewSnapshot.MAX_CITIZENS) != 0)
         {
-            ByteBufUtils.writeUTF8String(buf, block.getRegistryName().toString());
+            buf.writeInt(current.getMaxCitizens());
         }
 
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
+        if ((changedFields & ColonyViewSnapshot.FREE_BLOCKS) != 0)
+        {
+            final Set<Block> oldBlocks = lastSent == null ? null : lastSent.getFreeBlocks();
+            writeBlocks(buf, ColonyViewSnapshot.difference(current.getFreeBlocks(), oldBlocks));
+            writeBlocks(buf, oldBlocks == null ? Collections.emptyList() : ColonyViewSnapshot.difference(oldBlocks, current.getFreeBlocks()));
+        }
+        if ((changedFields & ColonyViewSnapshot.FREE_POSITIONS) != 0)
+        {
+            writePositionDelta(buf, current.getFreePositions(), lastSent == null ? null : lastSent.getFreePositions());
+        }
+        if ((changedFields & ColonyViewSnapshot.HAPPINESS) != 0)
+        {
+            buf.writeDouble(current.getOverallHappiness());
+        }
+        if ((changedFields & ColonyViewSnapshot.WAREHOUSE) != 0)
+        {
+            buf.writeBoolean(current.hasWarehouse());
+        }
+        if ((changedFields & ColonyViewSnapshot.WAYPOINTS) != 0)
+        {
+            writePositionDelta(buf, current.getWayPoints(), lastSent == null ? null : lastSent.getWayPoints());
+        }
+        if ((changedFields & ColonyViewSnapshot.LAST_CONTACT) != 0)
+        {
+            buf.writeInt(current.getLastContactInHours());
+        }
+        if ((changedFields & ColonyViewSnapshot.MANUAL_HOUSING) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, block);
+            buf.writeBoolean(current.isManualHousing());
         }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
+        //  Citizens are sent as a separate packet
 
-        buf.writeInt(waypoints.size());
-        for (final BlockPos block : waypoints)
+        if ((changedFields & ColonyViewSnapshot.REQUEST_MANAGER) != 0)
+        {
+            ByteBufUtils.writeTag(buf, current.getRequestManager());
+        }
+        if ((changedFields & ColonyViewSnapshot.SPAWN_POINTS) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, block);
+            writePositions(buf, current.getLastSpawnPoints());
         }
+        if ((changedFields & ColonyViewSnapshot.TEAM_COLOR) != 0)
+        {
+            buf.writeInt(current.getTeamColor());
+        }
+    }
 
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeBoolean(colony.isManualHousing());
-        //  Citizens are sent as a separate packet
+    /**
+     * Write a list of blocks by their registry names.
+     *
+     * @param buf    the buffer to write to.
+     * @param blocks the blocks.
+     */
+    private static void writeBlocks(@NotNull final ByteBuf buf, @NotNull final Collection<Block> blocks)
+    {
+        buf.writeInt(blocks.size());
+        for (final Block block : blocks)
+        {
+            ByteBufUtils.writeUTF8String(buf, block.getRegistryName().toString());
+        }
+    }
 
-        ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+    /**
+     * Write the added and removed entries of a position set.
+     *
+     * @param buf      the buffer to write to.
+     * @param current  the current positions.
+     * @param previous the positions the receiver knows, null if none.
+     */
+    private static void writePositionDelta(@NotNull final ByteBuf buf, @NotNull final Set<BlockPos> current, @Nullable final Set<BlockPos> previous)
+    {
+        writePositions(buf, ColonyViewSnapshot.difference(current, previous));
+        writePositions(buf, previous == null ? Collections.emptyList() : ColonyViewSnapshot.difference(previous, current));
+    }
 
-        buf.writeInt(colony.getBarbManager().getLastSpawnPoints().size());
-        for (final BlockPos block : colony.getBarbManager().getLastSpawnPoints())
+    /**
+     * Write a list of positions.
+     *
+     * @param buf       the buffer to write to.
+     * @param positions the positions.
+     */
+    private static void writePositions(@NotNull final ByteBuf buf, @NotNull final Collection<BlockPos> positions)
+    {
+        buf.writeInt(positions.size());
+        for (final BlockPos pos : positions)
         {
-            BlockPosUtil.writeToByteBuf(buf, block);
+            BlockPosUtil.writeToByteBuf(buf, pos);
         }
+    }
 
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
+    /**
+     * Read a list of positions.
+     *
+     * @param buf the buffer to read from.
+     * @return the positions.
+     */
+    @NotNull
+    private static List<BlockPos> readPositions(@NotNull final ByteBuf buf)
+    {
+        final int size = buf.readInt();
+        final List<BlockPos> positions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            positions.add(BlockPosUtil.readFromByteBuf(buf));
+        }
+        return positions;
     }
 
     /**
@@ -448,6 +534,7 @@ public final class ColonyView implements IColony
 
     /**
      * Populate a ColonyView from the network data.
+     * The data only contains the changed fields, see {@link #serializeNetworkData(ByteBuf, ColonyViewSnapshot, ColonyViewSnapshot)}.
      *
      * @param buf               {@link ByteBuf} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
@@ -457,13 +544,8 @@ public final class ColonyView implements IColony
     public IMessage handleColonyViewMessage(@NotNull final ByteBuf buf, @NotNull final World world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = ByteBufUtils.readUTF8String(buf);
-        dimensionId = buf.readInt();
-        center = BlockPosUtil.readFromByteBuf(buf);
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        maxCitizens = buf.readInt();
+        final boolean isFullUpdate = buf.readBoolean();
+        final int changedFields = buf.readInt();
 
         if (isNewSubscription)
         {
@@ -472,44 +554,90 @@ public final class ColonyView implements IColony
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
+        if (isFullUpdate)
         {
-            freeBlocks.add(Block.getBlockFromName(ByteBufUtils.readUTF8String(buf)));
+            freePositions.clear();
+            freeBlocks.clear();
+            wayPoints.clear();
         }
 
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
+        //  General Attributes
+        if ((changedFields & ColonyViewSnapshot.NAME) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+        }
+        if ((changedFields & ColonyViewSnapshot.LOCATION) != 0)
+        {
+            dimensionId = buf.readInt();
+            center = BlockPosUtil.readFromByteBuf(buf);
+        }
+        if ((changedFields & ColonyViewSnapshot.MANUAL_HIRING) != 0)
+        {
+            manualHiring = buf.readBoolean();
+        }
+        //  Citizenry
+        if ((changedFields & ColonyViewSnapshot.MAX_CITIZENS) != 0)
         {
-            freePositions.add(BlockPosUtil.readFromByteBuf(buf));
+            maxCitizens = buf.readInt();
         }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
 
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
+        if ((changedFields & ColonyViewSnapshot.FREE_BLOCKS) != 0)
+        {
+            final int addedBlocks = buf.readInt();
+            for (int i = 0; i < addedBlocks; i++)
+            {
+                freeBlocks.add(Block.getBlockFromName(ByteBufUtils.readUTF8String(buf)));
+            }
+            final int removedBlocks = buf.readInt();
+            for (int i = 0; i < removedBlocks; i++)
+            {
+                freeBlocks.remove(Block.getBlockFromName(ByteBufUtils.readUTF8String(buf)));
+            }
+        }
+        if ((changedFields & ColonyViewSnapshot.FREE_POSITIONS) != 0)
+        {
+            freePositions.addAll(readPositions(buf));
+            freePositions.removeAll(readPositions(buf));
+        }
+        if ((changedFields & ColonyViewSnapshot.HAPPINESS) != 0)
+        {
+            this.overallHappiness = buf.readDouble();
+        }
+        if ((changedFields & ColonyViewSnapshot.WAREHOUSE) != 0)
         {
-            wayPoints.add(BlockPosUtil.readFromByteBuf(buf));
+            this.hasColonyWarehouse = buf.readBoolean();
+        }
+        if ((changedFields & ColonyViewSnapshot.WAYPOINTS) != 0)
+        {
+            wayPoints.addAll(readPositions(buf));
+            wayPoints.removeAll(readPositions(buf));
+        }
+        if ((changedFields & ColonyViewSnapshot.LAST_CONTACT) != 0)
+        {
+            this.lastContactInHours = buf.readInt();
+        }
+        if ((changedFields & ColonyViewSnapshot.MANUAL_HOUSING) != 0)
+        {
+            this.manualHousing = buf.readBoolean();
         }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
 
-        this.requestManager = new StandardRequestManager(this);
-        this.requestManager.deserializeNBT(ByteBufUtils.readTag(buf));
+        if ((changedFields & ColonyViewSnapshot.REQUEST_MANAGER) != 0)
+        {
+            this.requestManager = new StandardRequestManager(this);
+            this.requestManager.deserializeNBT(ByteBufUtils.readTag(buf));
+        }
 
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
+        if ((changedFields & ColonyViewSnapshot.SPAWN_POINTS) != 0)
         {
-            lastSpawnPoints.add(BlockPosUtil.readFromByteBuf(buf));
+            lastSpawnPoints.clear();
+            lastSpawnPoints.addAll(readPositions(buf));
+            Collections.reverse(lastSpawnPoints);
         }
-        Collections.reverse(lastSpawnPoints);
 
-        this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+        if ((changedFields & ColonyViewSnapshot.TEAM_COLOR) != 0)
+        {
+            this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+        }
         return null;
     }
 
@@ -0,0 +1,208 @@
+package com.minecolonies.coremod.colony;
+
+import net.minecraft.block.Block;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Immutable copy of the general attributes of a colony which are replicated to the {@link ColonyView}.
+ * The package manager keeps the last snapshot sent to every subscriber, so that an update only has to carry
+ * the fields which changed since then.
+ */
+public final class ColonyViewSnapshot
+{
+    /**
+     * Bitmask flags of the single fields.
+     */
+    public static final int NAME            = 1;
+    public static final int LOCATION        = 1 << 1;
+    public static final int MANUAL_HIRING   = 1 << 2;
+    public static final int MAX_CITIZENS    = 1 << 3;
+    public static final int FREE_BLOCKS     = 1 << 4;
+    public static final int FREE_POSITIONS  = 1 << 5;
+    public static final int HAPPINESS       = 1 << 6;
+    public static final int WAREHOUSE       = 1 << 7;
+    public static final int WAYPOINTS       = 1 << 8;
+    public static final int LAST_CONTACT    = 1 << 9;
+    public static final int MANUAL_HOUSING  = 1 << 10;
+    public static final int REQUEST_MANAGER = 1 << 11;
+    public static final int SPAWN_POINTS    = 1 << 12;
+    public static final int TEAM_COLOR      = 1 << 13;
+
+    /**
+     * All fields, sent to new subscribers.
+     */
+    public static final int ALL_FIELDS = (1 << 14) - 1;
+
+    private final String         name;
+    private final int            dimension;
+    private final BlockPos       center;
+    private final boolean        manualHiring;
+    private final int            maxCitizens;
+    private final Set<Block>     freeBlocks;
+    private final Set<BlockPos>  freePositions;
+    private final double         overallHappiness;
+    private final boolean        hasWarehouse;
+    private final Set<BlockPos>  wayPoints;
+    private final int            lastContactInHours;
+    private final boolean        manualHousing;
+    private final NBTTagCompound requestManager;
+    private final List<BlockPos> lastSpawnPoints;
+    private final int            teamColor;
+
+    /**
+     * Take a snapshot of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyViewSnapshot(@NotNull final Colony colony)
+    {
+        this.name = colony.getName();
+        this.dimension = colony.getDimension();
+        this.center = colony.getCenter();
+        this.manualHiring = colony.isManualHiring();
+        this.maxCitizens = colony.getCitizenManager().getMaxCitizens();
+        this.freeBlocks = new HashSet<>(colony.getFreeBlocks());
+        this.freePositions = new HashSet<>(colony.getFreePositions());
+        this.overallHappiness = colony.getOverallHappiness();
+        this.hasWarehouse = colony.hasWarehouse();
+        this.wayPoints = new HashSet<>(colony.getWayPoints().keySet());
+        this.lastContactInHours = colony.getLastContactInHours();
+        this.manualHousing = colony.isManualHousing();
+        this.requestManager = colony.getRequestManager().serializeNBT();
+        this.lastSpawnPoints = new ArrayList<>(colony.getBarbManager().getLastSpawnPoints());
+        this.teamColor = colony.getTeamColonyColor().ordinal();
+    }
+
+    /**
+     * Calculate which fields differ from an older snapshot.
+     *
+     * @param previous the older snapshot, null if the receiver doesn't know anything yet.
+     * @return the bitmask of the changed fields.
+     */
+    public int getChangedFields(@Nullable final ColonyViewSnapshot previous)
+    {
+        if (previous == null)
+        {
+            return ALL_FIELDS;
+        }
+
+        int mask = 0;
+        mask |= name.equals(previous.name) ? 0 : NAME;
+        mask |= dimension == previous.dimension && center.equals(previous.center) ? 0 : LOCATION;
+        mask |= manualHiring == previous.manualHiring ? 0 : MANUAL_HIRING;
+        mask |= maxCitizens == previous.maxCitizens ? 0 : MAX_CITIZENS;
+        mask |= freeBlocks.equals(previous.freeBlocks) ? 0 : FREE_BLOCKS;
+        mask |= freePositions.equals(previous.freePositions) ? 0 : FREE_POSITIONS;
+        mask |= Double.compare(overallHappiness, previous.overallHappiness) == 0 ? 0 : HAPPINESS;
+        mask |= hasWarehouse == previous.hasWarehouse ? 0 : WAREHOUSE;
+        mask |= wayPoints.equals(previous.wayPoints) ? 0 : WAYPOINTS;
+        mask |= lastContactInHours == previous.lastContactInHours ? 0 : LAST_CONTACT;
+        mask |= manualHousing == previous.manualHousing ? 0 : MANUAL_HOUSING;
+        mask |= requestManager.equals(previous.requestManager) ? 0 : REQUEST_MANAGER;
+        mask |= lastSpawnPoints.equals(previous.lastSpawnPoints) ? 0 : SPAWN_POINTS;
+        mask |= teamColor == previous.teamColor ? 0 : TEAM_COLOR;
+        return mask;
+    }
+
+    /**
+     * Get the elements of a set which are not part of another one.
+     *
+     * @param current  the current set.
+     * @param previous the older set, null if there is none.
+     * @param <T>      the element type.
+     * @return the elements only in the current set.
+     */
+    @NotNull
+    public static <T> List<T> difference(@NotNull final Set<T> current, @Nullable final Set<T> previous)
+    {
+        final List<T> difference = new ArrayList<>();
+        for (final T element : current)
+        {
+            if (previous == null || !previous.contains(element))
+            {
+                difference.add(element);
+            }
+        }
+        return difference;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public int getDimension()
+    {
+        return dimension;
+    }
+
+    public BlockPos getCenter()
+    {
+        return center;
+    }
+
+    public boolean isManualHiring()
+    {
+        return manualHiring;
+    }
+
+    public int getMaxCitizens()
+    {
+        return maxCitizens;
+    }
+
+    public Set<Block> getFreeBlocks()
+    {
+        return Collections.unmodifiableSet(freeBlocks);
+    }
+
+    public Set<BlockPos> getFreePositions()
+    {
+        return Collections.unmodifiableSet(freePositions);
+    }
+
+    public double getOverallHappiness()
+    {
+        return overallHappiness;
+    }
+
+    public boolean hasWarehouse()
+    {
+        return hasWarehouse;
+    }
+
+    public Set<BlockPos> getWayPoints()
+    {
+        return Collections.unmodifiableSet(wayPoints);
+    }
+
+    public int getLastContactInHours()
+    {
+        return lastContactInHours;
+    }
+
+    public boolean isManualHousing()
+    {
+        return manualHousing;
+    }
+
+    public NBTTagCompound getRequestManager()
+    {
+        return requestManager;
+    }
+
+    public List<BlockPos> getLastSpawnPoints()
+    {
+        return Collections.unmodifiableList(lastSpawnPoints);
+    }
+
+    public int getTeamColor()
+    {
+        return teamColor;
+    }
+}
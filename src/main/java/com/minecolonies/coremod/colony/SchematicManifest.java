@@ -0,0 +1,226 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The md5 hashes of the schematics indexed on the last boot, by file, modification time and size.
+ * Lets the indexing skip reading schematics which didn't change since.
+ */
+public final class SchematicManifest
+{
+    /**
+     * Name of the manifest file.
+     */
+    private static final String FILENAME_MANIFEST = "schematics.dat";
+
+    /**
+     * Tag of the list of entries.
+     */
+    private static final String TAG_ENTRIES = "entries";
+
+    /**
+     * Tag of the file of an entry.
+     */
+    private static final String TAG_PATH = "path";
+
+    /**
+     * Tag of the modification time of an entry.
+     */
+    private static final String TAG_MODIFIED = "modified";
+
+    /**
+     * Tag of the size of an entry.
+     */
+    private static final String TAG_SIZE = "size";
+
+    /**
+     * Tag of the md5 hash of an entry.
+     */
+    private static final String TAG_MD5 = "md5";
+
+    /**
+     * The file the manifest is stored in, null if it can't be stored.
+     */
+    @Nullable
+    private final File file;
+
+    /**
+     * The entries by file, filled in parallel by the indexing.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Whether entries have been changed since loading.
+     */
+    private volatile boolean dirty = false;
+
+    /**
+     * Create an empty manifest.
+     *
+     * @param file the file to store it in.
+     */
+    private SchematicManifest(@Nullable final File file)
+    {
+        this.file = file;
+    }
+
+    /**
+     * Load the manifest from a folder, starts empty if there is none or it can't be read.
+     *
+     * @param folder the folder, may be null if there is nothing to store it in.
+     * @return the manifest.
+     */
+    @NotNull
+    public static SchematicManifest load(@Nullable final File folder)
+    {
+        final SchematicManifest manifest = new SchematicManifest(folder == null ? null : new File(folder, FILENAME_MANIFEST));
+        if (manifest.file == null || !manifest.file.exists())
+        {
+            return manifest;
+        }
+
+        try
+        {
+            final NBTTagCompound compound = CompressedStreamTools.read(manifest.file);
+            final NBTTagList entryTagList = compound == null ? new NBTTagList() : compound.getTagList(TAG_ENTRIES, NBT.TAG_COMPOUND);
+            for (int i = 0; i < entryTagList.tagCount(); i++)
+            {
+                final NBTTagCompound entryCompound = entryTagList.getCompoundTagAt(i);
+                manifest.entries.put(entryCompound.getString(TAG_PATH),
+                  new Entry(entryCompound.getLong(TAG_MODIFIED), entryCompound.getLong(TAG_SIZE), entryCompound.getString(TAG_MD5)));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not read the schematic manifest, indexing all schematics.", e);
+        }
+        return manifest;
+    }
+
+    /**
+     * Write the manifest if it changed.
+     */
+    public void save()
+    {
+        if (!dirty || file == null)
+        {
+            return;
+        }
+
+        final NBTTagList entryTagList = new NBTTagList();
+        for (final Map.Entry<String, Entry> entry : entries.entrySet())
+        {
+            final NBTTagCompound entryCompound = new NBTTagCompound();
+            entryCompound.setString(TAG_PATH, entry.getKey());
+            entryCompound.setLong(TAG_MODIFIED, entry.getValue().modified);
+            entryCompound.setLong(TAG_SIZE, entry.getValue().size);
+            entryCompound.setString(TAG_MD5, entry.getValue().md5);
+            entryTagList.appendTag(entryCompound);
+        }
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_ENTRIES, entryTagList);
+
+        try
+        {
+            if (file.getParentFile().exists() || file.getParentFile().mkdirs())
+            {
+                CompressedStreamTools.safeWrite(compound, file);
+                dirty = false;
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not write the schematic manifest.", e);
+        }
+    }
+
+    /**
+     * Get the md5 hash of a schematic if it didn't change since it was indexed.
+     *
+     * @param path     the file of the schematic.
+     * @param modified the modification time of the file.
+     * @param size     the size of the file.
+     * @return the hash or null if it has to be read again.
+     */
+    @Nullable
+    public String getMD5(@NotNull final String path, final long modified, final long size)
+    {
+        final Entry entry = entries.get(path);
+        return entry != null && entry.modified == modified && entry.size == size ? entry.md5 : null;
+    }
+
+    /**
+     * Remember the md5 hash of a schematic.
+     *
+     * @param path     the file of the schematic.
+     * @param modified the modification time of the file.
+     * @param size     the size of the file.
+     * @param md5      the hash.
+     */
+    public void setMD5(@NotNull final String path, final long modified, final long size, @NotNull final String md5)
+    {
+        entries.put(path, new Entry(modified, size, md5));
+        dirty = true;
+    }
+
+    /**
+     * Forget the schematics of a folder which haven't been found anymore.
+     *
+     * @param folder the folder which has been indexed.
+     * @param found  the schematics found in the folder.
+     */
+    public void removeMissing(@NotNull final String folder, @NotNull final Collection<String> found)
+    {
+        if (entries.keySet().removeIf(path -> path.startsWith(folder) && !found.contains(path)))
+        {
+            dirty = true;
+        }
+    }
+
+    /**
+     * A schematic file and its hash.
+     */
+    private static final class Entry
+    {
+        /**
+         * The modification time of the file.
+         */
+        private final long modified;
+
+        /**
+         * The size of the file.
+         */
+        private final long size;
+
+        /**
+         * The md5 hash of the content.
+         */
+        private final String md5;
+
+        /**
+         * Create an entry.
+         *
+         * @param modified the modification time of the file.
+         * @param size     the size of the file.
+         * @param md5      the md5 hash of the content.
+         */
+        private Entry(final long modified, final long size, final String md5)
+        {
+            this.modified = modified;
+            this.size = size;
+            this.md5 = md5;
+        }
+    }
+}
@@ -18,7 +18,9 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.FileSystem;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.minecolonies.api.util.constant.Constants.SECONDS_A_MINUTE;
@@ -91,6 +93,11 @@ public final class Structures
      */
     private static boolean dirty = false;
 
+    /**
+     * How often the schematics have been loaded, lets caches of schematic lookups notice a reload.
+     */
+    private static int loadCount = 0;
+
     /**
      * Wether or not the server allow player Schematics.
      */
@@ -110,6 +117,17 @@ public final class Structures
     public static void init()
     {
         loadStyleMaps();
+        loadCount++;
+    }
+
+    /**
+     * Get how often the schematics have been loaded.
+     *
+     * @return the count, changes whenever the schematics are loaded again.
+     */
+    public static int getLoadCount()
+    {
+        return loadCount;
     }
 
     /**
@@ -120,9 +138,10 @@ public final class Structures
     @SuppressWarnings(EXCEPTION_HANDLERS_SHOULD_PRESERVE_THE_ORIGINAL_EXCEPTIONS)
     private static void loadStyleMaps()
     {
+        final SchematicManifest manifest = SchematicManifest.load(Structure.getCachedSchematicsFolder());
         if (!Configurations.gameplay.ignoreSchematicsFromJar)
         {
-            loadStyleMapsJar();
+            loadStyleMapsJar(manifest);
         }
 
         final File schematicsFolder = MineColonies.proxy.getSchematicsFolder();
@@ -130,7 +149,7 @@ public final class Structures
         {
             Log.getLogger().info("Load additionnal huts or decorations from " + schematicsFolder + SCHEMATICS_SEPARATOR + SCHEMATICS_PREFIX);
             checkDirectory(schematicsFolder.toPath().resolve(SCHEMATICS_PREFIX).toFile());
-            loadSchematicsForPrefix(schematicsFolder.toPath(), SCHEMATICS_PREFIX);
+            loadSchematicsForPrefix(schematicsFolder.toPath(), SCHEMATICS_PREFIX, manifest);
         }
 
         final File cacheSchematicFolder = Structure.getCachedSchematicsFolder();
@@ -139,8 +158,9 @@ public final class Structures
             checkDirectory(cacheSchematicFolder);
             Log.getLogger().info("Load cached schematic from " + cacheSchematicFolder + SCHEMATICS_SEPARATOR + SCHEMATICS_CACHE);
             checkDirectory(cacheSchematicFolder.toPath().resolve(SCHEMATICS_CACHE).toFile());
-            loadSchematicsForPrefix(cacheSchematicFolder.toPath(), SCHEMATICS_CACHE);
+            loadSchematicsForPrefix(cacheSchematicFolder.toPath(), SCHEMATICS_CACHE, manifest);
         }
+        manifest.save();
 
         if (md5Map.size() == 0)
         {
@@ -150,8 +170,10 @@ public final class Structures
 
     /**
      * load the schematics from the jar.
+     *
+     * @param manifest the hashes of the last indexing.
      */
-    private static void loadStyleMapsJar()
+    private static void loadStyleMapsJar(@NotNull final SchematicManifest manifest)
     {
         URI uri = null;
         try
@@ -170,7 +192,7 @@ public final class Structures
             {
                 final Path basePath = fileSystem.getPath(SCHEMATICS_ASSET_PATH);
                 Log.getLogger().info("Load huts or decorations from jar");
-                loadSchematicsForPrefix(basePath, SCHEMATICS_PREFIX);
+                loadSchematicsForPrefix(basePath, SCHEMATICS_PREFIX, manifest);
             }
             catch (@NotNull IOException | FileSystemNotFoundException e1)
             {
@@ -178,7 +200,7 @@ public final class Structures
                 {
                     final Path basePath = fileSystem.getPath(SCHEMATICS_ASSET_PATH);
                     Log.getLogger().info("Load huts or decorations from jar");
-                    loadSchematicsForPrefix(basePath, SCHEMATICS_PREFIX);
+                    loadSchematicsForPrefix(basePath, SCHEMATICS_PREFIX, manifest);
                 }
                 catch (@NotNull final IOException e2)
                 {
@@ -190,7 +212,7 @@ public final class Structures
         {
             final Path basePath = Paths.get(uri);
             Log.getLogger().info("Load huts or decorations from uri");
-            loadSchematicsForPrefix(basePath, SCHEMATICS_PREFIX);
+            loadSchematicsForPrefix(basePath, SCHEMATICS_PREFIX, manifest);
         }
     }
 
@@ -209,7 +231,9 @@ public final class Structures
         schematicsMap.remove(SCHEMATICS_SCAN);
         final File schematicsFolder = Structure.getClientSchematicsFolder();
         checkDirectory(schematicsFolder.toPath().resolve(SCHEMATICS_SCAN).toFile());
-        loadSchematicsForPrefix(schematicsFolder.toPath(), SCHEMATICS_SCAN);
+        final SchematicManifest manifest = SchematicManifest.load(schematicsFolder);
+        loadSchematicsForPrefix(schematicsFolder.toPath(), SCHEMATICS_SCAN, manifest);
+        manifest.save();
     }
 
     /**
@@ -229,63 +253,110 @@ public final class Structures
      * Load all style maps from a certain path.
      * load all the schematics inside the folder path/prefix
      * and add them in the md5Map
+     * The schematics are hashed in parallel, unchanged schematics take their hash from the manifest.
      *
      * @param basePath the base path.
      * @param prefix   either schematics, scans, cache
+     * @param manifest the hashes of the last indexing.
      */
-    private static void loadSchematicsForPrefix(@NotNull final Path basePath, @NotNull final String prefix)
+    private static void loadSchematicsForPrefix(@NotNull final Path basePath, @NotNull final String prefix, @NotNull final SchematicManifest manifest)
     {
-        try (Stream<Path> walk = Files.walk(basePath.resolve(prefix)))
+        final Path folder = basePath.resolve(prefix);
+        final List<Path> paths;
+        try (Stream<Path> walk = Files.walk(folder))
+        {
+            paths = walk.filter(path -> path.toString().endsWith(SCHEMATIC_EXTENSION)).collect(Collectors.toList());
+        }
+        catch (@NotNull final IOException e)
         {
-            final Iterator<Path> it = walk.iterator();
-            while (it.hasNext())
+            Log.getLogger().warn("loadSchematicsForPrefix: Could not load schematics from " + folder, e);
+            return;
+        }
+
+        final List<String> md5s = paths.parallelStream().map(path -> indexSchematic(path, manifest)).collect(Collectors.toList());
+
+        final Set<String> found = new HashSet<>();
+        for (int i = 0; i < paths.size(); i++)
+        {
+            final Path path = paths.get(i);
+            found.add(path.toUri().toString());
+
+            String relativePath = path.toString().substring(basePath.toString().length()).split("\\" + SCHEMATIC_EXTENSION)[0];
+            if (!SCHEMATICS_SEPARATOR.equals(path.getFileSystem().getSeparator()))
             {
-                final Path path = it.next();
-                if (path.toString().endsWith(SCHEMATIC_EXTENSION))
-                {
-                    String relativePath = path.toString().substring(basePath.toString().length()).split("\\" + SCHEMATIC_EXTENSION)[0];
-                    if (!SCHEMATICS_SEPARATOR.equals(path.getFileSystem().getSeparator()))
-                    {
-                        relativePath = relativePath.replace(path.getFileSystem().getSeparator(), SCHEMATICS_SEPARATOR);
-                    }
-                    if (relativePath.startsWith(SCHEMATICS_SEPARATOR))
-                    {
-                        relativePath = relativePath.substring(1);
-                    }
+                relativePath = relativePath.replace(path.getFileSystem().getSeparator(), SCHEMATICS_SEPARATOR);
+            }
+            if (relativePath.startsWith(SCHEMATICS_SEPARATOR))
+            {
+                relativePath = relativePath.substring(1);
+            }
 
-                    final StructureName structureName = new StructureName(relativePath);
-                    final String md5 = Structure.calculateMD5(Structure.getStream(relativePath));
-                    if (md5 == null)
-                    {
-                        Log.getLogger().error("Structures: " + structureName + " with md5 null.");
-                    }
-                    else if (isSchematicSizeValid(structureName.toString()))
-                    {
-                        md5Map.put(structureName.toString(), md5);
-                        if (MineColonies.isClient())
-                        {
-                            addSchematic(structureName);
-                        }
-                    }
+            final StructureName structureName = new StructureName(relativePath);
+            final String md5 = md5s.get(i);
+            if (md5 != null)
+            {
+                md5Map.put(structureName.toString(), md5);
+                if (MineColonies.isClient())
+                {
+                    addSchematic(structureName);
                 }
             }
         }
+        manifest.removeMissing(folder.toUri().toString(), found);
+    }
+
+    /**
+     * Hash and check a schematic file, reads it only if it changed since the last indexing.
+     * Called from the indexing threads, invalid schematics are logged with the reason they are skipped.
+     *
+     * @param path     the schematic file.
+     * @param manifest the hashes of the last indexing.
+     * @return the md5 hash or null if it is invalid.
+     */
+    private static String indexSchematic(@NotNull final Path path, @NotNull final SchematicManifest manifest)
+    {
+        final String key = path.toUri().toString();
+        try
+        {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            final long modified = attributes.lastModifiedTime().toMillis();
+            final String cached = manifest.getMD5(key, modified, attributes.size());
+            if (cached != null)
+            {
+                return cached;
+            }
+
+            final byte[] data = Files.readAllBytes(path);
+            final String md5 = Structure.calculateMD5(data);
+            if (md5 == null)
+            {
+                Log.getLogger().error("Structures: " + path + " with md5 null.");
+                return null;
+            }
+            if (!isSchematicSizeValid(data))
+            {
+                Log.getLogger().warn("Structures: " + path + " could not be compressed to be sent, it has been skipped.");
+                return null;
+            }
+            manifest.setMD5(key, modified, attributes.size(), md5);
+            return md5;
+        }
         catch (@NotNull final IOException e)
         {
-            Log.getLogger().warn("loadSchematicsForPrefix: Could not load schematics from " + basePath.resolve(prefix), e);
+            Log.getLogger().warn("indexSchematic: Could not read " + path, e);
+            return null;
         }
     }
 
     /**
      * check that a schematic is not too big to be sent.
      *
-     * @param structureName name of the structure to check for.
+     * @param data the content of the schematic.
      * @return True when the schematic is not too big.
      */
-    private static boolean isSchematicSizeValid(@NotNull final String structureName)
+    private static boolean isSchematicSizeValid(@NotNull final byte[] data)
     {
         //final int maxSize = MAX_TOTAL_SIZE - Integer.SIZE / Byte.SIZE;
-        final byte[] data = Structure.getStreamAsByteArray(Structure.getStream(structureName));
         final byte[] compressed = Structure.compress(data);
 
         if (compressed == null)
@@ -64,6 +64,11 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
      */
     private int pickUpPriority = 1;
 
+    /**
+     * The aggregated view on the hut and the additional containers.
+     */
+    private final BuildingStorageView storageView = new BuildingStorageView(this);
+
     /**
      * The constructor for the building container.
      * @param pos the position of it.
@@ -84,6 +89,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
             final NBTTagCompound containerCompound = containerTagList.getCompoundTagAt(i);
             containerList.add(NBTUtil.getPosFromTag(containerCompound));
         }
+        storageView.onContainersChanged();
         if (compound.hasKey(TAG_PRIO))
         {
             this.pickUpPriority = compound.getInteger(TAG_PRIO);
@@ -144,6 +150,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
         if (!containerList.contains(pos))
         {
             containerList.add(pos);
+            storageView.onContainersChanged();
         }
     }
 
@@ -154,7 +161,10 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
      */
     public void removeContainerPosition(final BlockPos pos)
     {
-        containerList.remove(pos);
+        if (containerList.remove(pos))
+        {
+            storageView.onContainersChanged();
+        }
     }
 
     /**
@@ -204,6 +214,7 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
      */
     public ItemStack transferStack(@NotNull final ItemStack stack, @NotNull final World world)
     {
+        storageView.onContentChanged();
         if (tileEntity == null || InventoryUtils.isProviderFull(tileEntity))
         {
             final Iterator<BlockPos> posIterator = containerList.iterator();
@@ -235,6 +246,17 @@ public abstract class AbstractBuildingContainer extends AbstractCitizenAssignabl
     public void setTileEntity(final TileEntityColonyBuilding te)
     {
         tileEntity = te;
+        storageView.onContainersChanged();
+    }
+
+    /**
+     * Get the aggregated view on the hut and all additional containers of the building.
+     *
+     * @return the storage view.
+     */
+    public BuildingStorageView getStorageView()
+    {
+        return storageView;
     }
 
     /**
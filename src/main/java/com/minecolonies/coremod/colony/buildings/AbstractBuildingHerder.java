@@ -0,0 +1,42 @@
+package com.minecolonies.coremod.colony.buildings;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.buildings.utils.AnimalCensus;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import static com.minecolonies.api.util.constant.Suppression.OVERRIDE_EQUALS;
+
+/**
+ * Abstract Class for all herder buildings.
+ */
+@SuppressWarnings(OVERRIDE_EQUALS)
+public abstract class AbstractBuildingHerder extends AbstractBuildingWorker
+{
+    /**
+     * The animals and items in the area of the building.
+     */
+    private final AnimalCensus animalCensus = new AnimalCensus();
+
+    /**
+     * Instantiates a new herder building.
+     *
+     * @param c the colony.
+     * @param l the location
+     */
+    public AbstractBuildingHerder(final Colony c, final BlockPos l)
+    {
+        super(c, l);
+    }
+
+    /**
+     * Get the animals and items in the area of the building, update it before reading.
+     *
+     * @return the census.
+     */
+    @NotNull
+    public AnimalCensus getAnimalCensus()
+    {
+        return animalCensus;
+    }
+}
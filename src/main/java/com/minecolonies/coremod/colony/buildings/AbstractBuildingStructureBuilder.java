@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.buildings;
 
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -46,7 +47,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
     /**
      * Contains all resources needed for a certain build.
      */
-    private HashMap<String, BuildingBuilderResource> neededResources = new HashMap<>();
+    private HashMap<ItemStorage, BuildingBuilderResource> neededResources = new HashMap<>();
 
     /**
      * Public constructor of the building, creates an object of the building.
@@ -106,8 +107,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
             final NBTTagCompound neededRes = neededResTagList.getCompoundTagAt(i);
             final ItemStack stack = new ItemStack(neededRes);
             final BuildingBuilderResource resource = new BuildingBuilderResource(stack, ItemStackUtils.getSize(stack));
-            final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-            neededResources.put(stack.getUnlocalizedName() + ":" + stack.getItemDamage() + "-" + hashCode, resource);
+            neededResources.put(new ItemStorage(stack), resource);
         }
     }
 
@@ -201,7 +201,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
                 return;
             }
 
-            for (@NotNull final Map.Entry<String, BuildingBuilderResource> entry : neededResources.entrySet())
+            for (@NotNull final Map.Entry<ItemStorage, BuildingBuilderResource> entry : neededResources.entrySet())
             {
                 final BuildingBuilderResource resource = entry.getValue();
 
@@ -243,11 +243,23 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      *
      * @return a new Hashmap.
      */
-    public Map<String, BuildingBuilderResource> getNeededResources()
+    public Map<ItemStorage, BuildingBuilderResource> getNeededResources()
     {
         return new HashMap<>(neededResources);
     }
 
+    /**
+     * Get the needed resource matching a stack, ignoring its size.
+     *
+     * @param stack the stack.
+     * @return the resource or null if it isn't needed.
+     */
+    @Nullable
+    public BuildingBuilderResource getNeededResource(@NotNull final ItemStack stack)
+    {
+        return neededResources.get(new ItemStorage(stack));
+    }
+
     /**
      * Add a new resource to the needed list.
      *
@@ -260,8 +272,8 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
         {
             return;
         }
-        final int hashCode = res.hasTagCompound() ? res.getTagCompound().hashCode() : 0;
-        BuildingBuilderResource resource = this.neededResources.get(res.getUnlocalizedName() + ":" + res.getItemDamage() + "-" + hashCode);
+        final ItemStorage key = new ItemStorage(res);
+        BuildingBuilderResource resource = this.neededResources.get(key);
         if (resource == null)
         {
             resource = new BuildingBuilderResource(res, amount);
@@ -270,7 +282,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
         {
             resource.setAmount(resource.getAmount() + amount);
         }
-        this.neededResources.put(res.getUnlocalizedName() + ":" + res.getItemDamage() + "-" + hashCode, resource);
+        this.neededResources.put(key, resource);
         this.markDirty();
     }
 
@@ -282,9 +294,8 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      */
     public void reduceNeededResource(final ItemStack res, final int amount)
     {
-        final int hashCode = res.hasTagCompound() ? res.getTagCompound().hashCode() : 0;
         int preAmount = 0;
-        final String name = res.getUnlocalizedName() + ":" + res.getItemDamage() + "-" + hashCode;
+        final ItemStorage name = new ItemStorage(res);
         if (this.neededResources.containsKey(name))
         {
             preAmount = this.neededResources.get(name).getAmount();
@@ -318,8 +329,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      */
     public boolean requiresResourceForBuilding(final ItemStack stack)
     {
-        final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-        return neededResources.containsKey(stack.getUnlocalizedName() + ":" + stack.getItemDamage() + "-" + hashCode);
+        return neededResources.containsKey(new ItemStorage(stack));
     }
 
     /**
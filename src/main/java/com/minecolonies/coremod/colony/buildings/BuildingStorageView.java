@@ -0,0 +1,645 @@
+package com.minecolonies.coremod.colony.buildings;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
+import com.minecolonies.coremod.tileentities.TileEntityRack;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemFood;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.BuildingConstants.STORAGE_VIEW_REFRESH_TICKS;
+
+/**
+ * Aggregated view on the storage of a building: the hut block and all additional containers.
+ * The item handlers of the containers are resolved once and cached until the containers change.
+ * All slots are indexed by the item they hold, with the amount per item and the slots holding food or tools,
+ * the index is updated from the change notifications of the hut and the workers.
+ * Containers which can't notify the building, like vanilla chests, are caught up when a lookup misses,
+ * and every query checks the current stack of the indexed slots.
+ */
+public class BuildingStorageView
+{
+    /**
+     * Filter for the containers the worker AI takes items from, the hut and the chests.
+     */
+    public static final Predicate<TileEntity> CHESTS = container -> container instanceof TileEntityChest;
+
+    /**
+     * Filter accepting all containers.
+     */
+    public static final Predicate<TileEntity> ALL_CONTAINERS = container -> true;
+
+    /**
+     * The building this view belongs to.
+     */
+    private final AbstractBuildingContainer building;
+
+    /**
+     * The resolved containers, the hut first.
+     */
+    private final List<TileEntity> containers = new ArrayList<>();
+
+    /**
+     * The item handlers of the resolved containers.
+     */
+    private final List<IItemHandler> handlers = new ArrayList<>();
+
+    /**
+     * All slots of all containers, in order of the containers.
+     */
+    private final List<StorageSlot> slots = new ArrayList<>();
+
+    /**
+     * The slots holding an item when they were last indexed, by their item.
+     */
+    private final Map<Item, List<StorageSlot>> slotsByItem = new HashMap<>();
+
+    /**
+     * The amount of items in all containers when they were last indexed, by item.
+     */
+    private final Map<Item, Integer> countsByItem = new HashMap<>();
+
+    /**
+     * The slots holding food when they were last indexed.
+     */
+    private final List<StorageSlot> foodSlots = new ArrayList<>();
+
+    /**
+     * The slots holding a tool when they were last indexed, by tool type.
+     */
+    private final Map<IToolType, List<StorageSlot>> toolSlots = new HashMap<>();
+
+    /**
+     * If the containers have to be resolved again.
+     */
+    private boolean containersDirty = true;
+
+    /**
+     * If the content has to be indexed again.
+     */
+    private boolean contentDirty = true;
+
+    /**
+     * The world time the containers were resolved last, they are resolved again after a while.
+     */
+    private long resolvedAt = 0;
+
+    /**
+     * Create the storage view of a building.
+     *
+     * @param building the building.
+     */
+    public BuildingStorageView(@NotNull final AbstractBuildingContainer building)
+    {
+        this.building = building;
+    }
+
+    /**
+     * Called when containers got added or removed or the hut changed.
+     */
+    public void onContainersChanged()
+    {
+        containersDirty = true;
+        contentDirty = true;
+    }
+
+    /**
+     * Called when the content of one of the containers changed, without knowing which slot.
+     */
+    public void onContentChanged()
+    {
+        contentDirty = true;
+    }
+
+    /**
+     * Called when the content of a slot of one of the containers changed.
+     *
+     * @param slot the slot.
+     */
+    public void onSlotChanged(@NotNull final StorageSlot slot)
+    {
+        if (!contentDirty)
+        {
+            reindex(slot);
+        }
+    }
+
+    /**
+     * Check if any of the containers holds a matching stack.
+     *
+     * @param predicate the predicate to match.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Predicate<ItemStack> predicate)
+    {
+        return locate(predicate, ALL_CONTAINERS) != null;
+    }
+
+    /**
+     * Find the first slot in any of the containers holding a matching stack.
+     *
+     * @param predicate the predicate to match.
+     * @return the slot or null if none matches.
+     */
+    @Nullable
+    public StorageSlot locate(@NotNull final Predicate<ItemStack> predicate)
+    {
+        return locate(predicate, ALL_CONTAINERS);
+    }
+
+    /**
+     * Find the first slot holding a matching stack.
+     * Only looks at the slots indexed as holding an item.
+     *
+     * @param predicate       the predicate to match.
+     * @param containerFilter the containers to look in.
+     * @return the slot or null if none matches.
+     */
+    @Nullable
+    public StorageSlot locate(@NotNull final Predicate<ItemStack> predicate, @NotNull final Predicate<TileEntity> containerFilter)
+    {
+        update();
+        StorageSlot slot = locateOccupied(predicate, containerFilter);
+        if (slot == null && reindexChangedSlots())
+        {
+            slot = locateOccupied(predicate, containerFilter);
+        }
+        return slot;
+    }
+
+    /**
+     * Find the first slot holding a stack equal to the given one, ignoring the stack size.
+     * Looks at the slots indexed for the item of the stack,
+     * if none matches the slots changed without notification are indexed again and looked at.
+     *
+     * @param stack           the stack to look for.
+     * @param containerFilter the containers to look in.
+     * @return the slot or null if there is none.
+     */
+    @Nullable
+    public StorageSlot locate(@NotNull final ItemStack stack, @NotNull final Predicate<TileEntity> containerFilter)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return null;
+        }
+
+        update();
+        final Predicate<ItemStack> predicate = current -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, current, true, true);
+        StorageSlot slot = locateIn(slotsByItem.get(stack.getItem()), predicate, containerFilter);
+        if (slot == null && reindexChangedSlots())
+        {
+            slot = locateIn(slotsByItem.get(stack.getItem()), predicate, containerFilter);
+        }
+        return slot;
+    }
+
+    /**
+     * Find the first slot holding food.
+     *
+     * @param containerFilter the containers to look in.
+     * @return the slot or null if there is none.
+     */
+    @Nullable
+    public StorageSlot locateFood(@NotNull final Predicate<TileEntity> containerFilter)
+    {
+        update();
+        StorageSlot slot = locateIn(foodSlots, ItemStackUtils.ISFOOD, containerFilter);
+        if (slot == null && reindexChangedSlots())
+        {
+            slot = locateIn(foodSlots, ItemStackUtils.ISFOOD, containerFilter);
+        }
+        return slot;
+    }
+
+    /**
+     * Find the first slot holding a tool of a type within a level range.
+     *
+     * @param toolType        the tool type.
+     * @param minimalLevel    the minimal tool level.
+     * @param maximumLevel    the maximum tool level.
+     * @param containerFilter the containers to look in.
+     * @return the slot or null if there is none.
+     */
+    @Nullable
+    public StorageSlot locateTool(
+                                   @NotNull final IToolType toolType,
+                                   final int minimalLevel,
+                                   final int maximumLevel,
+                                   @NotNull final Predicate<TileEntity> containerFilter)
+    {
+        update();
+        final Predicate<ItemStack> predicate = stack -> ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel);
+        StorageSlot slot = locateIn(toolSlots.get(toolType), predicate, containerFilter);
+        if (slot == null && reindexChangedSlots())
+        {
+            slot = locateIn(toolSlots.get(toolType), predicate, containerFilter);
+        }
+        return slot;
+    }
+
+    /**
+     * Count the items of a kind in all containers.
+     *
+     * @param item the item.
+     * @return the amount of items.
+     */
+    public int count(@NotNull final Item item)
+    {
+        update();
+        reindexChangedSlots();
+        return countsByItem.getOrDefault(item, 0);
+    }
+
+    /**
+     * Count the items equal to the given stack, ignoring the stack size.
+     *
+     * @param stack the stack to look for.
+     * @return the amount of items.
+     */
+    public int count(@NotNull final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return 0;
+        }
+
+        update();
+        reindexChangedSlots();
+        int count = 0;
+        for (final StorageSlot slot : slotsByItem.getOrDefault(stack.getItem(), Collections.emptyList()))
+        {
+            final ItemStack current = slot.getStack();
+            if (ItemStackUtils.compareItemStacksIgnoreStackSize(stack, current, true, true))
+            {
+                count += current.getCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the first slot indexed as holding an item whose current stack matches.
+     *
+     * @param predicate       the predicate to match.
+     * @param containerFilter the containers to look in.
+     * @return the slot or null if there is none.
+     */
+    @Nullable
+    private StorageSlot locateOccupied(@NotNull final Predicate<ItemStack> predicate, @NotNull final Predicate<TileEntity> containerFilter)
+    {
+        for (final List<StorageSlot> candidates : slotsByItem.values())
+        {
+            final StorageSlot slot = locateIn(candidates, predicate, containerFilter);
+            if (slot != null)
+            {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the first of some indexed slots whose current stack matches.
+     *
+     * @param candidates      the slots to look at, may be null.
+     * @param predicate       the predicate to match.
+     * @param containerFilter the containers to look in.
+     * @return the slot or null if there is none.
+     */
+    @Nullable
+    private static StorageSlot locateIn(
+                                         @Nullable final List<StorageSlot> candidates,
+                                         @NotNull final Predicate<ItemStack> predicate,
+                                         @NotNull final Predicate<TileEntity> containerFilter)
+    {
+        if (candidates == null)
+        {
+            return null;
+        }
+
+        for (final StorageSlot slot : candidates)
+        {
+            final ItemStack stack = slot.getStack();
+            if (!ItemStackUtils.isEmpty(stack) && containerFilter.test(slot.getContainer()) && predicate.test(stack))
+            {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the containers and index the content if necessary.
+     */
+    private void update()
+    {
+        final World world = building.getColony() == null ? null : building.getColony().getWorld();
+        if (world == null)
+        {
+            return;
+        }
+
+        if (containersDirty || world.getTotalWorldTime() - resolvedAt >= STORAGE_VIEW_REFRESH_TICKS || hasInvalidContainer())
+        {
+            resolveContainers(world);
+            resolvedAt = world.getTotalWorldTime();
+        }
+
+        if (contentDirty)
+        {
+            indexContent();
+        }
+    }
+
+    /**
+     * Check if one of the cached containers has been removed from the world.
+     *
+     * @return true if so.
+     */
+    private boolean hasInvalidContainer()
+    {
+        for (final TileEntity container : containers)
+        {
+            if (container.isInvalid())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolve the tile entities and item handlers of the hut and the additional containers.
+     *
+     * @param world the world of the building.
+     */
+    private void resolveContainers(@NotNull final World world)
+    {
+        containers.clear();
+        handlers.clear();
+
+        addContainer(building.getTileEntity());
+        for (final BlockPos pos : building.getAdditionalCountainers())
+        {
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity instanceof TileEntityChest || entity instanceof TileEntityRack)
+            {
+                addContainer(entity);
+            }
+        }
+
+        containersDirty = false;
+        contentDirty = true;
+    }
+
+    /**
+     * Add a container and its item handler to the cache.
+     *
+     * @param entity the container, may be null.
+     */
+    private void addContainer(@Nullable final TileEntity entity)
+    {
+        if (entity == null || containers.contains(entity) || !entity.hasCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null))
+        {
+            return;
+        }
+
+        final IItemHandler handler = entity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+        if (handler != null)
+        {
+            containers.add(entity);
+            handlers.add(handler);
+        }
+    }
+
+    /**
+     * Index all slots of all containers.
+     */
+    private void indexContent()
+    {
+        slots.clear();
+        slotsByItem.clear();
+        countsByItem.clear();
+        foodSlots.clear();
+        toolSlots.clear();
+        for (int i = 0; i < handlers.size(); i++)
+        {
+            final IItemHandler handler = handlers.get(i);
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                final StorageSlot storageSlot = new StorageSlot(containers.get(i), handler, slot);
+                slots.add(storageSlot);
+                reindex(storageSlot);
+            }
+        }
+        contentDirty = false;
+    }
+
+    /**
+     * Index the slots again whose content changed since they were indexed.
+     *
+     * @return true if any slot changed.
+     */
+    private boolean reindexChangedSlots()
+    {
+        boolean changed = false;
+        for (final StorageSlot slot : slots)
+        {
+            changed |= reindex(slot);
+        }
+        return changed;
+    }
+
+    /**
+     * Move a slot to the index entries of the stack it currently holds.
+     *
+     * @param slot the slot.
+     * @return true if the content of the slot changed.
+     */
+    private boolean reindex(@NotNull final StorageSlot slot)
+    {
+        final ItemStack stack = slot.getStack();
+        final Item item = ItemStackUtils.isEmpty(stack) ? null : stack.getItem();
+        final int count = item == null ? 0 : stack.getCount();
+        if (item == slot.indexedItem && count == slot.indexedCount)
+        {
+            return false;
+        }
+
+        if (slot.indexedItem != null)
+        {
+            countsByItem.merge(slot.indexedItem, -slot.indexedCount, (current, delta) -> current + delta == 0 ? null : current + delta);
+        }
+        if (item != null)
+        {
+            countsByItem.merge(item, count, Integer::sum);
+        }
+        slot.indexedCount = count;
+
+        if (item == slot.indexedItem)
+        {
+            return true;
+        }
+
+        if (slot.indexedItem != null)
+        {
+            removeFrom(slotsByItem, slot.indexedItem, slot);
+            if (slot.indexedItem instanceof ItemFood)
+            {
+                foodSlots.remove(slot);
+            }
+            for (final IToolType toolType : slot.indexedToolTypes)
+            {
+                removeFrom(toolSlots, toolType, slot);
+            }
+            slot.indexedToolTypes.clear();
+        }
+        if (item != null)
+        {
+            slotsByItem.computeIfAbsent(item, key -> new ArrayList<>()).add(slot);
+            if (item instanceof ItemFood)
+            {
+                foodSlots.add(slot);
+            }
+            for (final ToolType toolType : ToolType.values())
+            {
+                if (toolType != ToolType.NONE && ItemStackUtils.isTool(stack, toolType))
+                {
+                    toolSlots.computeIfAbsent(toolType, key -> new ArrayList<>()).add(slot);
+                    slot.indexedToolTypes.add(toolType);
+                }
+            }
+        }
+        slot.indexedItem = item;
+        return true;
+    }
+
+    /**
+     * Remove a slot from an index entry, dropping the entry when it gets empty.
+     *
+     * @param index the index.
+     * @param key   the key of the entry.
+     * @param slot  the slot.
+     * @param <K>   the type of the key.
+     */
+    private static <K> void removeFrom(@NotNull final Map<K, List<StorageSlot>> index, @NotNull final K key, @NotNull final StorageSlot slot)
+    {
+        final List<StorageSlot> entry = index.get(key);
+        if (entry != null)
+        {
+            entry.remove(slot);
+            if (entry.isEmpty())
+            {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * A slot of one of the containers of the building.
+     */
+    public static final class StorageSlot
+    {
+        /**
+         * The container.
+         */
+        private final TileEntity container;
+
+        /**
+         * The item handler of the container.
+         */
+        private final IItemHandler handler;
+
+        /**
+         * The slot in the item handler.
+         */
+        private final int slot;
+
+        /**
+         * The item the slot is indexed for, null if it was empty.
+         */
+        @Nullable
+        private Item indexedItem;
+
+        /**
+         * The amount of items the slot held when it was indexed.
+         */
+        private int indexedCount;
+
+        /**
+         * The tool types the slot is indexed for.
+         */
+        private final List<IToolType> indexedToolTypes = new ArrayList<>();
+
+        /**
+         * Create a storage slot.
+         *
+         * @param container the container.
+         * @param handler   the item handler of the container.
+         * @param slot      the slot in the item handler.
+         */
+        private StorageSlot(@NotNull final TileEntity container, @NotNull final IItemHandler handler, final int slot)
+        {
+            this.container = container;
+            this.handler = handler;
+            this.slot = slot;
+        }
+
+        /**
+         * Get the container.
+         *
+         * @return the tile entity.
+         */
+        public TileEntity getContainer()
+        {
+            return container;
+        }
+
+        /**
+         * Get the item handler of the container.
+         *
+         * @return the handler.
+         */
+        public IItemHandler getHandler()
+        {
+            return handler;
+        }
+
+        /**
+         * Get the slot in the item handler.
+         *
+         * @return the slot index.
+         */
+        public int getSlot()
+        {
+            return slot;
+        }
+
+        /**
+         * Get the stack currently in the slot.
+         *
+         * @return the stack.
+         */
+        public ItemStack getStack()
+        {
+            return handler.getStackInSlot(slot);
+        }
+    }
+}
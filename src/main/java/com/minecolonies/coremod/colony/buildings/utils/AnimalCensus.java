@@ -0,0 +1,194 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.coremod.entity.CollectibleTracker;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.passive.EntityAnimal;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The animals and dropped items in the area of a herder building.
+ * The area is only searched once per interval or after a herder changed the population,
+ * the herders read their decisions from the last result.
+ */
+public class AnimalCensus
+{
+    /**
+     * Ticks until the area is searched again.
+     */
+    private static final int CENSUS_INTERVAL = 20;
+
+    /**
+     * The animals of the area by class.
+     */
+    private final Map<Class<? extends EntityAnimal>, List<EntityAnimal>> animals = new HashMap<>();
+
+    /**
+     * The amount of living animals of the area by class, counted during the search.
+     */
+    private final Map<Class<? extends EntityAnimal>, Integer> animalCounts = new HashMap<>();
+
+    /**
+     * The amount of living animals which could breed during the search, by class.
+     */
+    private final Map<Class<? extends EntityAnimal>, Integer> breedableCounts = new HashMap<>();
+
+    /**
+     * The dropped items in the area.
+     */
+    private final List<EntityItem> items = new ArrayList<>();
+
+    /**
+     * The area which has been searched.
+     */
+    private AxisAlignedBB area = null;
+
+    /**
+     * The world time of the last search.
+     */
+    private long lastCensus = 0;
+
+    /**
+     * If the last result is outdated.
+     */
+    private boolean dirty = true;
+
+    /**
+     * Search the area again if the last result is too old, outdated or of another area.
+     *
+     * @param world      the world.
+     * @param targetArea the area of the building.
+     */
+    public void update(@NotNull final World world, @NotNull final AxisAlignedBB targetArea)
+    {
+        final long time = world.getTotalWorldTime();
+        if (!dirty && targetArea.equals(area) && time - lastCensus < CENSUS_INTERVAL && time >= lastCensus)
+        {
+            return;
+        }
+
+        animals.clear();
+        animalCounts.clear();
+        breedableCounts.clear();
+        for (final EntityAnimal animal : world.getEntitiesWithinAABB(EntityAnimal.class, targetArea))
+        {
+            animals.computeIfAbsent(animal.getClass(), animalClass -> new ArrayList<>()).add(animal);
+            if (animal.isEntityAlive())
+            {
+                animalCounts.merge(animal.getClass(), 1, Integer::sum);
+                if (animal.getGrowingAge() == 0)
+                {
+                    breedableCounts.merge(animal.getClass(), 1, Integer::sum);
+                }
+            }
+        }
+        items.clear();
+        items.addAll(CollectibleTracker.getItems(world, targetArea));
+
+        area = targetArea;
+        lastCensus = time;
+        dirty = false;
+    }
+
+    /**
+     * Search the area again on the next update, called when a herder killed, bred or picked up something.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Get the living animals of a class.
+     *
+     * @param animalClass the class of the animals.
+     * @param <T>         the type of the animals.
+     * @return a new list of the animals.
+     */
+    @NotNull
+    public <T extends EntityAnimal> List<T> getAnimals(@NotNull final Class<T> animalClass)
+    {
+        final List<T> result = new ArrayList<>();
+        for (final Map.Entry<Class<? extends EntityAnimal>, List<EntityAnimal>> entry : animals.entrySet())
+        {
+            if (animalClass.isAssignableFrom(entry.getKey()))
+            {
+                for (final EntityAnimal animal : entry.getValue())
+                {
+                    if (animal.isEntityAlive())
+                    {
+                        result.add(animalClass.cast(animal));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the amount of living animals of a class during the last search.
+     *
+     * @param animalClass the class of the animals.
+     * @return the amount.
+     */
+    public int getAnimalCount(@NotNull final Class<? extends EntityAnimal> animalClass)
+    {
+        return getCount(animalCounts, animalClass);
+    }
+
+    /**
+     * Get the amount of living animals of a class which could breed during the last search.
+     *
+     * @param animalClass the class of the animals.
+     * @return the amount.
+     */
+    public int getBreedableCount(@NotNull final Class<? extends EntityAnimal> animalClass)
+    {
+        return getCount(breedableCounts, animalClass);
+    }
+
+    /**
+     * Sum up the counts of a class and its subclasses.
+     *
+     * @param counts      the counts by class.
+     * @param animalClass the class of the animals.
+     * @return the amount.
+     */
+    private static int getCount(@NotNull final Map<Class<? extends EntityAnimal>, Integer> counts, @NotNull final Class<? extends EntityAnimal> animalClass)
+    {
+        int count = 0;
+        for (final Map.Entry<Class<? extends EntityAnimal>, Integer> entry : counts.entrySet())
+        {
+            if (animalClass.isAssignableFrom(entry.getKey()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the dropped items which are still lying around.
+     *
+     * @return a new list of the items.
+     */
+    @NotNull
+    public List<EntityItem> getItems()
+    {
+        final List<EntityItem> result = new ArrayList<>();
+        for (final EntityItem item : items)
+        {
+            if (item.isEntityAlive())
+            {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+}
@@ -5,6 +5,7 @@ import com.minecolonies.coremod.client.gui.WindowHutWorkerPlaceholder;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingHerder;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobChickenHerder;
@@ -14,7 +15,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Creates a new building for the Chicken Herder.
  */
-public class BuildingChickenHerder extends AbstractBuildingWorker
+public class BuildingChickenHerder extends AbstractBuildingHerder
 {
     /**
      * Description of the job executed in the hut.
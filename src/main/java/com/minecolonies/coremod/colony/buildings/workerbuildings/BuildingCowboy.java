@@ -6,6 +6,7 @@ import com.minecolonies.coremod.client.gui.WindowHutCowboy;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingHerder;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobCowboy;
@@ -18,7 +19,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Creates a new building for the Cowboy.
  */
-public class BuildingCowboy extends AbstractBuildingWorker
+public class BuildingCowboy extends AbstractBuildingHerder
 {
     /**
      * Description of the job executed in the hut.
@@ -17,9 +17,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * The fisherman's job class.
  * implements some useful things for him.
@@ -27,25 +24,20 @@ import java.util.List;
 public class JobFisherman extends AbstractJob
 {
     /**
-     * Final strings to save and retrieve the current water location and pond list.
+     * Final string to save and retrieve the current water location.
      */
     private static final String TAG_WATER = "Pond";
-    private static final String TAG_PONDS = "Ponds";
+
+    /**
+     * Tag of the ponds older versions stored per fisherman, they are handed to the pond manager of the colony.
+     */
+    private static final String TAG_LEGACY_PONDS = "Ponds";
 
     /**
      * The water the fisherman is currently fishing at
      * Contains the location of the water so that the fisherman can path to the fishing spot.
      */
     private BlockPos water;
-    /**
-     * Contains all possible fishing spots.
-     * This list is filled during the execution of the fisherman.
-     * The fisherman will go from spot to spot and always store the location in this list.
-     * After the fisherman has visited an fixed amount of ponds the fisherman will choose a random pond
-     * from this list as the next fishing spot.
-     */
-    @NotNull
-    private ArrayList<BlockPos> ponds = new ArrayList<>();
 
     /**
      * Initializes the job class.
@@ -72,11 +64,13 @@ public class JobFisherman extends AbstractJob
             water = BlockPosUtil.readFromNBT(compound, TAG_WATER);
         }
 
-        ponds = new ArrayList<>();
-        final NBTTagList listOfPonds = compound.getTagList(TAG_PONDS, Constants.NBT.TAG_COMPOUND);
-        for (int i = 0; i < listOfPonds.tagCount(); i++)
+        if (compound.hasKey(TAG_LEGACY_PONDS) && getColony() != null)
         {
-            ponds.add(BlockPosUtil.readFromNBTTagList(listOfPonds, i));
+            final NBTTagList listOfPonds = compound.getTagList(TAG_LEGACY_PONDS, Constants.NBT.TAG_COMPOUND);
+            for (int i = 0; i < listOfPonds.tagCount(); i++)
+            {
+                getColony().getPondManager().registerPond(BlockPosUtil.readFromNBTTagList(listOfPonds, i));
+            }
         }
     }
 
@@ -119,13 +113,6 @@ public class JobFisherman extends AbstractJob
         {
             BlockPosUtil.writeToNBT(waterTag, TAG_WATER, water);
         }
-
-        @NotNull final NBTTagList lakes = new NBTTagList();
-        for (@NotNull final BlockPos pond : ponds)
-        {
-            BlockPosUtil.writeToNBTTagList(lakes, pond);
-        }
-        compound.setTag(TAG_PONDS, lakes);
     }
 
     /**
@@ -199,36 +186,4 @@ public class JobFisherman extends AbstractJob
     {
         this.water = water;
     }
-
-    /**
-     * Returns a safe copy of all current ponds.
-     *
-     * @return a list of coordinates.
-     */
-    @NotNull
-    public List<BlockPos> getPonds()
-    {
-        return new ArrayList<>(ponds);
-    }
-
-    /**
-     * Add one pond to our list of ponds.
-     *
-     * @param pond the pond to add.
-     */
-    public void addToPonds(final BlockPos pond)
-    {
-        this.ponds.add(pond);
-    }
-
-    /**
-     * remove one pond from the ponds list.
-     *
-     * @param pond the coordinates matching one pond.
-     */
-    public void removeFromPonds(final BlockPos pond)
-    {
-        this.ponds.remove(pond);
-    }
 }
-
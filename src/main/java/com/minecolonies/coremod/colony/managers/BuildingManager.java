@@ -15,6 +15,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.network.messages.ColonyViewBuildingViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveBuildingMessage;
+import com.minecolonies.coremod.tileentities.FieldStateMap;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -22,6 +23,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -45,6 +47,11 @@ public class BuildingManager implements IBuildingManager
      */
     private final List<BlockPos> fields = new ArrayList<>();
 
+    /**
+     * The fields of the colony by the chunks their area lies in, as long.
+     */
+    private final Map<Long, List<BlockPos>> fieldsByChunk = new HashMap<>();
+
     /**
      * The warehouse building position. Initially null.
      */
@@ -255,6 +262,27 @@ public class BuildingManager implements IBuildingManager
         return Collections.unmodifiableList(fields);
     }
 
+    @NotNull
+    @Override
+    public List<BlockPos> getFieldsCovering(@NotNull final BlockPos pos)
+    {
+        final List<BlockPos> candidates = fieldsByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (candidates == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<BlockPos> covering = new ArrayList<>();
+        for (final BlockPos field : candidates)
+        {
+            if (FieldStateMap.covers(field, pos))
+            {
+                covering.add(field);
+            }
+        }
+        return covering;
+    }
+
     @Override
     public ScarecrowTileEntity getFreeField(final int owner, final World world)
     {
@@ -376,7 +404,21 @@ public class BuildingManager implements IBuildingManager
     public void removeField(final BlockPos pos)
     {
         this.markFieldsDirty();
-        fields.remove(pos);
+        if (fields.remove(pos))
+        {
+            for (final long chunk : FieldStateMap.getCoveredChunks(pos))
+            {
+                final List<BlockPos> chunkFields = fieldsByChunk.get(chunk);
+                if (chunkFields != null)
+                {
+                    chunkFields.remove(pos);
+                    if (chunkFields.isEmpty())
+                    {
+                        fieldsByChunk.remove(chunk);
+                    }
+                }
+            }
+        }
         colony.markDirty();
     }
 
@@ -495,6 +537,10 @@ public class BuildingManager implements IBuildingManager
         if(!fields.contains(pos))
         {
             fields.add(pos);
+            for (final long chunk : FieldStateMap.getCoveredChunks(pos))
+            {
+                fieldsByChunk.computeIfAbsent(chunk, key -> new ArrayList<>()).add(pos);
+            }
         }
         colony.markDirty();
     }
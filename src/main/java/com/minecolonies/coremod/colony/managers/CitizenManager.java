@@ -3,7 +3,6 @@ package com.minecolonies.coremod.colony.managers;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.LanguageHandler;
-import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.CitizenData;
@@ -14,6 +13,7 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBarracksTower;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
+import com.minecolonies.coremod.entity.CitizenEntityRegistry;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.network.messages.ColonyViewCitizenViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveCitizenMessage;
@@ -65,6 +65,18 @@ public class CitizenManager implements ICitizenManager
      */
     private final Colony colony;
 
+    /**
+     * Players which have a citizen window of the colony open, with the world time their interest expires.
+     */
+    @NotNull
+    private final Map<UUID, Long> windowInterest = new HashMap<>();
+
+    /**
+     * Citizen updates which were deferred per subscriber, they are sent at the low update rate.
+     */
+    @NotNull
+    private final Map<UUID, Set<Integer>> pendingCitizenUpdates = new HashMap<>();
+
     /**
      * Datas about the happiness of a colony
      */
@@ -113,32 +125,43 @@ public class CitizenManager implements ICitizenManager
       final boolean hasNewSubscribers,
       @NotNull final Set<EntityPlayerMP> subscribers)
     {
+        final long worldTime = colony.getWorld().getTotalWorldTime();
+        windowInterest.values().removeIf(expiry -> expiry < worldTime);
+        if (!pendingCitizenUpdates.isEmpty() && (hasNewSubscribers || !subscribers.equals(oldSubscribers)))
+        {
+            final Set<UUID> subscriberIds = new HashSet<>();
+            for (final EntityPlayerMP player : subscribers)
+            {
+                subscriberIds.add(player.getUniqueID());
+            }
+            pendingCitizenUpdates.keySet().retainAll(subscriberIds);
+        }
+
         if (isCitizensDirty || hasNewSubscribers)
         {
             for (@NotNull final CitizenData citizen : citizens.values())
             {
                 if (citizen.getCitizenEntity().isPresent())
                 {
-                    final List<EntityCitizen> list = colony.getWorld()
-                            .getEntities(EntityCitizen.class,
-                                    entityCitizen -> entityCitizen.getCitizenColonyHandler().getColony().getID() == colony.getID() && entityCitizen.getCitizenData().getId() == citizen.getId());
-
-                    if (!list.isEmpty() && citizen.getCitizenEntity().get().getEntityId() != list.get(0).getEntityId())
-                    {
-                        citizen.setCitizenEntity(list.get(0));
-                    }
-
-                    for (int i = 1; i < list.size(); i++)
+                    final Optional<EntityCitizen> entity = CitizenEntityRegistry.getEntity(colony.getID(), citizen.getId());
+                    if (entity.isPresent() && citizen.getCitizenEntity().get().getEntityId() != entity.get().getEntityId())
                     {
-                        Log.getLogger().warn("Removing duplicate entity now!");
-                        colony.getWorld().removeEntity(list.get(i));
+                        citizen.setCitizenEntity(entity.get());
                     }
 
                     if (citizen.isDirty() || hasNewSubscribers)
                     {
-                        subscribers.stream()
-                          .filter(player -> citizen.isDirty() || !oldSubscribers.contains(player))
-                          .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        for (final EntityPlayerMP player : subscribers)
+                        {
+                            if (!oldSubscribers.contains(player) || (citizen.isDirty() && isHighInterest(player, citizen, worldTime)))
+                            {
+                                sendCitizen(player, citizen);
+                            }
+                            else if (citizen.isDirty())
+                            {
+                                pendingCitizenUpdates.computeIfAbsent(player.getUniqueID(), uuid -> new HashSet<>()).add(citizen.getId());
+                            }
+                        }
                     }
                 }
             }
@@ -147,6 +170,84 @@ public class CitizenManager implements ICitizenManager
               .filter(player -> !oldSubscribers.contains(player))
               .forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
         }
+
+        if (worldTime % Math.max(1, Configurations.gameplay.citizenViewLowRateInterval) == 0)
+        {
+            subscribers.forEach(this::sendPendingCitizens);
+        }
+    }
+
+    @Override
+    public void onCitizenViewRefresh(@NotNull final EntityPlayerMP player)
+    {
+        if (!colony.getPackageManager().getSubscribers().contains(player))
+        {
+            return;
+        }
+
+        windowInterest.put(player.getUniqueID(), colony.getWorld().getTotalWorldTime() + WINDOW_INTEREST_TICKS);
+        sendPendingCitizens(player);
+    }
+
+    /**
+     * Check if a player should receive the updates of a citizen right away.
+     * This is the case if the player has a citizen window of the colony open or is close to the citizen.
+     *
+     * @param player    the subscriber.
+     * @param citizen   the citizen.
+     * @param worldTime the current world time.
+     * @return true if the update should be sent right away.
+     */
+    private boolean isHighInterest(@NotNull final EntityPlayerMP player, @NotNull final CitizenData citizen, final long worldTime)
+    {
+        final Long interestExpiry = windowInterest.get(player.getUniqueID());
+        if (interestExpiry != null && interestExpiry >= worldTime)
+        {
+            return true;
+        }
+
+        final Optional<EntityCitizen> entity = citizen.getCitizenEntity();
+        final int range = Configurations.gameplay.citizenViewUpdateRange;
+        return entity.isPresent() && entity.get().world == player.world && entity.get().getDistanceSq(player) < range * range;
+    }
+
+    /**
+     * Send all deferred citizen updates to a player.
+     *
+     * @param player the subscriber.
+     */
+    private void sendPendingCitizens(@NotNull final EntityPlayerMP player)
+    {
+        final Set<Integer> pending = pendingCitizenUpdates.remove(player.getUniqueID());
+        if (pending == null)
+        {
+            return;
+        }
+
+        for (final int citizenId : pending)
+        {
+            final CitizenData citizen = citizens.get(citizenId);
+            if (citizen != null)
+            {
+                MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player);
+            }
+        }
+    }
+
+    /**
+     * Send a citizen to a player right away.
+     *
+     * @param player  the subscriber.
+     * @param citizen the citizen.
+     */
+    private void sendCitizen(@NotNull final EntityPlayerMP player, @NotNull final CitizenData citizen)
+    {
+        final Set<Integer> pending = pendingCitizenUpdates.get(player.getUniqueID());
+        if (pending != null)
+        {
+            pending.remove(citizen.getId());
+        }
+        MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player);
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.managers;
 import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyViewSnapshot;
 import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
@@ -18,8 +19,7 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE;
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_SUBSCRIBER_UPDATE;
@@ -44,6 +44,12 @@ public class ColonyPackageManager implements IColonyPackageManager
     @NotNull
     private Set<EntityPlayerMP> subscribers   = new HashSet<>();
 
+    /**
+     * The colony view state last sent to each subscriber.
+     */
+    @NotNull
+    private final Map<UUID, ColonyViewSnapshot> lastSentViews = new HashMap<>();
+
     /**
      * Variables taking care of updating the views.
      */
@@ -193,8 +199,18 @@ public class ColonyPackageManager implements IColonyPackageManager
         colony.getPermissions().clearDirty();
         colony.getBuildingManager().clearDirty();
         colony.getCitizenManager().clearDirty();
+        final boolean subscribersChanged = !subscribers.equals(oldSubscribers);
         oldSubscribers = new HashSet<>(subscribers);
         subscribers = new HashSet<>();
+        if (subscribersChanged && !lastSentViews.isEmpty())
+        {
+            final Set<UUID> subscriberIds = new HashSet<>();
+            for (final EntityPlayerMP player : oldSubscribers)
+            {
+                subscriberIds.add(player.getUniqueID());
+            }
+            lastSentViews.keySet().retainAll(subscriberIds);
+        }
     }
 
     @Override
@@ -202,12 +218,18 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if (isDirty || hasNewSubscribers)
         {
+            final ColonyViewSnapshot current = new ColonyViewSnapshot(colony);
             for (final EntityPlayerMP player : subscribers)
             {
                 final boolean isNewSubscriber = !oldSubscribers.contains(player);
                 if (isDirty || isNewSubscriber)
                 {
-                    MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, isNewSubscriber), player);
+                    final ColonyViewSnapshot lastSent = isNewSubscriber ? null : lastSentViews.get(player.getUniqueID());
+                    if (lastSent == null || current.getChangedFields(lastSent) != 0)
+                    {
+                        MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, isNewSubscriber, current, lastSent), player);
+                        lastSentViews.put(player.getUniqueID(), current);
+                    }
                 }
             }
         }
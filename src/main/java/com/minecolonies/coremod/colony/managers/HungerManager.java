@@ -0,0 +1,187 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.jobs.JobCook;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.ColonyConstants.HUNGER_CLAIM_TICKS;
+
+/**
+ * Keeps track of the starving citizens of a colony, so that the cooks don't have to search them.
+ * Citizens are queued when their saturation drops to zero and removed as soon as they ate something,
+ * cooks claim the closest citizen so that several cooks don't serve the same one.
+ */
+public class HungerManager implements IHungerManager
+{
+    /**
+     * Citizen id of entries which aren't claimed.
+     */
+    private static final int NOT_CLAIMED = 0;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The starving citizens by id, in the order they started starving.
+     */
+    private final Map<Integer, HungryCitizen> hungryCitizens = new LinkedHashMap<>();
+
+    /**
+     * Creates the HungerManager for a colony.
+     * @param colony the colony.
+     */
+    public HungerManager(final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public void onSaturationChanged(@NotNull final CitizenData citizen)
+    {
+        if (citizen.getSaturation() <= 0)
+        {
+            hungryCitizens.putIfAbsent(citizen.getId(), new HungryCitizen());
+        }
+        else
+        {
+            hungryCitizens.remove(citizen.getId());
+        }
+    }
+
+    @Override
+    public boolean hasHungryCitizen(@NotNull final AxisAlignedBB area, final int cookId)
+    {
+        final long time = getTime();
+        final Iterator<Map.Entry<Integer, HungryCitizen>> iterator = hungryCitizens.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<Integer, HungryCitizen> entry = iterator.next();
+            final EntityCitizen citizen = getHungryEntity(entry.getKey(), iterator);
+            if (citizen != null && !entry.getValue().isClaimedByOther(cookId, time) && area.intersects(citizen.getEntityBoundingBox()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public EntityCitizen claimHungryCitizen(@NotNull final AxisAlignedBB area, @NotNull final BlockPos from, final int cookId)
+    {
+        final long time = getTime();
+        EntityCitizen closest = null;
+        HungryCitizen closestEntry = null;
+        double closestDistance = Double.MAX_VALUE;
+
+        final Iterator<Map.Entry<Integer, HungryCitizen>> iterator = hungryCitizens.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<Integer, HungryCitizen> entry = iterator.next();
+            final EntityCitizen citizen = getHungryEntity(entry.getKey(), iterator);
+            if (citizen == null || entry.getValue().isClaimedByOther(cookId, time) || !area.intersects(citizen.getEntityBoundingBox()))
+            {
+                continue;
+            }
+
+            final double distance = citizen.getDistanceSq(from);
+            if (distance < closestDistance)
+            {
+                closest = citizen;
+                closestEntry = entry.getValue();
+                closestDistance = distance;
+            }
+        }
+
+        if (closestEntry != null)
+        {
+            closestEntry.claimedBy = cookId;
+            closestEntry.claimedUntil = time + HUNGER_CLAIM_TICKS;
+        }
+        return closest;
+    }
+
+    @Override
+    public void releaseHungryCitizen(final int citizenId, final int cookId)
+    {
+        final HungryCitizen entry = hungryCitizens.get(citizenId);
+        if (entry != null && entry.claimedBy == cookId)
+        {
+            entry.claimedBy = NOT_CLAIMED;
+        }
+    }
+
+    /**
+     * Get the loaded entity of a queued citizen which can be served, drops citizens which are gone or not starving anymore.
+     * @param citizenId the id of the citizen.
+     * @param iterator the iterator over the queue, positioned at the citizen.
+     * @return the entity or null if it can't be served right now.
+     */
+    @Nullable
+    private EntityCitizen getHungryEntity(final int citizenId, @NotNull final Iterator<Map.Entry<Integer, HungryCitizen>> iterator)
+    {
+        final CitizenData data = colony.getCitizenManager().getCitizen(citizenId);
+        if (data == null || data.getSaturation() > 0)
+        {
+            iterator.remove();
+            return null;
+        }
+
+        if (data.getJob() instanceof JobCook)
+        {
+            return null;
+        }
+
+        final EntityCitizen citizen = data.getCitizenEntity().orElse(null);
+        return citizen == null || citizen.isDead ? null : citizen;
+    }
+
+    /**
+     * Get the current world time of the colony.
+     * @return the time or 0 if the world isn't loaded.
+     */
+    private long getTime()
+    {
+        final World world = colony.getWorld();
+        return world == null ? 0 : world.getTotalWorldTime();
+    }
+
+    /**
+     * A starving citizen in the queue.
+     */
+    private static final class HungryCitizen
+    {
+        /**
+         * The id of the cook which claimed the citizen.
+         */
+        private int claimedBy = NOT_CLAIMED;
+
+        /**
+         * The world time the claim ends.
+         */
+        private long claimedUntil = 0;
+
+        /**
+         * Check if the citizen is claimed by another cook.
+         * @param cookId the id of the asking cook.
+         * @param time the current world time.
+         * @return true if so.
+         */
+        private boolean isClaimedByOther(final int cookId, final long time)
+        {
+            return claimedBy != NOT_CLAIMED && claimedBy != cookId && claimedUntil > time;
+        }
+    }
+}
@@ -120,6 +120,15 @@ public interface IBuildingManager
     @NotNull
     List<BlockPos> getFields();
 
+    /**
+     * Get the fields whose area covers a block.
+     *
+     * @param pos the position of the block.
+     * @return the positions of the scarecrows of those fields.
+     */
+    @NotNull
+    List<BlockPos> getFieldsCovering(@NotNull final BlockPos pos);
+
     /**
      * Creates a field from a tile entity and adds it to the colony.
      *
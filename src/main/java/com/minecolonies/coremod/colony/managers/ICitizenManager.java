@@ -37,6 +37,14 @@ public interface ICitizenManager
             final boolean hasNewSubscribers,
             @NotNull final Set<EntityPlayerMP> subscribers);
 
+    /**
+     * Called when a player opened a citizen related window of the colony.
+     * Sends all deferred citizen updates to the player and keeps sending updates right away while the window is open.
+     *
+     * @param player the player.
+     */
+    void onCitizenViewRefresh(@NotNull final EntityPlayerMP player);
+
     /**
      * Spawn a brand new Citizen.
      */
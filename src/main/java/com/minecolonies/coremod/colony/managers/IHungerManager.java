@@ -0,0 +1,45 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface of the hunger manager which keeps track of the starving citizens of a colony for the cooks.
+ */
+public interface IHungerManager
+{
+    /**
+     * Update the queue after the saturation of a citizen changed.
+     * @param citizen the citizen.
+     */
+    void onSaturationChanged(@NotNull final CitizenData citizen);
+
+    /**
+     * Check if there is a starving citizen in an area which isn't claimed by another cook.
+     * @param area the area.
+     * @param cookId the citizen id of the cook.
+     * @return true if so.
+     */
+    boolean hasHungryCitizen(@NotNull final AxisAlignedBB area, final int cookId);
+
+    /**
+     * Claim the starving citizen closest to a position which isn't claimed by another cook.
+     * @param area the area the citizen has to be in.
+     * @param from the position of the cook.
+     * @param cookId the citizen id of the cook.
+     * @return the entity of the citizen or null if there is none.
+     */
+    @Nullable
+    EntityCitizen claimHungryCitizen(@NotNull final AxisAlignedBB area, @NotNull final BlockPos from, final int cookId);
+
+    /**
+     * Release the claim of a cook on a citizen, for example when it couldn't be served.
+     * @param citizenId the id of the citizen.
+     * @param cookId the citizen id of the cook.
+     */
+    void releaseHungryCitizen(final int citizenId, final int cookId);
+}
@@ -0,0 +1,61 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.PondIndex;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface of the pond manager which keeps track of the fishing spots of a colony for the fishermen.
+ */
+public interface IPondManager
+{
+    /**
+     * Reads the known fishing spots from nbt.
+     * @param compound the compound.
+     */
+    void readFromNBT(@NotNull final NBTTagCompound compound);
+
+    /**
+     * Write the known fishing spots to nbt.
+     * @param compound the compound.
+     */
+    void writeToNBT(@NotNull final NBTTagCompound compound);
+
+    /**
+     * Remember a fishing spot a fisherman found.
+     * @param pos the water position of the spot.
+     */
+    void registerPond(@NotNull final BlockPos pos);
+
+    /**
+     * Forget a fishing spot, called when fishing there failed.
+     * @param pos the water position of the spot.
+     */
+    void removePond(@NotNull final BlockPos pos);
+
+    /**
+     * Reserve the least used fishing spot around a position which is still valid, the closest one of those.
+     * @param from the position to search around.
+     * @param range the maximum distance of the spot.
+     * @param citizenId the id of the fisherman.
+     * @return the water position of the spot or null if there is none.
+     */
+    @Nullable
+    BlockPos reservePond(@NotNull final BlockPos from, final int range, final int citizenId);
+
+    /**
+     * Release the fishing spot reserved by a fisherman.
+     * @param pos the water position of the spot.
+     * @param citizenId the id of the fisherman.
+     */
+    void releasePond(@NotNull final BlockPos pos, final int citizenId);
+
+    /**
+     * Get a copy of the known fishing spots for a search for new ones.
+     * @return the copied index.
+     */
+    @NotNull
+    PondIndex copyPondIndex();
+}
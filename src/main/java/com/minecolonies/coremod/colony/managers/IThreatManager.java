@@ -0,0 +1,37 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Interface of the threat manager which keeps track of possible targets of the guards of a colony.
+ */
+public interface IThreatManager
+{
+    /**
+     * Get the barbarians which attacked a citizen of the colony.
+     * @return the list of barbarians.
+     */
+    List<EntityLivingBase> getRevengeTargets();
+
+    /**
+     * Get the possible targets of a certain type in an area.
+     * @param area the area to search in.
+     * @param type the type of the targets.
+     * @return the list of targets.
+     */
+    List<EntityLivingBase> getThreats(@NotNull final AxisAlignedBB area, @NotNull final Class<? extends Entity> type);
+
+    /**
+     * Check if a guard can see a target.
+     * @param guard the guard.
+     * @param target the target.
+     * @return true if so.
+     */
+    boolean canSee(@NotNull final EntityCitizen guard, @NotNull final EntityLivingBase target);
+}
@@ -0,0 +1,89 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Interface of the tree manager which keeps track of the trees in a colony for the lumberjacks.
+ */
+public interface ITreeManager
+{
+    /**
+     * Reads the known trees from nbt.
+     * @param compound the compound.
+     */
+    void readFromNBT(@NotNull final NBTTagCompound compound);
+
+    /**
+     * Write the known trees to nbt.
+     * @param compound the compound.
+     */
+    void writeToNBT(@NotNull final NBTTagCompound compound);
+
+    /**
+     * Tick the tree manager, scans the chunks of the colony for trees one after another.
+     * @param event the world tick event.
+     */
+    void onWorldTick(@NotNull final TickEvent.WorldTickEvent event);
+
+    /**
+     * Mark a chunk to be scanned again soon, called when blocks of a tree changed.
+     * @param pos a position in the chunk.
+     */
+    void markChunkDirty(@NotNull final BlockPos pos);
+
+    /**
+     * Check and remember the tree a log belongs to.
+     * @param world the world.
+     * @param log a log of the tree.
+     * @return the bottom log of the tree or null if it isn't a tree.
+     */
+    @Nullable
+    BlockPos registerTree(@NotNull final World world, @NotNull final BlockPos log);
+
+    /**
+     * Forget a tree, called when it got cut.
+     * @param pos the bottom log of the tree.
+     */
+    void removeTree(@NotNull final BlockPos pos);
+
+    /**
+     * Reserve the closest tree a lumberjack is supposed to cut.
+     * @param world the world.
+     * @param from the position to search from.
+     * @param range the maximum distance of the tree.
+     * @param treesToCut the trees the lumberjack is supposed to cut.
+     * @param citizenId the id of the lumberjack.
+     * @return the bottom log of the tree or null if there is none.
+     */
+    @Nullable
+    BlockPos reserveNearestTree(
+      @NotNull final World world,
+      @NotNull final BlockPos from,
+      final int range,
+      @NotNull final Map<ItemStorage, Boolean> treesToCut,
+      final int citizenId);
+
+    /**
+     * Reserve a tree or renew the reservation.
+     * @param pos the bottom log of the tree.
+     * @param citizenId the id of the lumberjack.
+     * @return false if the tree is reserved by another lumberjack.
+     */
+    boolean reserveTree(@NotNull final BlockPos pos, final int citizenId);
+
+    /**
+     * Get the trees reserved by other lumberjacks.
+     * @param citizenId the id of the asking lumberjack.
+     * @return a copy of the bottom logs of the trees.
+     */
+    Set<BlockPos> getTreesReservedByOthers(final int citizenId);
+}
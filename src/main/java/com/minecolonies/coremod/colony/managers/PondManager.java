@@ -0,0 +1,198 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.Pond;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.PondIndex;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.ColonyConstants.POND_RESERVATION_TICKS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_PONDS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_POS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_USES;
+
+/**
+ * Keeps track of the fishing spots found by the fishermen of a colony, so that they can be shared.
+ * The fishermen reserve the spot they are fishing at and prefer the spots which have been used the least.
+ */
+public class PondManager implements IPondManager
+{
+    /**
+     * Citizen id of spots which aren't reserved.
+     */
+    private static final int NOT_RESERVED = 0;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The known spots by their water position.
+     */
+    private final Map<BlockPos, FishingSpot> spots = new HashMap<>();
+
+    /**
+     * The known spots by grid cell.
+     */
+    private final PondIndex index = new PondIndex();
+
+    /**
+     * Creates the PondManager for a colony.
+     * @param colony the colony.
+     */
+    public PondManager(final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public void readFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        for (final BlockPos pos : spots.keySet())
+        {
+            index.remove(pos);
+        }
+        spots.clear();
+        final NBTTagList pondTagList = compound.getTagList(TAG_PONDS, NBT.TAG_COMPOUND);
+        for (int i = 0; i < pondTagList.tagCount(); ++i)
+        {
+            final NBTTagCompound pondCompound = pondTagList.getCompoundTagAt(i);
+            final BlockPos pos = BlockPosUtil.readFromNBT(pondCompound, TAG_POS);
+            registerPond(pos);
+            spots.get(pos).uses = pondCompound.getInteger(TAG_USES);
+        }
+    }
+
+    @Override
+    public void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        final NBTTagList pondTagList = new NBTTagList();
+        for (final Map.Entry<BlockPos, FishingSpot> entry : spots.entrySet())
+        {
+            final NBTTagCompound pondCompound = new NBTTagCompound();
+            BlockPosUtil.writeToNBT(pondCompound, TAG_POS, entry.getKey());
+            pondCompound.setInteger(TAG_USES, entry.getValue().uses);
+            pondTagList.appendTag(pondCompound);
+        }
+        compound.setTag(TAG_PONDS, pondTagList);
+    }
+
+    @Override
+    public void registerPond(@NotNull final BlockPos pos)
+    {
+        if (index.add(pos))
+        {
+            spots.put(pos, new FishingSpot());
+        }
+    }
+
+    @Override
+    public void removePond(@NotNull final BlockPos pos)
+    {
+        index.remove(pos);
+        spots.remove(pos);
+    }
+
+    @Nullable
+    @Override
+    public BlockPos reservePond(@NotNull final BlockPos from, final int range, final int citizenId)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return null;
+        }
+
+        final long time = world.getTotalWorldTime();
+        final double maxDistance = (double) range * range;
+        BlockPos best = null;
+        FishingSpot bestSpot = null;
+        for (final BlockPos pos : index.getWithin(from, range))
+        {
+            final FishingSpot spot = spots.get(pos);
+            final double distance = pos.distanceSq(from);
+            if (spot.isReservedByOther(citizenId, time) || distance > maxDistance || !world.isBlockLoaded(pos))
+            {
+                continue;
+            }
+
+            if (bestSpot == null || spot.uses < bestSpot.uses || (spot.uses == bestSpot.uses && distance < best.distanceSq(from)))
+            {
+                if (Pond.createWater(world, pos) == null)
+                {
+                    removePond(pos);
+                    continue;
+                }
+                best = pos;
+                bestSpot = spot;
+            }
+        }
+
+        if (bestSpot != null)
+        {
+            bestSpot.uses++;
+            bestSpot.reservedBy = citizenId;
+            bestSpot.reservedUntil = time + POND_RESERVATION_TICKS;
+        }
+        return best;
+    }
+
+    @Override
+    public void releasePond(@NotNull final BlockPos pos, final int citizenId)
+    {
+        final FishingSpot spot = spots.get(pos);
+        if (spot != null && spot.reservedBy == citizenId)
+        {
+            spot.reservedBy = NOT_RESERVED;
+        }
+    }
+
+    @NotNull
+    @Override
+    public PondIndex copyPondIndex()
+    {
+        return new PondIndex(index);
+    }
+
+    /**
+     * A fishing spot known to the colony.
+     */
+    private static final class FishingSpot
+    {
+        /**
+         * How often fishermen picked the spot.
+         */
+        private int uses = 0;
+
+        /**
+         * The id of the fisherman which reserved the spot.
+         */
+        private int reservedBy = NOT_RESERVED;
+
+        /**
+         * The world time the reservation ends.
+         */
+        private long reservedUntil = 0;
+
+        /**
+         * Check if the spot is reserved by another fisherman.
+         * @param citizenId the id of the asking fisherman.
+         * @param time the current world time.
+         * @return true if so.
+         */
+        private boolean isReservedByOther(final int citizenId, final long time)
+        {
+            return reservedBy != NOT_RESERVED && reservedBy != citizenId && reservedUntil > time;
+        }
+    }
+}
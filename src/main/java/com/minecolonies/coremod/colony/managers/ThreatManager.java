@@ -0,0 +1,239 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.mobs.barbarians.AbstractEntityBarbarian;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
+import static com.minecolonies.api.util.constant.GuardConstants.LINE_OF_SIGHT_CACHE_TICKS;
+import static com.minecolonies.api.util.constant.GuardConstants.THREAT_AREA_MARGIN;
+import static com.minecolonies.api.util.constant.GuardConstants.THREAT_REFRESH_TICKS;
+
+/**
+ * Keeps track of the possible targets of the guards of a colony.
+ * All living entities around the colony are searched at once in an interval and grouped by their class,
+ * so that the guards only have to look at the classes they attack. Line of sight checks are cached shortly.
+ */
+public class ThreatManager implements IThreatManager
+{
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The living entities in the tracked area by their class.
+     */
+    private final Map<Class<? extends Entity>, List<EntityLivingBase>> threatsByClass = new HashMap<>();
+
+    /**
+     * The tracked classes which are instances of a requested type, calculated on demand.
+     */
+    private final Map<Class<? extends Entity>, List<Class<? extends Entity>>> matchingClasses = new HashMap<>();
+
+    /**
+     * The barbarians which attacked citizens of the colony.
+     */
+    private final List<EntityLivingBase> revengeTargets = new ArrayList<>();
+
+    /**
+     * The cached line of sight checks by guard and target.
+     */
+    private final Map<Long, SightCheck> sightChecks = new HashMap<>();
+
+    /**
+     * The area which has been searched, null if not searched yet.
+     */
+    @Nullable
+    private AxisAlignedBB trackedArea = null;
+
+    /**
+     * The world time of the last search.
+     */
+    private long refreshedAt = 0;
+
+    /**
+     * Creates the ThreatManager for a colony.
+     * @param colony the colony.
+     */
+    public ThreatManager(final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public List<EntityLivingBase> getRevengeTargets()
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return Collections.emptyList();
+        }
+
+        refresh(world);
+        final List<EntityLivingBase> targets = new ArrayList<>();
+        for (final EntityLivingBase entity : revengeTargets)
+        {
+            if (!entity.isDead)
+            {
+                targets.add(entity);
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    public List<EntityLivingBase> getThreats(@NotNull final AxisAlignedBB area, @NotNull final Class<? extends Entity> type)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return Collections.emptyList();
+        }
+
+        refresh(world);
+        if (trackedArea == null || !contains(trackedArea, area))
+        {
+            // Guards following a player may leave the colony.
+            return world.getEntitiesWithinAABB(EntityLivingBase.class, area, type::isInstance);
+        }
+
+        final List<EntityLivingBase> threats = new ArrayList<>();
+        for (final Class<? extends Entity> entityClass : getMatchingClasses(type))
+        {
+            for (final EntityLivingBase entity : threatsByClass.get(entityClass))
+            {
+                if (!entity.isDead && entity.getEntityBoundingBox().intersects(area))
+                {
+                    threats.add(entity);
+                }
+            }
+        }
+        return threats;
+    }
+
+    @Override
+    public boolean canSee(@NotNull final EntityCitizen guard, @NotNull final EntityLivingBase target)
+    {
+        final long time = CompatibilityUtils.getWorld(guard).getTotalWorldTime();
+        final long key = ((long) guard.getEntityId() << Integer.SIZE) | (target.getEntityId() & 0xFFFFFFFFL);
+        final SightCheck check = sightChecks.get(key);
+        if (check != null && check.expiresAt > time)
+        {
+            return check.visible;
+        }
+
+        final boolean visible = guard.canEntityBeSeen(target);
+        sightChecks.put(key, new SightCheck(visible, time + LINE_OF_SIGHT_CACHE_TICKS));
+        return visible;
+    }
+
+    /**
+     * Search the area of the colony for threats if the last search is too old.
+     * @param world the world of the colony.
+     */
+    private void refresh(@NotNull final World world)
+    {
+        final long time = world.getTotalWorldTime();
+        if (trackedArea != null && time - refreshedAt < THREAT_REFRESH_TICKS)
+        {
+            return;
+        }
+
+        final BlockPos center = colony.getCenter();
+        final int range = Configurations.gameplay.workingRangeTownHallChunks * BLOCKS_PER_CHUNK + BLOCKS_PER_CHUNK + THREAT_AREA_MARGIN;
+        trackedArea = new AxisAlignedBB(center.getX() - range, -THREAT_AREA_MARGIN, center.getZ() - range,
+          center.getX() + range + 1, world.getHeight() + THREAT_AREA_MARGIN, center.getZ() + range + 1);
+        refreshedAt = time;
+
+        threatsByClass.clear();
+        matchingClasses.clear();
+        for (final EntityLivingBase entity : world.getEntitiesWithinAABB(EntityLivingBase.class, trackedArea))
+        {
+            threatsByClass.computeIfAbsent(entity.getClass(), entityClass -> new ArrayList<>()).add(entity);
+        }
+
+        revengeTargets.clear();
+        for (final CitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            final EntityLivingBase entity = citizen.getCitizenEntity().map(EntityLivingBase::getRevengeTarget).orElse(null);
+            if (entity instanceof AbstractEntityBarbarian && !revengeTargets.contains(entity))
+            {
+                revengeTargets.add(entity);
+            }
+        }
+
+        sightChecks.values().removeIf(check -> check.expiresAt <= time);
+    }
+
+    /**
+     * Get the tracked classes which are instances of a type.
+     * @param type the type.
+     * @return the list of classes.
+     */
+    private List<Class<? extends Entity>> getMatchingClasses(@NotNull final Class<? extends Entity> type)
+    {
+        return matchingClasses.computeIfAbsent(type, key -> {
+            final List<Class<? extends Entity>> classes = new ArrayList<>();
+            for (final Class<? extends Entity> entityClass : threatsByClass.keySet())
+            {
+                if (key.isAssignableFrom(entityClass))
+                {
+                    classes.add(entityClass);
+                }
+            }
+            return classes;
+        });
+    }
+
+    /**
+     * Check if an area lies completely inside another one.
+     * @param outer the outer area.
+     * @param inner the inner area.
+     * @return true if so.
+     */
+    private static boolean contains(@NotNull final AxisAlignedBB outer, @NotNull final AxisAlignedBB inner)
+    {
+        return inner.minX >= outer.minX && inner.minY >= outer.minY && inner.minZ >= outer.minZ
+                 && inner.maxX <= outer.maxX && inner.maxY <= outer.maxY && inner.maxZ <= outer.maxZ;
+    }
+
+    /**
+     * A cached line of sight check.
+     */
+    private static final class SightCheck
+    {
+        /**
+         * If the target could be seen.
+         */
+        private final boolean visible;
+
+        /**
+         * The world time the check expires.
+         */
+        private final long expiresAt;
+
+        /**
+         * Create a line of sight check.
+         * @param visible if the target could be seen.
+         * @param expiresAt the world time the check expires.
+         */
+        private SightCheck(final boolean visible, final long expiresAt)
+        {
+            this.visible = visible;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingLumberjack;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.Tree;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ColonyConstants.TREE_RESERVATION_TICKS;
+import static com.minecolonies.api.util.constant.ColonyConstants.TREE_SCAN_INTERVAL;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_POS;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SAPLING;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_TREES;
+
+/**
+ * Keeps track of the trees in a colony, so that the lumberjacks don't have to search them on their own.
+ * The chunks of the colony are scanned one after another, chunks in which blocks of trees changed first.
+ * Lumberjacks reserve the tree they are cutting, so that no other lumberjack picks the same one.
+ */
+public class TreeManager implements ITreeManager
+{
+    /**
+     * Citizen id of trees which aren't reserved.
+     */
+    private static final int NOT_RESERVED = 0;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The known trees by their bottom log.
+     */
+    private final Map<BlockPos, ColonyTree> trees = new HashMap<>();
+
+    /**
+     * The chunks which have to be scanned before the regular scan continues.
+     */
+    private final Set<ChunkPos> dirtyChunks = new LinkedHashSet<>();
+
+    /**
+     * The index of the next chunk of the regular scan.
+     */
+    private int scanIndex = 0;
+
+    /**
+     * Creates the TreeManager for a colony.
+     * @param colony the colony.
+     */
+    public TreeManager(final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public void readFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        trees.clear();
+        final NBTTagList treeTagList = compound.getTagList(TAG_TREES, NBT.TAG_COMPOUND);
+        for (int i = 0; i < treeTagList.tagCount(); ++i)
+        {
+            final NBTTagCompound treeCompound = treeTagList.getCompoundTagAt(i);
+            final BlockPos pos = BlockPosUtil.readFromNBT(treeCompound, TAG_POS);
+            final ItemStack sapling = treeCompound.hasKey(TAG_SAPLING) ? new ItemStack(treeCompound.getCompoundTag(TAG_SAPLING)) : ItemStackUtils.EMPTY;
+            trees.put(pos, new ColonyTree(sapling));
+        }
+    }
+
+    @Override
+    public void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        final NBTTagList treeTagList = new NBTTagList();
+        for (final Map.Entry<BlockPos, ColonyTree> entry : trees.entrySet())
+        {
+            final NBTTagCompound treeCompound = new NBTTagCompound();
+            BlockPosUtil.writeToNBT(treeCompound, TAG_POS, entry.getKey());
+            if (!ItemStackUtils.isEmpty(entry.getValue().sapling))
+            {
+                treeCompound.setTag(TAG_SAPLING, entry.getValue().sapling.writeToNBT(new NBTTagCompound()));
+            }
+            treeTagList.appendTag(treeCompound);
+        }
+        compound.setTag(TAG_TREES, treeTagList);
+    }
+
+    @Override
+    public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
+    {
+        final World world = event.world;
+        if (world.getTotalWorldTime() % TREE_SCAN_INTERVAL != 0 || !hasLumberjack())
+        {
+            return;
+        }
+
+        final ChunkPos chunk;
+        if (dirtyChunks.isEmpty())
+        {
+            final int range = Configurations.gameplay.workingRangeTownHallChunks;
+            final int width = range * 2 + 1;
+            scanIndex = (scanIndex + 1) % (width * width);
+            chunk = new ChunkPos((colony.getCenter().getX() >> 4) - range + scanIndex % width, (colony.getCenter().getZ() >> 4) - range + scanIndex / width);
+        }
+        else
+        {
+            final Iterator<ChunkPos> iterator = dirtyChunks.iterator();
+            chunk = iterator.next();
+            iterator.remove();
+        }
+
+        if (world.isBlockLoaded(new BlockPos(chunk.getXStart(), 0, chunk.getZStart())))
+        {
+            scanChunk(world, chunk);
+        }
+    }
+
+    @Override
+    public void markChunkDirty(@NotNull final BlockPos pos)
+    {
+        if (hasLumberjack())
+        {
+            dirtyChunks.add(new ChunkPos(pos));
+        }
+    }
+
+    @Nullable
+    @Override
+    public BlockPos registerTree(@NotNull final World world, @NotNull final BlockPos log)
+    {
+        final Tuple<BlockPos, BlockPos> bottomAndTop = Tree.getBottomAndTopLog(world, log);
+        final BlockPos bottom = bottomAndTop.getFirst();
+        if (trees.containsKey(bottom))
+        {
+            return bottom;
+        }
+
+        if (!Tree.checkTree(world, bottom, Collections.emptyMap()) || !Tree.checkIfInColonyAndNotInBuilding(bottom, colony))
+        {
+            return null;
+        }
+
+        trees.put(bottom, new ColonyTree(getSapling(world, bottomAndTop.getSecond())));
+        return bottom;
+    }
+
+    @Override
+    public void removeTree(@NotNull final BlockPos pos)
+    {
+        trees.remove(pos);
+    }
+
+    @Nullable
+    @Override
+    public BlockPos reserveNearestTree(
+      @NotNull final World world,
+      @NotNull final BlockPos from,
+      final int range,
+      @NotNull final Map<ItemStorage, Boolean> treesToCut,
+      final int citizenId)
+    {
+        final long time = world.getTotalWorldTime();
+        final double maxDistance = (double) range * range;
+        final List<BlockPos> candidates = new ArrayList<>();
+        for (final Map.Entry<BlockPos, ColonyTree> entry : trees.entrySet())
+        {
+            final ColonyTree tree = entry.getValue();
+            if (!tree.isReservedByOther(citizenId, time) && entry.getKey().distanceSq(from) <= maxDistance && isSupposedToCut(tree.sapling, treesToCut))
+            {
+                candidates.add(entry.getKey());
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(pos -> pos.distanceSq(from)));
+
+        for (final BlockPos pos : candidates)
+        {
+            if (!world.isBlockLoaded(pos))
+            {
+                continue;
+            }
+
+            if (Tree.checkTree(world, pos, treesToCut) && Tree.checkIfInColonyAndNotInBuilding(pos, colony))
+            {
+                reserveTree(pos, citizenId);
+                return pos;
+            }
+
+            if (!Tree.checkTree(world, pos, Collections.emptyMap()))
+            {
+                trees.remove(pos);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean reserveTree(@NotNull final BlockPos pos, final int citizenId)
+    {
+        final ColonyTree tree = trees.get(pos);
+        final World world = colony.getWorld();
+        if (tree == null || world == null || tree.isReservedByOther(citizenId, world.getTotalWorldTime()))
+        {
+            return false;
+        }
+
+        tree.reservedBy = citizenId;
+        tree.reservedUntil = world.getTotalWorldTime() + TREE_RESERVATION_TICKS;
+        return true;
+    }
+
+    @Override
+    public Set<BlockPos> getTreesReservedByOthers(final int citizenId)
+    {
+        final World world = colony.getWorld();
+        final Set<BlockPos> reserved = new HashSet<>();
+        if (world != null)
+        {
+            for (final Map.Entry<BlockPos, ColonyTree> entry : trees.entrySet())
+            {
+                if (entry.getValue().isReservedByOther(citizenId, world.getTotalWorldTime()))
+                {
+                    reserved.add(entry.getKey());
+                }
+            }
+        }
+        return reserved;
+    }
+
+    /**
+     * Check if the colony has a lumberjack which needs the trees.
+     * @return true if so.
+     */
+    private boolean hasLumberjack()
+    {
+        return colony.getBuildingManager().getBuildings().values().stream().anyMatch(BuildingLumberjack.class::isInstance);
+    }
+
+    /**
+     * Search a chunk for trees, the top most solid block of every column which is a log belongs to a tree.
+     * Trees in the chunk which can't be found anymore are forgotten.
+     * @param world the world.
+     * @param chunk the chunk.
+     */
+    private void scanChunk(@NotNull final World world, @NotNull final ChunkPos chunk)
+    {
+        final Set<BlockPos> found = new HashSet<>();
+        for (int x = chunk.getXStart(); x <= chunk.getXEnd(); x++)
+        {
+            for (int z = chunk.getZStart(); z <= chunk.getZEnd(); z++)
+            {
+                final BlockPos log = findTopLog(world, world.getHeight(new BlockPos(x, 0, z)));
+                if (log != null)
+                {
+                    final BlockPos bottom = registerTree(world, log);
+                    if (bottom != null)
+                    {
+                        found.add(bottom);
+                    }
+                }
+            }
+        }
+
+        trees.keySet().removeIf(pos -> pos.getX() >> 4 == chunk.x && pos.getZ() >> 4 == chunk.z && !found.contains(pos));
+    }
+
+    /**
+     * Walk down a column through leaves and air to the first log.
+     * @param world the world.
+     * @param top the position above the highest block of the column.
+     * @return the log or null if the column ends on something else.
+     */
+    @Nullable
+    private static BlockPos findTopLog(@NotNull final World world, @NotNull final BlockPos top)
+    {
+        for (BlockPos pos = top.down(); pos.getY() > 0; pos = pos.down())
+        {
+            final IBlockState state = world.getBlockState(pos);
+            final Block block = state.getBlock();
+            if (block.isWood(world, pos) || Compatibility.isSlimeBlock(block))
+            {
+                return pos;
+            }
+
+            if (state.getMaterial() != Material.LEAVES && !state.getMaterial().isReplaceable())
+            {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the sapling of a tree from the leaves around its top log.
+     * @param world the world.
+     * @param topLog the top log of the tree.
+     * @return the sapling or an empty stack if unknown.
+     */
+    @NotNull
+    private static ItemStack getSapling(@NotNull final World world, @NotNull final BlockPos topLog)
+    {
+        for (final BlockPos pos : BlockPos.getAllInBoxMutable(topLog.add(-1, -1, -1), topLog.add(1, 1, 1)))
+        {
+            final IBlockState state = world.getBlockState(pos);
+            if (state.getMaterial() == Material.LEAVES)
+            {
+                final ItemStack sapling = ColonyManager.getCompatibilityManager().getSaplingForLeave(state);
+                if (sapling != null)
+                {
+                    return sapling.copy();
+                }
+            }
+        }
+        return ItemStackUtils.EMPTY;
+    }
+
+    /**
+     * Check if a lumberjack is supposed to cut trees of a sapling.
+     * @param sapling the sapling, empty if unknown.
+     * @param treesToCut the trees the lumberjack is supposed to cut.
+     * @return false if the lumberjack shall not cut this type of tree.
+     */
+    private static boolean isSupposedToCut(@NotNull final ItemStack sapling, @NotNull final Map<ItemStorage, Boolean> treesToCut)
+    {
+        if (ItemStackUtils.isEmpty(sapling))
+        {
+            return true;
+        }
+
+        for (final Map.Entry<ItemStorage, Boolean> entry : treesToCut.entrySet())
+        {
+            if (!entry.getValue() && sapling.isItemEqual(entry.getKey().getItemStack()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A tree known to the colony.
+     */
+    private static final class ColonyTree
+    {
+        /**
+         * The sapling of the tree, empty if unknown.
+         */
+        private final ItemStack sapling;
+
+        /**
+         * The id of the lumberjack which reserved the tree.
+         */
+        private int reservedBy = NOT_RESERVED;
+
+        /**
+         * The world time the reservation ends.
+         */
+        private long reservedUntil = 0;
+
+        /**
+         * Create a colony tree.
+         * @param sapling the sapling of the tree.
+         */
+        private ColonyTree(@NotNull final ItemStack sapling)
+        {
+            this.sapling = sapling;
+        }
+
+        /**
+         * Check if the tree is reserved by another lumberjack.
+         * @param citizenId the id of the asking lumberjack.
+         * @param time the current world time.
+         * @return true if so.
+         */
+        private boolean isReservedByOther(final int citizenId, final long time)
+        {
+            return reservedBy != NOT_RESERVED && reservedBy != citizenId && reservedUntil > time;
+        }
+    }
+}
@@ -22,6 +22,9 @@ public enum ForgePermissionNodes
     LIST_COLONIES("com.minecolonies.coremod.ListColonies", DefaultPermissionLevel.OP, "Can ListColonies...."),
     REQUEST_SYSTEM_RESET_ALL("com.minecolonies.coremod.RequestSystemResetAll", DefaultPermissionLevel.OP, "Can RequestSystemResetAll...."),
     BACKUP("com.minecolonies.coremod.Backup", DefaultPermissionLevel.OP, "Can back up colony data."),
+    RESTORE_BACKUP("com.minecolonies.coremod.RestoreBackup", DefaultPermissionLevel.OP, "Can restore colony data from a backup."),
+    PRUNE_BACKUPS("com.minecolonies.coremod.PruneBackups", DefaultPermissionLevel.OP, "Can delete old colony backups."),
+    NETWORK_STATISTICS("com.minecolonies.coremod.NetworkStatistics", DefaultPermissionLevel.OP, "Can view and reset the network statistics."),
     LIST_CITIZENS("com.minecolonies.coremod.ListCitizens", DefaultPermissionLevel.ALL, "Can ListCitizens...."),
     KILL_CITIZEN("com.minecolonies.coremod.KillCitizen", DefaultPermissionLevel.ALL, "Can KillCitizen...."),
     RESPAWN_CITIZEN("com.minecolonies.coremod.RespawnCitizen", DefaultPermissionLevel.ALL, "Can RespawnCitizen...."),
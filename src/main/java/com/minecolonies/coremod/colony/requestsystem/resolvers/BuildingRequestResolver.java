@@ -8,19 +8,15 @@ import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.BuildingStorageView;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.core.AbstractBuildingDependentRequestResolver;
-import net.minecraft.tileentity.TileEntity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.RSConstants.CONST_BUILDING_RESOLVER_PRIORITY;
 
@@ -53,19 +49,12 @@ public class BuildingRequestResolver extends AbstractBuildingDependentRequestRes
     public boolean canResolveForBuilding(
       @NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request, @NotNull final AbstractBuilding building)
     {
-        final List<TileEntity> tileEntities = new ArrayList<>();
-        tileEntities.add(building.getTileEntity());
-        tileEntities.addAll(building.getAdditionalCountainers().stream().map(manager.getColony().getWorld()::getTileEntity).collect(Collectors.toSet()));
-        tileEntities.removeIf(Objects::isNull);
-
         if (building.getCitizenForRequest(request.getToken()).isPresent() && building.getCitizenForRequest(request.getToken()).get().isRequestAsync(request.getToken()))
         {
             return false;
         }
 
-        return tileEntities.stream()
-                 .map(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStack -> request.getRequest().matches(itemStack)))
-                 .anyMatch(itemStacks -> !itemStacks.isEmpty());
+        return building.getStorageView().contains(itemStack -> request.getRequest().matches(itemStack));
     }
 
     @Nullable
@@ -80,16 +69,8 @@ public class BuildingRequestResolver extends AbstractBuildingDependentRequestRes
     public void resolveForBuilding(
       @NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request, @NotNull final AbstractBuilding building)
     {
-        final List<TileEntity> tileEntities = new ArrayList<>();
-        tileEntities.add(building.getTileEntity());
-        tileEntities.addAll(building.getAdditionalCountainers().stream().map(manager.getColony().getWorld()::getTileEntity).collect(Collectors.toSet()));
-
-        request.setDelivery(tileEntities.stream()
-                              .map(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStack -> request.getRequest().matches(itemStack)))
-                              .filter(itemStacks -> !itemStacks.isEmpty())
-                              .flatMap(List::stream)
-                              .findFirst()
-                              .orElse(ItemStackUtils.EMPTY));
+        final BuildingStorageView.StorageSlot slot = building.getStorageView().locate(itemStack -> request.getRequest().matches(itemStack));
+        request.setDelivery(slot == null ? ItemStackUtils.EMPTY : slot.getStack().copy());
 
         manager.updateRequestState(request.getToken(), RequestState.COMPLETED);
     }
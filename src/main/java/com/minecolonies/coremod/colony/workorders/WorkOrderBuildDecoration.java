@@ -8,11 +8,17 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.StructureName;
 import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
+import com.minecolonies.coremod.entity.ai.util.Structure;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
 import static com.minecolonies.api.util.constant.Suppression.UNUSED_METHOD_PARAMETERS_SHOULD_BE_REMOVED;
 
 /**
@@ -29,6 +35,9 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     private static final String TAG_SCHEMATIC_NAME    = "structureName";
     private static final String TAG_SCHEMATIC_MD5     = "schematicMD5";
     private static final String TAG_BUILDING_ROTATION = "buildingRotation";
+    private static final String TAG_COMPLETED_BLOCKS  = "completedBlocks";
+    private static final String TAG_STRUCTURE_SIZE    = "structureSize";
+    private static final String TAG_COMPLETED_MD5     = "completedMD5";
 
     protected boolean  isBuildingMirrored;
     protected BlockPos buildingLocation;
@@ -41,6 +50,21 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     protected boolean hasSentMessageForThisWorkOrder = false;
     private boolean requested;
 
+    /**
+     * The positions of the structure the builder completed by stage.
+     */
+    private final Map<Structure.Stage, BitSet> completedBlocks = new EnumMap<>(Structure.Stage.class);
+
+    /**
+     * The number of positions of the structure the completed positions belong to.
+     */
+    private int structureSize = 0;
+
+    /**
+     * The md5 hash of the schematic the completed positions belong to.
+     */
+    private String completedMD5;
+
     /**
      * Unused constructor for reflection.
      */
@@ -115,6 +139,18 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         buildingRotation = compound.getInteger(TAG_BUILDING_ROTATION);
         requested = compound.getBoolean(TAG_IS_REQUESTED);
         isBuildingMirrored = compound.getBoolean(TAG_IS_MIRRORED);
+
+        completedBlocks.clear();
+        structureSize = compound.getInteger(TAG_STRUCTURE_SIZE);
+        completedMD5 = compound.hasKey(TAG_COMPLETED_MD5) ? compound.getString(TAG_COMPLETED_MD5) : null;
+        final NBTTagCompound completedCompound = compound.getCompoundTag(TAG_COMPLETED_BLOCKS);
+        for (final Structure.Stage stage : Structure.Stage.values())
+        {
+            if (isProgressPersisted(stage) && completedCompound.hasKey(stage.name()))
+            {
+                completedBlocks.put(stage, BitSet.valueOf(completedCompound.getByteArray(stage.name())));
+            }
+        }
     }
 
     /**
@@ -147,6 +183,21 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         compound.setInteger(TAG_BUILDING_ROTATION, buildingRotation);
         compound.setBoolean(TAG_IS_REQUESTED, requested);
         compound.setBoolean(TAG_IS_MIRRORED, isBuildingMirrored);
+
+        compound.setInteger(TAG_STRUCTURE_SIZE, structureSize);
+        if (completedMD5 != null)
+        {
+            compound.setString(TAG_COMPLETED_MD5, completedMD5);
+        }
+        final NBTTagCompound completedCompound = new NBTTagCompound();
+        for (final Map.Entry<Structure.Stage, BitSet> entry : completedBlocks.entrySet())
+        {
+            if (isProgressPersisted(entry.getKey()))
+            {
+                completedCompound.setByteArray(entry.getKey().name(), entry.getValue().toByteArray());
+            }
+        }
+        compound.setTag(TAG_COMPLETED_BLOCKS, completedCompound);
     }
 
     @Override
@@ -301,6 +352,38 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         this.requested = requested;
     }
 
+    /**
+     * Get the positions of the structure the builder completed, by stage.
+     * They are forgotten if the schematic changed or the structure doesn't have the same number of positions anymore.
+     *
+     * @param size the number of positions of the loaded structure.
+     * @return the modifiable map of completed positions.
+     */
+    public Map<Structure.Stage, BitSet> getCompletedBlocks(final int size)
+    {
+        final String currentMD5 = structureName == null ? null : Structures.getMD5(structureName);
+        if (structureSize != size || !Objects.equals(completedMD5, currentMD5))
+        {
+            completedBlocks.clear();
+            structureSize = size;
+            completedMD5 = currentMD5;
+        }
+        return completedBlocks;
+    }
+
+    /**
+     * Check if the completed positions of a stage are saved.
+     * Clearing and removing only skip positions because of the world, which can change while the chunk is unloaded,
+     * so they are checked again after a reload.
+     *
+     * @param stage the stage.
+     * @return true if they are saved.
+     */
+    private static boolean isProgressPersisted(@NotNull final Structure.Stage stage)
+    {
+        return stage != Structure.Stage.CLEAR && stage != Structure.Stage.REMOVE;
+    }
+
     /**
      * Check if the workOrder should be built isMirrored.
      *
@@ -31,6 +31,20 @@ public enum ActionMenuType implements IMenuType
             ForgePermissionNodes.BACKUP,
             BackupCommand.class
             )),
+    RESTORE_BACKUP(new ActionMenu(
+            "Restore Backup",
+            "restore",
+            ForgePermissionNodes.RESTORE_BACKUP,
+            RestoreBackupCommand.class,
+            new ActionArgument("snapshot", ActionArgumentType.STRING, ActionArgumentType.Is.OPTIONAL)
+            )),
+    PRUNE_BACKUPS(new ActionMenu(
+            "Prune Backups",
+            "prune-backups",
+            ForgePermissionNodes.PRUNE_BACKUPS,
+            PruneBackupsCommand.class,
+            new ActionArgument("keep", ActionArgumentType.INTEGER, ActionArgumentType.Is.OPTIONAL)
+            )),
     HOME_TELEPORT(new ActionMenu(
             "HomeTeleport",
             "home",
@@ -83,6 +97,13 @@ public enum ActionMenuType implements IMenuType
             ForgePermissionNodes.REQUEST_SYSTEM_RESET_ALL,
             RSResetAllCommand.class
             )),
+    NETWORK_STATISTICS(new ActionMenu(
+            "NetworkStatistics",
+            "netstats",
+            ForgePermissionNodes.NETWORK_STATISTICS,
+            NetworkStatisticsCommand.class,
+            new ActionArgument("reset", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+            )),
 
     LIST_CITIZENS(new ActionMenu(
             "ListCitizens",
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.commands;
 import com.google.common.collect.ImmutableMap;
 import com.minecolonies.coremod.commands.colonycommands.ListColoniesCommand;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.RSResetAllCommand;
+import com.minecolonies.coremod.commands.generalcommands.NetworkStatisticsCommand;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
@@ -20,6 +21,7 @@ public class ColoniesCommand extends AbstractSplitCommand
       new ImmutableMap.Builder<String, ISubCommand>()
         .put(ListColoniesCommand.DESC, new ListColoniesCommand(MinecoloniesCommand.DESC, ColoniesCommand.DESC, ListColoniesCommand.DESC))
         .put(RSResetAllCommand.DESC, new RSResetAllCommand(MinecoloniesCommand.DESC, ColoniesCommand.DESC, RSResetAllCommand.DESC))
+        .put(NetworkStatisticsCommand.DESC, new NetworkStatisticsCommand(MinecoloniesCommand.DESC, ColoniesCommand.DESC, NetworkStatisticsCommand.DESC))
               .build();
 
     /**
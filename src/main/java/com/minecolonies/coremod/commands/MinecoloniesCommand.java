@@ -30,6 +30,8 @@ public class MinecoloniesCommand extends AbstractSplitCommand
         .put(CitizensCommand.DESC, new CitizensCommand(DESC))
         .put(RandomTeleportCommand.DESC, new RandomTeleportCommand(DESC))
         .put(BackupCommand.DESC, new BackupCommand(DESC))
+        .put(RestoreBackupCommand.DESC, new RestoreBackupCommand(DESC))
+        .put(PruneBackupsCommand.DESC, new PruneBackupsCommand(DESC))
         .put(HomeTeleportCommand.DESC, new HomeTeleportCommand(DESC))
         .put(RaidAllTonightCommand.DESC, new RaidAllTonightCommand(DESC))
         .put(RaidAllNowCommand.DESC, new RaidAllNowCommand(DESC))
@@ -6,7 +6,8 @@ public enum NavigationMenuType implements IMenuType
 {
     COLONIES(new NavigationMenu("colonies",
         ActionMenuType.LIST_COLONIES,
-        ActionMenuType.REQUEST_SYSTEM_RESET_ALL
+        ActionMenuType.REQUEST_SYSTEM_RESET_ALL,
+        ActionMenuType.NETWORK_STATISTICS
     )),
 
     CITIZENS(new NavigationMenu("citizens",
@@ -53,6 +54,8 @@ public enum NavigationMenuType implements IMenuType
             NavigationMenuType.REQUEST_SYSTEM,
             ActionMenuType.RANDOM_TELEPORT,
             ActionMenuType.BACKUP,
+            ActionMenuType.RESTORE_BACKUP,
+            ActionMenuType.PRUNE_BACKUPS,
             ActionMenuType.HOME_TELEPORT,
             ActionMenuType.RAID_ALL_TONIGHT,
             ActionMenuType.RAID_ALL_NOW,
@@ -0,0 +1,110 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.network.NetworkStatistics;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Prints the recorded network statistics of the colonies to the sender.
+ */
+public class NetworkStatisticsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final  String DESC              = "netstats";
+    private static final String DISABLED_MESSAGE  = "Network statistics are disabled, turn on enableNetworkStatistics in the config.";
+    private static final String RESET_MESSAGE     = "Network statistics have been reset.";
+    private static final String RESET_ARGUMENT    = "reset";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public NetworkStatisticsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public NetworkStatisticsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "<(Optional)reset: true>";
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender, actionMenuState.getBooleanValueForArgument(RESET_ARGUMENT, false));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        final boolean reset = args.length == 2 && (RESET_ARGUMENT + ":").equalsIgnoreCase(args[0]) && "true".equalsIgnoreCase(args[1]);
+        executeShared(sender, reset);
+    }
+
+    private static void executeShared(@NotNull final ICommandSender sender, final boolean reset)
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(NOT_PERMITTED));
+            return;
+        }
+
+        if (!Configurations.gameplay.enableNetworkStatistics)
+        {
+            sender.sendMessage(new TextComponentString(DISABLED_MESSAGE));
+        }
+
+        if (reset)
+        {
+            NetworkStatistics.reset();
+            sender.sendMessage(new TextComponentString(RESET_MESSAGE));
+            return;
+        }
+
+        for (final String line : NetworkStatistics.getReport())
+        {
+            sender.sendMessage(new TextComponentString(line));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
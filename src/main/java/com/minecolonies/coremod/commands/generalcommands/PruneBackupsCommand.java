@@ -0,0 +1,90 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Deletes the old colony backups and the data only they used.
+ */
+public class PruneBackupsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final String DESC                  = "prune-backups";
+    public static final String NO_PERMISSION_MESSAGE = "You do not have permission to prune colony backups!";
+    public static final String PRUNE_SUCCESS_MESSAGE = "Deleted %d colony backups.";
+
+    /**
+     * Amount of backups kept if no amount is given.
+     */
+    private static final int DEFAULT_KEEP = 10;
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public PruneBackupsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public PruneBackupsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(server, sender, actionMenuState.getIntValueForArgument("keep", DEFAULT_KEEP));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(server, sender, getIthArgument(args, 0, DEFAULT_KEEP));
+    }
+
+    private void executeShared(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, final int keep) throws CommandException
+    {
+        if (isPlayerOpped(sender))
+        {
+            server.addScheduledTask(() -> sender.sendMessage(new TextComponentString(String.format(PRUNE_SUCCESS_MESSAGE, ColonyManager.getBackupStore().prune(keep)))));
+        }
+        else
+        {
+            sender.sendMessage(new TextComponentString(NO_PERMISSION_MESSAGE));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
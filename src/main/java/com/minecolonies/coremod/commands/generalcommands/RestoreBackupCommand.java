@@ -0,0 +1,104 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.colony.ColonyBackupStore;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists the colony backups or restores one of them on the next world load.
+ */
+public class RestoreBackupCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final String DESC                    = "restore";
+    public static final String NO_PERMISSION_MESSAGE   = "You do not have permission to restore colony data!";
+    public static final String NO_BACKUPS_MESSAGE      = "There are no colony backups.";
+    public static final String BACKUPS_MESSAGE         = "Colony backups: %s";
+    public static final String RESTORE_SUCCESS_MESSAGE = "Colony data will be restored from %s when the server restarts.";
+    public static final String RESTORE_FAILURE_MESSAGE = "There is no colony backup %s!";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public RestoreBackupCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public RestoreBackupCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(server, sender, actionMenuState.getStringForArgument("snapshot"));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(server, sender, args.length == 0 ? null : args[0]);
+    }
+
+    private void executeShared(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @Nullable final String snapshot) throws CommandException
+    {
+        if (!isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(NO_PERMISSION_MESSAGE));
+            return;
+        }
+
+        server.addScheduledTask(() ->
+        {
+            final ColonyBackupStore store = ColonyManager.getBackupStore();
+            if (snapshot == null)
+            {
+                final List<String> snapshots = store.getSnapshots();
+                sender.sendMessage(new TextComponentString(snapshots.isEmpty() ? NO_BACKUPS_MESSAGE : String.format(BACKUPS_MESSAGE, String.join(", ", snapshots))));
+            }
+            else if (store.scheduleRestore(snapshot))
+            {
+                sender.sendMessage(new TextComponentString(String.format(RESTORE_SUCCESS_MESSAGE, snapshot)));
+            }
+            else
+            {
+                sender.sendMessage(new TextComponentString(String.format(RESTORE_FAILURE_MESSAGE, snapshot)));
+            }
+        });
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,129 @@
+package com.minecolonies.coremod.entity;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base of the world listeners which are only interested in entities joining and leaving a world.
+ */
+public abstract class AbstractEntityWorldListener implements IWorldEventListener
+{
+    @Override
+    public void notifyBlockUpdate(
+                                   @NotNull final World worldIn,
+                                   @NotNull final BlockPos pos,
+                                   @NotNull final IBlockState oldState,
+                                   @NotNull final IBlockState newState,
+                                   final int flags)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void notifyLightSet(@NotNull final BlockPos pos)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void markBlockRangeForRenderUpdate(final int x1, final int y1, final int z1, final int x2, final int y2, final int z2)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void playSoundToAllNearExcept(
+                                          @Nullable final EntityPlayer player,
+                                          @NotNull final SoundEvent soundIn,
+                                          @NotNull final SoundCategory category,
+                                          final double x,
+                                          final double y,
+                                          final double z,
+                                          final float volume,
+                                          final float pitch)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void playRecord(@NotNull final SoundEvent soundIn, @NotNull final BlockPos pos)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void spawnParticle(
+                               final int particleID,
+                               final boolean ignoreRange,
+                               final double xCoord,
+                               final double yCoord,
+                               final double zCoord,
+                               final double xSpeed,
+                               final double ySpeed,
+                               final double zSpeed,
+                               @NotNull final int... parameters)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void spawnParticle(
+                               final int id,
+                               final boolean ignoreRange,
+                               final boolean minimiseParticleLevel,
+                               final double x,
+                               final double y,
+                               final double z,
+                               final double xSpeed,
+                               final double ySpeed,
+                               final double zSpeed,
+                               @NotNull final int... parameters)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void broadcastSound(final int soundID, @NotNull final BlockPos pos, final int data)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void playEvent(@Nullable final EntityPlayer player, final int type, @NotNull final BlockPos blockPosIn, final int data)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    @Override
+    public void sendBlockBreakProgress(final int breakerId, @NotNull final BlockPos pos, final int progress)
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+}
@@ -0,0 +1,172 @@
+package com.minecolonies.coremod.entity;
+
+import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.api.util.Log;
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Server side registry of the loaded citizen entities by colony and citizen id.
+ * Kept up to date by a world listener which gets notified when entities get added to or removed from a world,
+ * this way the citizen entity of a citizen can be looked up without scanning all entities of the world.
+ */
+public final class CitizenEntityRegistry
+{
+    /**
+     * The loaded citizen entities by their key, see {@link #getKey(int, int)}.
+     */
+    private static final Map<Long, EntityCitizen> ENTITIES = new HashMap<>();
+
+    /**
+     * The key each registered entity has been registered with.
+     * The ids of a citizen are reset before it is removed from the world, so they can't be used to unregister it.
+     */
+    private static final Map<EntityCitizen, Long> KEYS = new IdentityHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CitizenEntityRegistry()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the loaded entity of a citizen.
+     *
+     * @param colonyId  the id of the colony.
+     * @param citizenId the id of the citizen.
+     * @return the entity, empty if it isn't loaded or dead.
+     */
+    @NotNull
+    public static Optional<EntityCitizen> getEntity(final int colonyId, final int citizenId)
+    {
+        final EntityCitizen citizen = ENTITIES.get(getKey(colonyId, citizenId));
+        if (citizen != null && citizen.isDead)
+        {
+            onCitizenRemoved(citizen);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(citizen);
+    }
+
+    /**
+     * Start tracking the citizens of a world.
+     *
+     * @param world the loaded world.
+     */
+    public static void onWorldLoad(@NotNull final World world)
+    {
+        if (!world.isRemote)
+        {
+            world.addEventListener(new Listener());
+        }
+    }
+
+    /**
+     * Forget all citizens of a world.
+     *
+     * @param world the unloaded world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        if (!world.isRemote)
+        {
+            ENTITIES.values().removeIf(entity -> CompatibilityUtils.getWorld(entity) == world);
+            KEYS.keySet().removeIf(entity -> CompatibilityUtils.getWorld(entity) == world);
+        }
+    }
+
+    /**
+     * Register a citizen which joined a world.
+     * If another loaded entity is already registered for the same citizen, the new one is a duplicate and will be removed.
+     *
+     * @param citizen the citizen entity.
+     */
+    static void onCitizenAdded(@NotNull final EntityCitizen citizen)
+    {
+        final int colonyId = citizen.getCitizenColonyHandler().getColonyId();
+        if (colonyId == 0 || citizen.getCitizenId() == 0 || citizen.isDead)
+        {
+            return;
+        }
+
+        final long key = getKey(colonyId, citizen.getCitizenId());
+        final EntityCitizen existing = ENTITIES.get(key);
+        if (existing != null && existing != citizen && !existing.isDead)
+        {
+            Log.getLogger().warn(String.format("Citizen #%d:%d already has an entity, removing duplicate entity now!", colonyId, citizen.getCitizenId()));
+            citizen.setDead();
+            return;
+        }
+
+        if (existing != null && existing != citizen)
+        {
+            KEYS.remove(existing);
+        }
+        final Long oldKey = KEYS.put(citizen, key);
+        if (oldKey != null && oldKey != key)
+        {
+            ENTITIES.remove(oldKey, citizen);
+        }
+        ENTITIES.put(key, citizen);
+    }
+
+    /**
+     * Unregister a citizen which left a world.
+     *
+     * @param citizen the citizen entity.
+     */
+    static void onCitizenRemoved(@NotNull final EntityCitizen citizen)
+    {
+        final Long key = KEYS.remove(citizen);
+        if (key != null)
+        {
+            ENTITIES.remove(key, citizen);
+        }
+    }
+
+    /**
+     * Combine colony and citizen id to one key.
+     *
+     * @param colonyId  the id of the colony.
+     * @param citizenId the id of the citizen.
+     * @return the key.
+     */
+    private static long getKey(final int colonyId, final int citizenId)
+    {
+        return ((long) colonyId << Integer.SIZE) | (citizenId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * World listener forwarding the entity events of a server world to the registry.
+     */
+    private static final class Listener extends AbstractEntityWorldListener
+    {
+        @Override
+        public void onEntityAdded(@NotNull final Entity entity)
+        {
+            if (entity instanceof EntityCitizen)
+            {
+                onCitizenAdded((EntityCitizen) entity);
+            }
+        }
+
+        @Override
+        public void onEntityRemoved(@NotNull final Entity entity)
+        {
+            if (entity instanceof EntityCitizen)
+            {
+                onCitizenRemoved((EntityCitizen) entity);
+            }
+        }
+    }
+}
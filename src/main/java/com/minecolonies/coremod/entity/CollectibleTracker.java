@@ -0,0 +1,228 @@
+package com.minecolonies.coremod.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Server side index of the dropped items and experience orbs by world and chunk.
+ * Kept up to date by a world listener and the chunk change events of the entities,
+ * this way citizens can look for collectibles around them without searching the world.
+ */
+public final class CollectibleTracker
+{
+    /**
+     * The tracked collectibles by world and chunk.
+     */
+    private static final Map<World, Map<Long, Set<Entity>>> COLLECTIBLES = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private CollectibleTracker()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start tracking the collectibles of a world.
+     *
+     * @param world the loaded world.
+     */
+    public static void onWorldLoad(@NotNull final World world)
+    {
+        if (!world.isRemote)
+        {
+            COLLECTIBLES.put(world, new HashMap<>());
+            world.addEventListener(new Listener(world));
+        }
+    }
+
+    /**
+     * Forget all collectibles of a world.
+     *
+     * @param world the unloaded world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        COLLECTIBLES.remove(world);
+    }
+
+    /**
+     * Move a collectible to another chunk, called when an entity crosses a chunk border.
+     *
+     * @param entity    the entity.
+     * @param oldChunkX the x coordinate of the chunk it left.
+     * @param oldChunkZ the z coordinate of the chunk it left.
+     * @param newChunkX the x coordinate of the chunk it entered.
+     * @param newChunkZ the z coordinate of the chunk it entered.
+     */
+    public static void onEnteringChunk(@NotNull final Entity entity, final int oldChunkX, final int oldChunkZ, final int newChunkX, final int newChunkZ)
+    {
+        final Map<Long, Set<Entity>> chunks = COLLECTIBLES.get(entity.world);
+        if (chunks == null || !isCollectible(entity))
+        {
+            return;
+        }
+
+        if (remove(chunks, ChunkPos.asLong(oldChunkX, oldChunkZ), entity))
+        {
+            chunks.computeIfAbsent(ChunkPos.asLong(newChunkX, newChunkZ), key -> new HashSet<>()).add(entity);
+        }
+    }
+
+    /**
+     * Get the dropped items which are still alive and intersect an area.
+     *
+     * @param world the world.
+     * @param area  the area.
+     * @return a new list of the items.
+     */
+    @NotNull
+    public static List<EntityItem> getItems(@NotNull final World world, @NotNull final AxisAlignedBB area)
+    {
+        return getCollectibles(world, area, EntityItem.class);
+    }
+
+    /**
+     * Get the experience orbs which are still alive and intersect an area.
+     *
+     * @param world the world.
+     * @param area  the area.
+     * @return a new list of the orbs.
+     */
+    @NotNull
+    public static List<EntityXPOrb> getXPOrbs(@NotNull final World world, @NotNull final AxisAlignedBB area)
+    {
+        return getCollectibles(world, area, EntityXPOrb.class);
+    }
+
+    /**
+     * Get the collectibles of a type which are still alive and intersect an area.
+     *
+     * @param world the world.
+     * @param area  the area.
+     * @param type  the class of the collectibles.
+     * @param <T>   the type of the collectibles.
+     * @return a new list of the collectibles.
+     */
+    @NotNull
+    private static <T extends Entity> List<T> getCollectibles(@NotNull final World world, @NotNull final AxisAlignedBB area, @NotNull final Class<T> type)
+    {
+        final List<T> result = new ArrayList<>();
+        final Map<Long, Set<Entity>> chunks = COLLECTIBLES.get(world);
+        if (chunks == null || chunks.isEmpty())
+        {
+            return result;
+        }
+
+        // Entities are bucketed by their position, but their bounding box may reach into the next chunk.
+        final int minX = MathHelper.floor(area.minX - World.MAX_ENTITY_RADIUS) >> 4;
+        final int maxX = MathHelper.floor(area.maxX + World.MAX_ENTITY_RADIUS) >> 4;
+        final int minZ = MathHelper.floor(area.minZ - World.MAX_ENTITY_RADIUS) >> 4;
+        final int maxZ = MathHelper.floor(area.maxZ + World.MAX_ENTITY_RADIUS) >> 4;
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                final Set<Entity> chunk = chunks.get(ChunkPos.asLong(x, z));
+                if (chunk == null)
+                {
+                    continue;
+                }
+
+                for (final Entity entity : chunk)
+                {
+                    if (type.isInstance(entity) && !entity.isDead && entity.getEntityBoundingBox().intersects(area))
+                    {
+                        result.add(type.cast(entity));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if an entity is tracked.
+     *
+     * @param entity the entity.
+     * @return true if it is an item or an experience orb.
+     */
+    private static boolean isCollectible(@NotNull final Entity entity)
+    {
+        return entity instanceof EntityItem || entity instanceof EntityXPOrb;
+    }
+
+    /**
+     * Remove an entity from the set of a chunk.
+     *
+     * @param chunks the chunks of the world.
+     * @param key    the key of the chunk.
+     * @param entity the entity.
+     * @return true if it was tracked in the chunk.
+     */
+    private static boolean remove(@NotNull final Map<Long, Set<Entity>> chunks, final long key, @NotNull final Entity entity)
+    {
+        final Set<Entity> chunk = chunks.get(key);
+        if (chunk == null || !chunk.remove(entity))
+        {
+            return false;
+        }
+        if (chunk.isEmpty())
+        {
+            chunks.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * World listener forwarding the entity events of a server world to the tracker.
+     */
+    private static final class Listener extends AbstractEntityWorldListener
+    {
+        /**
+         * The world of the listener.
+         */
+        private final World world;
+
+        /**
+         * Create a listener for a world.
+         *
+         * @param world the world.
+         */
+        private Listener(@NotNull final World world)
+        {
+            this.world = world;
+        }
+
+        @Override
+        public void onEntityAdded(@NotNull final Entity entity)
+        {
+            final Map<Long, Set<Entity>> chunks = COLLECTIBLES.get(world);
+            if (chunks != null && isCollectible(entity))
+            {
+                chunks.computeIfAbsent(ChunkPos.asLong(entity.chunkCoordX, entity.chunkCoordZ), key -> new HashSet<>()).add(entity);
+            }
+        }
+
+        @Override
+        public void onEntityRemoved(@NotNull final Entity entity)
+        {
+            final Map<Long, Set<Entity>> chunks = COLLECTIBLES.get(world);
+            if (chunks != null && isCollectible(entity) && !remove(chunks, ChunkPos.asLong(entity.chunkCoordX, entity.chunkCoordZ), entity))
+            {
+                chunks.values().removeIf(chunk -> chunk.remove(entity) && chunk.isEmpty());
+            }
+        }
+    }
+}
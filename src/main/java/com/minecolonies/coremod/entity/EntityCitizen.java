@@ -162,6 +162,11 @@ public class EntityCitizen extends AbstractEntityCitizen
      */
     private final CitizenStuckHandler citizenStuckHandler;
 
+    /**
+     * The citizen level of detail handler.
+     */
+    private final CitizenLodHandler citizenLodHandler;
+
     /**
      * Citizen constructor.
      *
@@ -179,6 +184,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         this.citizenJobHandler = new CitizenJobHandler(this);
         this.citizenSleepHandler = new CitizenSleepHandler(this);
         this.citizenStuckHandler = new CitizenStuckHandler(this);
+        this.citizenLodHandler = new CitizenLodHandler(this);
 
         setSize((float) CITIZEN_WIDTH, (float) CITIZEN_HEIGHT);
         this.enablePersistence();
@@ -575,6 +581,11 @@ public class EntityCitizen extends AbstractEntityCitizen
     @Override
     public void onLivingUpdate()
     {
+        if (!CompatibilityUtils.getWorld(this).isRemote)
+        {
+            citizenLodHandler.onUpdate();
+        }
+
         super.onLivingUpdate();
 
         if (recentlyHit > 0)
@@ -591,6 +602,7 @@ public class EntityCitizen extends AbstractEntityCitizen
             {
                 this.setAlwaysRenderNameTag(Configurations.gameplay.alwaysRenderNameTag);
                 citizenItemHandler.pickupItems();
+                citizenExperienceHandler.gatherXp();
                 citizenChatHandler.cleanupChatMessages();
                 citizenColonyHandler.updateColonyServer();
 
@@ -624,25 +636,28 @@ public class EntityCitizen extends AbstractEntityCitizen
             getNavigator().moveAwayFromXYZ(this.getPosition(), MOVE_AWAY_RANGE, MOVE_AWAY_SPEED);
         }
 
-        citizenExperienceHandler.gatherXp();
         if (citizenData != null)
         {
-            if (citizenData.getSaturation() <= 0)
-            {
-                this.addPotionEffect(new PotionEffect(Potion.getPotionFromResourceLocation("slowness")));
-            }
-            else
+            // Saturation only changes through actions and eating, checking it in the staggered slot is enough.
+            if (getOffsetTicks() % TICKS_20 == 0)
             {
-                this.removeActivePotionEffect(Potion.getPotionFromResourceLocation("slowness"));
-            }
+                if (citizenData.getSaturation() <= 0)
+                {
+                    this.addPotionEffect(new PotionEffect(Potion.getPotionFromResourceLocation("slowness")));
+                }
+                else
+                {
+                    this.removeActivePotionEffect(Potion.getPotionFromResourceLocation("slowness"));
+                }
 
-            if (citizenData.getSaturation() < HIGH_SATURATION)
-            {
-                citizenData.getCitizenHappinessHandler().setFoodModifier(tryToEat()); 
-            } 
-            else  
-            { 
-                citizenData.getCitizenHappinessHandler().setSaturated();
+                if (citizenData.getSaturation() < HIGH_SATURATION)
+                {
+                    citizenData.getCitizenHappinessHandler().setFoodModifier(tryToEat());
+                }
+                else
+                {
+                    citizenData.getCitizenHappinessHandler().setSaturated();
+                }
             }
 
             if((distanceWalkedModified + 1.0) % ACTIONS_EACH_BLOCKS_WALKED == 0)
@@ -713,8 +728,7 @@ public class EntityCitizen extends AbstractEntityCitizen
      */
     private boolean tryToEat()
     {
-        final int slot = InventoryUtils.findFirstSlotInProviderNotEmptyWith(this,
-          itemStack -> !ItemStackUtils.isEmpty(itemStack) && itemStack.getItem() instanceof ItemFood);
+        final int slot = getCitizenData().getInventory().getFirstFoodSlot();
 
         if (slot == -1)
         {
@@ -1079,4 +1093,13 @@ public class EntityCitizen extends AbstractEntityCitizen
     {
         return citizenStuckHandler;
     }
+
+    /**
+     * The Handler for the level of detail of the simulation.
+     * @return the instance of the handler.
+     */
+    public CitizenLodHandler getCitizenLodHandler()
+    {
+        return citizenLodHandler;
+    }
 }
@@ -14,7 +14,9 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Skeleton class for worker ai.
@@ -37,11 +39,22 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     protected final ChatSpamFilter      chatSpamFilter;
     @NotNull
     private final   ArrayList<AITarget> targetList;
+    /**
+     * The targets which have to be checked in a state, in order of registration.
+     * Holds the state matching targets as well as the global ones.
+     * Compiled lazily and invalidated when new targets are registered.
+     */
+    @NotNull
+    private final Map<AIState, AITarget[]> targetsByState;
     /**
      * The current state the ai is in.
      * Used to compare to state matching targets.
      */
     private         AIState             state;
+    /**
+     * The number of ticks the ai has been updated, used for targets with a tick rate.
+     */
+    private         int                 tickCounter;
 
     /**
      * Sets up some important skeleton stuff for every ai.
@@ -58,6 +71,7 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
         }
 
         this.targetList = new ArrayList<>();
+        this.targetsByState = new EnumMap<>(AIState.class);
         setMutexBits(MUTEX_MASK);
         this.job = job;
         this.worker = this.job.getCitizen().getCitizenEntity().get();
@@ -74,6 +88,7 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     private void registerTarget(final AITarget target)
     {
         targetList.add(target);
+        targetsByState.clear();
     }
 
     /**
@@ -85,7 +100,38 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
      */
     protected final void registerTargets(final AITarget... targets)
     {
-        Arrays.asList(targets).forEach(this::registerTarget);
+        for (final AITarget target : targets)
+        {
+            registerTarget(target);
+        }
+    }
+
+    /**
+     * Get the targets which have to be checked in a state.
+     * These are the global targets and the ones matching the state,
+     * in the order of registration.
+     *
+     * @param currentState the state.
+     * @return the compiled targets.
+     */
+    @NotNull
+    private AITarget[] getTargets(@NotNull final AIState currentState)
+    {
+        AITarget[] targets = targetsByState.get(currentState);
+        if (targets == null)
+        {
+            final List<AITarget> matching = new ArrayList<>();
+            for (final AITarget target : targetList)
+            {
+                if (target.getState() == null || target.getState() == currentState)
+                {
+                    matching.add(target);
+                }
+            }
+            targets = matching.toArray(new AITarget[0]);
+            targetsByState.put(currentState, targets);
+        }
+        return targets;
     }
 
     /**
@@ -132,7 +178,20 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     @Override
     public final void updateTask()
     {
-        targetList.stream().anyMatch(this::checkOnTarget);
+        if (!worker.getCitizenLodHandler().isUpdateTick())
+        {
+            return;
+        }
+
+        final int previousTickCounter = tickCounter;
+        tickCounter += worker.getCitizenLodHandler().getSimulatedTicks();
+        for (final AITarget target : getTargets(state))
+        {
+            if (checkOnTarget(target, previousTickCounter))
+            {
+                return;
+            }
+        }
     }
 
     /**
@@ -150,19 +209,21 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
 
     /**
      * Checks on one target to see if it has to be executed.
-     * It first checks for the state of the ai.
-     * If that matches it tests the predicate if the ai
+     * The state of the ai is already matched by the compiled targets,
+     * so it first checks whether the target got due since the previous update.
+     * If that's the case it tests the predicate if the ai
      * wants to run the target.
      * And if that's a yes, runs the target.
      * Tester and target are both error-checked
      * to prevent minecraft from crashing on bad ai.
      *
-     * @param target the target to check
+     * @param target              the target to check
+     * @param previousTickCounter the tick counter of the previous update
      * @return true if this target worked and we should stop executing this tick
      */
-    private boolean checkOnTarget(@NotNull final AITarget target)
+    private boolean checkOnTarget(@NotNull final AITarget target, final int previousTickCounter)
     {
-        if (state != target.getState() && target.getState() != null)
+        if (tickCounter / target.getTickRate() == previousTickCounter / target.getTickRate())
         {
             return false;
         }
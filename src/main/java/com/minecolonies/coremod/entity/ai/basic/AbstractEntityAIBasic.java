@@ -16,6 +16,7 @@ import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.colony.buildings.BuildingStorageView;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
 import com.minecolonies.coremod.entity.ai.util.AIState;
@@ -25,15 +26,12 @@ import com.minecolonies.coremod.inventory.InventoryCitizen;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
-import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -88,6 +86,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      */
     private static final int HIT_EVERY_X_TICKS = 5;
 
+    /**
+     * Update the nametag and chestbelt every x ticks.
+     */
+    private static final int VISUAL_STATE_UPDATE_RATE = 10;
+
     /**
      * The block the ai is currently working at or wants to work.
      */
@@ -145,10 +148,10 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
           new AITarget(this::initSafetyChecks),
           /*
             Update chestbelt and nametag
-            Will be executed every time
+            Will be executed every few ticks
             and does not stop execution
            */
-          new AITarget(this::updateVisualState),
+          new AITarget(this::updateVisualState, VISUAL_STATE_UPDATE_RATE),
           /*
             If waitingForSomething returns true
             stop execution to wait for it.
@@ -293,7 +296,7 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
             }
 
             job.setCheckedForFood();
-            if (isInHut(itemStack -> (!ItemStackUtils.isEmpty(itemStack) && itemStack.getItem() instanceof ItemFood) || worker.getCitizenData().getSaturation() > 0))
+            if (worker.getCitizenData().getSaturation() > 0 || retrieveFoodInHut())
             {
                 return IDLE;
             }
@@ -442,7 +445,8 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
             {
                 worker.getCitizenItemHandler().hitBlockWithToolInHand(currentWorkingLocation);
             }
-            delay--;
+            //Citizens far away from players are only updated every few ticks, count all of them.
+            delay = Math.max(0, delay - worker.getCitizenLodHandler().getSimulatedTicks());
             return true;
         }
         clearWorkTarget();
@@ -595,33 +599,12 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     public boolean isInHut(@Nullable final Predicate<ItemStack> is)
     {
         @Nullable final AbstractBuildingWorker building = getOwnBuilding();
-
-        boolean hasItem;
-        if (building != null)
+        if (building == null || is == null)
         {
-            hasItem = isInTileEntity(building.getTileEntity(), is);
-
-            if (hasItem)
-            {
-                return true;
-            }
-
-            for (final BlockPos pos : building.getAdditionalCountainers())
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityChest)
-                {
-                    hasItem = isInTileEntity((TileEntityChest) entity, is);
-
-                    if (hasItem)
-                    {
-                        return true;
-                    }
-                }
-            }
+            return false;
         }
 
-        return false;
+        return takeItemStackFromStorage(building.getStorageView().locate(is, BuildingStorageView.CHESTS));
     }
 
     /**
@@ -633,33 +616,42 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     public boolean isInHut(@Nullable final ItemStack is)
     {
         @Nullable final AbstractBuildingWorker building = getOwnBuilding();
-
-        boolean hasItem;
-        if (building != null)
+        if (building == null || is == null)
         {
-            hasItem = isInTileEntity(building.getTileEntity(), is);
+            return false;
+        }
 
-            if (hasItem)
-            {
-                return true;
-            }
+        return takeItemStackFromStorage(building.getStorageView().locate(is, BuildingStorageView.CHESTS));
+    }
 
-            for (final BlockPos pos : building.getAdditionalCountainers())
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityChest)
-                {
-                    hasItem = isInTileEntity(entity, is);
+    /**
+     * Check all chests in the workers hut for food.
+     *
+     * @return true if food was found.
+     */
+    private boolean retrieveFoodInHut()
+    {
+        @Nullable final AbstractBuildingWorker building = getOwnBuilding();
+        return building != null && takeItemStackFromStorage(building.getStorageView().locateFood(BuildingStorageView.CHESTS));
+    }
 
-                    if (hasItem)
-                    {
-                        return true;
-                    }
-                }
-            }
+    /**
+     * Takes whatever is in a slot of the building storage and puts it in the worker inventory.
+     * If the inventory is full, only the fitting part will be moved.
+     *
+     * @param slot the slot found in the storage view, may be null.
+     * @return true if there was a slot to take from.
+     */
+    private boolean takeItemStackFromStorage(@Nullable final BuildingStorageView.StorageSlot slot)
+    {
+        if (slot == null)
+        {
+            return false;
         }
 
-        return false;
+        InventoryUtils.transferItemStackIntoNextFreeSlotInItemHandlers(slot.getHandler(), slot.getSlot(), new InvWrapper(worker.getInventoryCitizen()));
+        getOwnBuilding().getStorageView().onSlotChanged(slot);
+        return true;
     }
 
     /**
@@ -673,27 +665,6 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
         return walkToBlock(stand, DEFAULT_RANGE_FOR_DELAY);
     }
 
-    /**
-     * Finds the first @see ItemStack the type of {@code is}.
-     * It will be taken from the chest and placed in the worker inventory.
-     * Make sure that the worker stands next the chest to not break immersion.
-     * Also make sure to have inventory space for the stack.
-     *
-     * @param entity the tileEntity chest or building or rack.
-     * @param is     the itemStack.
-     * @return true if found the stack.
-     */
-    public boolean isInTileEntity(final TileEntity entity, final ItemStack is)
-    {
-        return is != null
-                 && InventoryFunctions
-                      .matchFirstInProviderWithAction(
-                        entity,
-                        stack -> !ItemStackUtils.isEmpty(stack) &&  ItemStackUtils.compareItemStacksIgnoreStackSize(is, stack, true, true),
-                        this::takeItemStackFromProvider
-                      );
-    }
-
     /**
      * Sets the block the AI is currently walking to.
      *
@@ -730,26 +701,6 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
         this.delay = timeout;
     }
 
-    /**
-     * Finds the first @see ItemStack the type of {@code is}.
-     * It will be taken from the chest and placed in the worker inventory.
-     * Make sure that the worker stands next the chest to not break immersion.
-     * Also make sure to have inventory space for the stack.
-     *
-     * @param entity                      the tileEntity chest or building.
-     * @param itemStackSelectionPredicate the criteria.
-     * @return true if found the stack.
-     */
-    public boolean isInTileEntity(final TileEntityChest entity, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
-    {
-        return InventoryFunctions
-                 .matchFirstInProviderWithAction(
-                   entity,
-                   itemStackSelectionPredicate,
-                   this::takeItemStackFromProvider
-                 );
-    }
-
     /**
      * Request an Item without spamming the chat.
      *
@@ -762,44 +713,6 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     }
     */
 
-    /**
-     * Finds the first @see ItemStack the type of {@code is}.
-     * It will be taken from the chest and placed in the worker inventory.
-     * Make sure that the worker stands next the chest to not break immersion.
-     * Also make sure to have inventory space for the stack.
-     *
-     * @param entity   the tileEntity chest or building.
-     * @param toolType the type of tool.
-     * @param minLevel the min tool level.
-     * @param maxLevel the max tool lev	el.
-     * @return true if found the tool.
-     */
-    public boolean retrieveToolInTileEntity(final TileEntity entity, final IToolType toolType, final int minLevel, final int maxLevel)
-    {
-        if (ToolType.NONE.equals(toolType))
-        {
-            return false;
-        }
-        return InventoryFunctions.matchFirstInProviderWithAction(
-          entity,
-          stack -> ItemStackUtils.hasToolLevel(stack, toolType, minLevel, maxLevel),
-          this::takeItemStackFromProvider
-        );
-    }
-
-    /**
-     * Takes whatever is in that slot of the worker chest and puts it in his inventory.
-     * If the inventory is full, only the fitting part will be moved.
-     * Beware this method shouldn't be private, because the generic access won't work within a lambda won't work else.
-     *
-     * @param provider  The provider to take from.
-     * @param slotIndex The slot to take.
-     */
-    public void takeItemStackFromProvider(@NotNull final ICapabilityProvider provider, final int slotIndex)
-    {
-        InventoryUtils.transferItemStackIntoNextFreeSlotFromProvider(provider, slotIndex, new InvWrapper(worker.getInventoryCitizen()));
-    }
-
     /**
      * Ensures that we have a appropriate tool available.
      * Will set {@code needsTool} accordingly.
@@ -920,25 +833,12 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     public boolean retrieveToolInHut(final IToolType toolType, final int minimalLevel)
     {
         @Nullable final AbstractBuildingWorker building = getOwnBuilding();
-
-        if (building != null)
+        if (building == null || ToolType.NONE.equals(toolType))
         {
-            if (retrieveToolInTileEntity(building.getTileEntity(), toolType, minimalLevel, getOwnBuilding().getMaxToolLevel()))
-            {
-                return true;
-            }
-
-            for (final BlockPos pos : building.getAdditionalCountainers())
-            {
-                final TileEntity entity = world.getTileEntity(pos);
-                if (entity instanceof TileEntityChest && retrieveToolInTileEntity((TileEntityChest) entity, toolType, minimalLevel, getOwnBuilding().getMaxToolLevel()))
-                {
-                    return true;
-                }
-            }
+            return false;
         }
 
-        return false;
+        return takeItemStackFromStorage(building.getStorageView().locateTool(toolType, minimalLevel, building.getMaxToolLevel(), BuildingStorageView.CHESTS));
     }
 
     /**
@@ -1094,24 +994,8 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
     {
         final IToolType toolType = WorkerUtil.getBestToolForBlock(target);
         final int required = WorkerUtil.getCorrectHavestLevelForBlock(target);
-        int bestSlot = -1;
-        int bestLevel = Integer.MAX_VALUE;
-        @NotNull final InventoryCitizen inventory = worker.getInventoryCitizen();
         final int maxToolLevel = worker.getCitizenColonyHandler().getWorkBuilding().getMaxToolLevel();
-
-        for (int i = 0; i < new InvWrapper(worker.getInventoryCitizen()).getSlots(); i++)
-        {
-            final ItemStack item = inventory.getStackInSlot(i);
-            final int level = ItemStackUtils.getMiningLevel(item, toolType);
-            if (level >= required && level < bestLevel
-                  && (toolType == ToolType.NONE || ItemStackUtils.verifyToolLevel(item, level, required, maxToolLevel)))
-            {
-                bestSlot = i;
-                bestLevel = level;
-            }
-        }
-
-        return bestSlot;
+        return worker.getInventoryCitizen().getBestToolSlot(toolType, required, maxToolLevel);
     }
 
     /**
@@ -1260,7 +1144,8 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      */
     public boolean checkIfRequestForItemExistOrCreate(@NotNull final ItemStack stack)
     {
-        if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
+        if (worker.getInventoryCitizen().hasItem(new ItemStorage(stack))
+              && InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
           s -> ItemStackUtils.compareItemStacksIgnoreStackSize(s, stack)))
         {
             return true;
@@ -1308,7 +1193,8 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob> extends Abstr
      */
     public boolean checkIfRequestForItemExistOrCreateAsynch(@NotNull final ItemStack stack)
     {
-        if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
+        if (worker.getInventoryCitizen().getItemCount(new ItemStorage(stack)) >= stack.getCount()
+              && InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
           s -> ItemStackUtils.compareItemStacksIgnoreStackSize(s, stack) && s.getCount() >= stack.getCount()))
         {
             return true;
@@ -3,9 +3,9 @@ package com.minecolonies.coremod.entity.ai.basic;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.entity.CollectibleTracker;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.entity.item.EntityItem;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -289,7 +289,7 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
      */
     public void searchForItems(final AxisAlignedBB boundingBox)
     {
-        items = world.getEntitiesWithinAABB(EntityItem.class, boundingBox)
+        items = CollectibleTracker.getItems(world, boundingBox)
                   .stream()
                   .filter(item -> item != null && !item.isDead &&
                           (!item.getEntityData().hasKey("PreventRemoteMovement") || !item.getEntityData().getBoolean("PreventRemoteMovement")))
@@ -41,8 +41,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -135,6 +138,10 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
            * Check if tasks should be executed.
            */
           new AITarget(this::checkIfCanceled, IDLE),
+          /*
+           * Count the required materials before working on the structure.
+           */
+          new AITarget(this::isCountingMaterials, this::countMaterials),
           /*
            * Select the appropriate State to do next.
            */
@@ -710,7 +717,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
                 final StructureWrapper wrapper = new StructureWrapper(world, name);
 
                 ((AbstractJobStructure) job).setStructure(wrapper);
-                currentStructure = new Structure(world, wrapper, removal ? Structure.Stage.REMOVE : Structure.Stage.CLEAR);
+                currentStructure = new Structure(world, wrapper, removal ? Structure.Stage.REMOVE : Structure.Stage.CLEAR, getCompletedBlocks(wrapper));
             }
             catch (final IllegalStateException e)
             {
@@ -749,6 +756,28 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
      */
     protected abstract boolean checkIfCanceled();
 
+    /**
+     * Check if the materials of the structure are still being counted.
+     * Workers counting their materials over several ticks should override this.
+     *
+     * @return true if so.
+     */
+    protected boolean isCountingMaterials()
+    {
+        return false;
+    }
+
+    /**
+     * Count the next part of the materials of the structure.
+     *
+     * @return the state to stay in while counting or null to continue in this tick.
+     */
+    @Nullable
+    protected AIState countMaterials()
+    {
+        return null;
+    }
+
     /**
      * Works on clearing the area of unneeded blocks.
      *
@@ -862,6 +891,19 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
 
     protected abstract void onStartWithoutStructure();
 
+    /**
+     * Get the positions of a structure which have already been completed, to continue where the worker stopped.
+     * Workers which store their progress should override this.
+     *
+     * @param structure the loaded structure.
+     * @return the modifiable map of completed positions by stage.
+     */
+    @NotNull
+    protected Map<Structure.Stage, BitSet> getCompletedBlocks(@NotNull final StructureWrapper structure)
+    {
+        return new EnumMap<>(Structure.Stage.class);
+    }
+
     /*
     * Get specific data of an entity.
     * Workers should implement this correctly if they require this behavior.
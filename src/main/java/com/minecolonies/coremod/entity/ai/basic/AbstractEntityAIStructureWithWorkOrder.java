@@ -1,13 +1,11 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
-import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.BlockPosUtil;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
-import com.minecolonies.coremod.blocks.schematic.BlockSolidSubstitution;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingStructureBuilder;
 import com.minecolonies.coremod.colony.buildings.utils.BuildingBuilderResource;
@@ -16,9 +14,11 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildRemoval;
+import com.minecolonies.coremod.entity.ai.util.AIState;
+import com.minecolonies.coremod.entity.ai.util.Structure;
+import com.minecolonies.coremod.util.MaterialList;
+import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockBed;
-import net.minecraft.block.BlockDoor;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
@@ -27,12 +27,15 @@ import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
-import static com.minecolonies.api.util.constant.Suppression.LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDCOMPLETE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDSTART;
 
@@ -42,6 +45,17 @@ import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECO
  */
 public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJobStructure> extends AbstractEntityAIStructure<J>
 {
+    /**
+     * The material list of the structure while the materials are counted, null otherwise.
+     */
+    @Nullable
+    private Future<MaterialList> materialList = null;
+
+    /**
+     * The next entry of the material list to count, negative if the totals haven't been added yet.
+     */
+    private int materialIndex = -1;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -131,102 +145,140 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         workOrder.setRequested(false);
 
         //We need to deal with materials
-        requestMaterials();
+        requestMaterials(tempRotation, workOrder.isMirrored());
     }
 
     /**
-     * Iterates through all the required resources and stores them in the building.
-     * Suppressing Sonar Rule Squid:S135
-     * The rule thinks we should have less continue and breaks.
-     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     * Starts to count the required resources of the structure and to store them in the building.
+     * The raw list of the structure is cached, the blocks which are already placed are subtracted over the next ticks.
+     *
+     * @param rotation the rotation of the structure.
+     * @param mirror   if the structure is mirrored.
      */
-    @SuppressWarnings(LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT)
-    private void requestMaterials()
+    private void requestMaterials(final int rotation, final boolean mirror)
     {
-        if (Configurations.gameplay.builderInfiniteResources || job.getWorkOrder().isRequested() || job.getWorkOrder() instanceof WorkOrderBuildRemoval)
+        if (Configurations.gameplay.builderInfiniteResources || job.getWorkOrder().isRequested() || job.getWorkOrder() instanceof WorkOrderBuildRemoval
+              || job.getStructure() == null)
         {
             return;
         }
 
-        final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        buildingWorker.resetNeededResources();
+        getOwnBuilding(AbstractBuildingStructureBuilder.class).resetNeededResources();
+        materialList = MaterialList.getMaterialList(job.getStructure(), rotation, mirror);
+        materialIndex = -1;
+    }
+
+    @Override
+    protected boolean isCountingMaterials()
+    {
+        return materialList != null;
+    }
+
+    @Override
+    @Nullable
+    protected AIState countMaterials()
+    {
+        if (job.getStructure() == null || job.getWorkOrder() == null)
+        {
+            materialList = null;
+            return null;
+        }
 
-        while (job.getStructure().findNextBlock())
+        if (!materialList.isDone())
         {
-            @Nullable final Template.BlockInfo blockInfo = job.getStructure().getBlockInfo();
-            @Nullable final Template.EntityInfo entityInfo = job.getStructure().getEntityinfo();
+            return getState();
+        }
 
-            if (entityInfo != null)
+        final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
+        final List<MaterialList.Entry> entries;
+        try
+        {
+            final MaterialList list = materialList.get();
+            if (materialIndex < 0)
             {
-                for (final ItemStack stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, worker))
+                for (final Map.Entry<ItemStorage, Integer> total : list.getTotals().entrySet())
                 {
-                    if (!ItemStackUtils.isEmpty(stack))
-                    {
-                        buildingWorker.addNeededResource(stack, 1);
-                    }
+                    buildingWorker.addNeededResource(total.getKey().getItemStack().copy(), total.getValue());
                 }
+                materialIndex = 0;
             }
+            entries = list.getEntries();
+        }
+        catch (final InterruptedException | ExecutionException | CancellationException e)
+        {
+            Log.getLogger().warn("Couldn't calculate the materials of " + job.getStructure().getName(), e);
+            materialList = null;
+            job.getWorkOrder().setRequested(true);
+            return null;
+        }
 
-            if (blockInfo == null)
-            {
-                continue;
-            }
-
-            @Nullable IBlockState blockState = blockInfo.blockState;
-            @Nullable Block block = blockState.getBlock();
-
-            if (job.getStructure().isStructureBlockEqualWorldBlock()
-                  || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
-                  || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
-            {
-                continue;
-            }
-
-            if (block instanceof BlockSolidSubstitution)
-            {
-                blockState = getSolidSubstitution(job.getStructure().getBlockPosition());
-                block = blockState.getBlock();
-            }
-
-            final Block worldBlock = BlockPosUtil.getBlock(world, job.getStructure().getBlockPosition());
+        final int end = Math.min(entries.size(), materialIndex + Configurations.gameplay.maxBlocksCheckedByBuilder);
+        for (; materialIndex < end; materialIndex++)
+        {
+            countEntry(buildingWorker, entries.get(materialIndex));
+        }
 
-            if (block != null
-                  && block != Blocks.AIR
-                  && worldBlock != Blocks.BEDROCK
-                  && !(worldBlock instanceof AbstractBlockHut)
-                  && !isBlockFree(block, 0))
-            {
-                requestBlockToBuildingIfRequired(buildingWorker, blockState);
-            }
+        if (materialIndex < entries.size())
+        {
+            return getState();
         }
+
+        materialList = null;
         job.getWorkOrder().setRequested(true);
+        return null;
     }
 
     /**
-     * Add blocks to the builder building if he needs it.
+     * Compare a position of the material list with the world, subtract its item if it's already placed
+     * and add the items which depend on the world otherwise.
      *
-     * @param building   the building.
-     * @param blockState the block to add.
+     * @param building the building.
+     * @param entry    the position.
      */
-    private void requestBlockToBuildingIfRequired(final AbstractBuildingStructureBuilder building, final IBlockState blockState)
+    private void countEntry(final AbstractBuildingStructureBuilder building, final MaterialList.Entry entry)
     {
-        if (job.getStructure().getBlockInfo().tileentityData != null)
-        {
-            final List<ItemStack> itemList = new ArrayList<>();
-            itemList.addAll(getItemsFromTileEntity());
+        final StructureWrapper structure = job.getStructure();
+        final BlockPos worldPos = entry.getPos().add(structure.getOffsetPosition());
+        final Block worldBlock = BlockPosUtil.getBlock(world, worldPos);
+        final boolean placed = structure.isStructureBlockEqualWorldBlock(entry.getPos());
 
-            for (final ItemStack stack : itemList)
+        if (entry.hasEntity() && !placed)
+        {
+            for (final ItemStack stack : ItemStackUtils.getListOfStackForEntityInfo(structure.getStructure().getEntityinfo(entry.getPos()), world, worker))
             {
-                building.addNeededResource(stack, 1);
+                if (!ItemStackUtils.isEmpty(stack))
+                {
+                    building.addNeededResource(stack, 1);
+                }
             }
         }
 
-        if (!ChiselAndBitsCheck.isChiselAndBitsBlock(blockState)
-              && blockState.getBlock() != Blocks.BED
-              && blockState.getBlock() != Blocks.STANDING_BANNER
-              && blockState.getBlock() != Blocks.WALL_BANNER)
+        final boolean skip = placed || worldBlock == Blocks.BEDROCK || worldBlock instanceof AbstractBlockHut;
+        final ItemStack item = entry.getItem();
+        if (item != null && skip)
+        {
+            building.reduceNeededResource(item, 1);
+        }
+
+        if (skip)
         {
-            building.addNeededResource(BlockUtils.getItemStackFromBlockState(blockState), 1);
+            return;
+        }
+
+        if (entry.isSolidSubstitution())
+        {
+            final IBlockState blockState = getSolidSubstitution(worldPos);
+            if (blockState.getBlock() != Blocks.AIR && !isBlockFree(blockState.getBlock(), 0))
+            {
+                building.addNeededResource(MaterialList.getRequiredItem(blockState), 1);
+            }
+        }
+        else if (entry.hasTileEntity())
+        {
+            for (final ItemStack stack : ItemStackUtils.getItemStacksOfTileEntity(structure.getStructure().getBlockInfo(entry.getPos()).tileentityData, world))
+            {
+                building.addNeededResource(stack, 1);
+            }
         }
     }
 
@@ -237,13 +289,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         {
             return 0;
         }
-        final int hashCode = deliveredItemStack.hasTagCompound() ? deliveredItemStack.getTagCompound().hashCode() : 0;
-        final BuildingBuilderResource resource
-                = getOwnBuilding(AbstractBuildingStructureBuilder.class)
-                .getNeededResources()
-                .get(deliveredItemStack.getUnlocalizedName()
-                        + ":" + deliveredItemStack.getItemDamage()
-                        + "-" + hashCode);
+        final BuildingBuilderResource resource = getOwnBuilding(AbstractBuildingStructureBuilder.class).getNeededResource(deliveredItemStack);
         if (resource != null)
         {
             return resource.getAmount();
@@ -350,6 +396,17 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         }
     }
 
+    @NotNull
+    @Override
+    protected Map<Structure.Stage, BitSet> getCompletedBlocks(@NotNull final StructureWrapper structure)
+    {
+        if (job.getWorkOrder() == null)
+        {
+            return super.getCompletedBlocks(structure);
+        }
+        return job.getWorkOrder().getCompletedBlocks(structure.getWidth() * structure.getHeight() * structure.getLength());
+    }
+
     @Override
     public Template.EntityInfo getEntityInfo()
     {
@@ -374,9 +431,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         {
             return null;
         }
-        final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-        final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        final BuildingBuilderResource resource = buildingWorker.getNeededResources().get(stack.getUnlocalizedName() + ":" + stack.getItemDamage() + "-" + hashCode);
+        final BuildingBuilderResource resource = getOwnBuilding(AbstractBuildingStructureBuilder.class).getNeededResource(stack);
 
         if(resource == null)
         {
@@ -7,6 +7,7 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingCook;
 import com.minecolonies.coremod.colony.jobs.JobCook;
+import com.minecolonies.coremod.colony.managers.IHungerManager;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIUsesFurnace;
 import com.minecolonies.coremod.entity.ai.util.AIState;
@@ -141,6 +142,7 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
         if (InventoryUtils.isItemHandlerFull(new InvWrapper(citizenToServe.get(0).getInventoryCitizen())))
         {
             chatSpamFilter.talkWithoutSpam(HUNGRY_INV_FULL);
+            getHungerManager().releaseHungryCitizen(citizenToServe.get(0).getCitizenId(), worker.getCitizenId());
             citizenToServe.remove(0);
             setDelay(SERVE_DELAY);
             return getState();
@@ -159,7 +161,7 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
     /**
      * Checks if the cook has anything important to do before going to the default furnace user jobs.
      * First calculate the building range if not cached yet.
-     * Then check for citizens around the building.
+     * Then claim the closest starving citizen around the building which no other cook is serving.
      * If no citizen around switch to default jobs.
      * If citizens around check if food in inventory, if not, switch to gather job.
      * If food in inventory switch to serve job.
@@ -174,15 +176,18 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
         }
 
         citizenToServe.clear();
-        final List<EntityCitizen> citizenList = world.getEntitiesWithinAABB(EntityCitizen.class,
-                range, cit -> !(cit.getCitizenJobHandler().getColonyJob() instanceof JobCook) && cit.getCitizenData() != null && cit.getCitizenData().getSaturation() <= 0);
-        if (!citizenList.isEmpty())
+        if (getHungerManager().hasHungryCitizen(range, worker.getCitizenId()))
         {
-            citizenToServe.addAll(citizenList);
             if (InventoryUtils.hasItemInItemHandler(
                     new InvWrapper(worker.getInventoryCitizen()), ItemStackUtils.ISFOOD))
             {
-                return COOK_SERVE_FOOD_TO_CITIZEN;
+                final EntityCitizen hungryCitizen = getHungerManager().claimHungryCitizen(range, worker.getPosition(), worker.getCitizenId());
+                if (hungryCitizen != null)
+                {
+                    citizenToServe.add(hungryCitizen);
+                    return COOK_SERVE_FOOD_TO_CITIZEN;
+                }
+                return START_WORKING;
             }
 
             needsCurrently = ItemStackUtils.ISFOOD;
@@ -191,6 +196,16 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
         return START_WORKING;
     }
 
+    /**
+     * Get the hunger manager of the colony of the cook.
+     *
+     * @return the manager.
+     */
+    private IHungerManager getHungerManager()
+    {
+        return worker.getCitizenColonyHandler().getColony().getHungerManager();
+    }
+
     @Override
     protected IRequestable getSmeltAbleClass()
     {
@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.InventoryFunctions;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.blockout.Log;
@@ -610,7 +611,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
             this.world.notifyNeighborsOfStateChange(tileEntity.getPos().down(), tileEntity.getBlockType(), true);
         }
 
-        if (isInTileEntity(tileEntity, request.getRequest().getStack()))
+        if (takeFromContainer(tileEntity, request.getRequest().getStack()))
         {
             setDelay(DUMP_AND_GATHER_DELAY);
             return DELIVERY;
@@ -621,6 +622,22 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         return START_WORKING;
     }
 
+    /**
+     * Take the first stack equal to the given one, ignoring the stack size, from a container into the inventory of the worker.
+     *
+     * @param container the container to take from, may be null.
+     * @param stack     the stack to look for.
+     * @return true if a stack was found.
+     */
+    private boolean takeFromContainer(@Nullable final TileEntity container, @NotNull final ItemStack stack)
+    {
+        return container != null
+                 && InventoryFunctions.matchFirstInProviderWithAction(
+          container,
+          current -> !ItemStackUtils.isEmpty(current) && ItemStackUtils.compareItemStacksIgnoreStackSize(stack, current, true, true),
+          (provider, slot) -> InventoryUtils.transferItemStackIntoNextFreeSlotFromProvider(provider, slot, new InvWrapper(worker.getInventoryCitizen())));
+    }
+
     /**
      * Check the wareHouse for the next task.
      *
@@ -1,12 +1,10 @@
 package com.minecolonies.coremod.entity.ai.citizen.farmer;
 
 import com.minecolonies.api.compatibility.Compatibility;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.IToolType; 
 import com.minecolonies.api.util.constant.ToolType;
-import com.minecolonies.coremod.blocks.huts.BlockHutField;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
@@ -14,11 +12,10 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.tileentities.FieldStateMap;
+import com.minecolonies.coremod.tileentities.FieldStateMap.FieldAction;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
-import net.minecraft.block.Block;
 import net.minecraft.block.BlockCrops;
-import net.minecraft.block.BlockStem;
-import net.minecraft.block.IGrowable;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -33,7 +30,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -168,7 +164,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(currentField);
         if (entity instanceof ScarecrowTileEntity && ((ScarecrowTileEntity) entity).needsWork())
         {
-            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHarvest))
+            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, FieldAction.HARVEST))
             {
                 return FARMER_HARVEST;
             }
@@ -176,7 +172,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             {
                 return canGoPlanting((ScarecrowTileEntity) entity, building);
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHoe))
+            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, FieldAction.HOE))
             {
                 return FARMER_HOE;
             }
@@ -221,32 +217,70 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
 
     /**
      * Handles the offset of the field for the farmer.
-     * Checks if the field needs a certain operation checked with a given predicate.
+     * Checks if the field needs a certain operation, using the state map of the field.
      *
-     * @param field     the field object.
-     * @param predicate the predicate to test.
-     * @return true if a harvestable crop was found.
+     * @param field  the field object.
+     * @param action the action to check.
+     * @return true if a block needing the action was found.
      */
-    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final Predicate<BlockPos> predicate)
+    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final FieldAction action)
     {
+        if (!field.getFieldStateMap().needsAny(world, action))
+        {
+            workingOffset = null;
+            return false;
+        }
+
         if (workingOffset == null)
         {
             handleOffset(field);
         }
 
-        BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
+        return field.getFieldStateMap().needs(world, action, workingOffset.getX(), workingOffset.getZ()) || moveToNextBlock(field, action);
+    }
 
-        while (!predicate.test(position))
+    /**
+     * Move the offset to the next block of the field which needs an action, skipping all others.
+     *
+     * @param field  the field object.
+     * @param action the action.
+     * @return false if there is no block left.
+     */
+    private boolean moveToNextBlock(@NotNull final ScarecrowTileEntity field, @NotNull final FieldAction action)
+    {
+        do
         {
             if (!handleOffset(field))
             {
                 return false;
             }
-            position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
         }
+        while (!field.getFieldStateMap().needs(world, action, workingOffset.getX(), workingOffset.getZ()));
         return true;
     }
 
+    /**
+     * Get the field action belonging to a state of the farmer.
+     *
+     * @param state the state.
+     * @return the action or null if the state is no field work.
+     */
+    @Nullable
+    private static FieldAction getFieldAction(@NotNull final AIState state)
+    {
+        switch (state)
+        {
+            case FARMER_HOE:
+                return FieldAction.HOE;
+            case FARMER_PLANT:
+                return FieldAction.PLANT;
+            case FARMER_HARVEST:
+                return FieldAction.HARVEST;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Checks if the farmer is ready to plant.
      *
@@ -398,11 +432,13 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                     default:
                         return PREPARING;
                 }
+                ((ScarecrowTileEntity) entity).getFieldStateMap().markChanged(position);
                 prevPos = position;
             }
             setDelay(getLevelDelay());
 
-            if (!handleOffset((ScarecrowTileEntity) entity))
+            final FieldAction action = getFieldAction(getState());
+            if (action == null || !moveToNextBlock((ScarecrowTileEntity) entity, action))
             {
                 shouldDumpInventory = true;
                 ((ScarecrowTileEntity) entity).nextState();
@@ -421,7 +457,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean hoeIfAble(final BlockPos position)
     {
-        if (shouldHoe(position) && !checkForToolOrWeapon(ToolType.HOE))
+        if (FieldStateMap.shouldHoe(world, position) && !checkForToolOrWeapon(ToolType.HOE))
         {
             if (mineBlock(position.up()))
             {
@@ -445,7 +481,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean tryToPlant(final ScarecrowTileEntity field, final BlockPos position)
     {
-        return !shouldPlant(position, field) || plantCrop(field.getSeed(), position);
+        return !FieldStateMap.shouldPlant(world, position, field) || plantCrop(field.getSeed(), position);
     }
 
     /**
@@ -455,7 +491,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean harvestIfAble(final BlockPos position)
     {
-        if (shouldHarvest(position))
+        if (FieldStateMap.shouldHarvest(world, position))
         {
             worker.getCitizenExperienceHandler().addExperience(XP_PER_HARVEST);
             if (Compatibility.isPamsInstalled())
@@ -475,19 +511,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return (int) Math.max(SMALLEST_DELAY, STANDARD_DELAY - (this.worker.getCitizenExperienceHandler().getLevel() * DELAY_DIVIDER));
     }
 
-    /**
-     * Checks if the ground should be hoed and the block above removed.
-     *
-     * @param position the position to check.
-     * @return true if should be hoed.
-     */
-    private boolean shouldHoe(@NotNull final BlockPos position)
-    {
-        return !BlockUtils.isBlockSeed(world, position.up())
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
-                 && (world.getBlockState(position).getBlock() == Blocks.DIRT || world.getBlockState(position).getBlock() == Blocks.GRASS);
-    }
-
     /**
      * Sets the hoe as held item.
      */
@@ -496,20 +519,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         worker.getCitizenItemHandler().setHeldItem(EnumHand.MAIN_HAND, getHoeSlot());
     }
 
-    /**
-     * Checks if the ground should be planted.
-     *
-     * @param position the position to check.
-     * @param field    the field close to this position.
-     * @return true if the farmer should plant.
-     */
-    private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
-    {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                 && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
-    }
-
     /**
      * Plants the crop at a given location.
      *
@@ -536,31 +545,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return true;
     }
 
-    /**
-     * Checks if the crop should be harvested.
-     *
-     * @param position the position to check.
-     * @return true if should be harvested.
-     */
-    private boolean shouldHarvest(@NotNull final BlockPos position)
-    {
-        final IBlockState state = world.getBlockState(position.up());
-        final Block block = state.getBlock();
-
-        if (block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK)
-        {
-            return true;
-        }
-
-        if (block instanceof IGrowable && block instanceof BlockCrops && !(block instanceof BlockStem))
-        {
-            @NotNull final BlockCrops crop = (BlockCrops) block;
-            return crop.isMaxAge(state);
-        }
-
-        return false;
-    }
-
     /**
      * Harvest the crop (only if pams is installed).
      *
@@ -6,6 +6,7 @@ import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFisherman;
 import com.minecolonies.coremod.colony.jobs.JobFisherman;
+import com.minecolonies.coremod.colony.managers.IPondManager;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.EntityFishHook;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
@@ -22,6 +23,7 @@ import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemFishingRod;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
@@ -59,11 +61,6 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private static final String RENDER_META_ROD = "Rod";
 
-    /**
-     * The maximum number of ponds to remember at one time.
-     */
-    private static final int MAX_PONDS = 20;
-
     /**
      * Variable to calculate the delay the fisherman needs to throw his rod.
      * The delay will be calculated randomly. The FISHING_DELAY defines the upper limit.
@@ -334,7 +331,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
-            job.removeFromPonds(job.getWater());
+            getPondManager().removePond(job.getWater());
             job.setWater(null);
             executedRotations = 0;
             return FISHERMAN_SEARCHING_WATER;
@@ -346,8 +343,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     }
 
     /**
-     * Checks if the fisherman already has found 20 pools, if yes search a water pool out of these 20, else
-     * search a new one.
+     * Reserves a fishing spot the colony already knows, only if there is none free search a new one.
      *
      * @return the next AIState the fisherman should switch to, after executing this method.
      */
@@ -357,40 +353,36 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         //Reset executedRotations when fisherman searches a new Pond
         executedRotations = 0;
-        //If he can't find any pond, tell that to the player
-        //If 20 ponds are already stored, take a random stored location
-        if (job.getPonds().size() >= MAX_PONDS)
+        if (pathResult == null)
         {
-            return setRandomWater();
+            final BlockPos knownPond = getPondManager().reservePond(getOwnBuilding().getLocation(), SEARCH_RANGE, worker.getCitizenId());
+            if (knownPond != null)
+            {
+                job.setWater(knownPond);
+                return FISHERMAN_CHECK_WATER;
+            }
         }
         return findNewWater();
     }
 
     /**
-     * If the fisherman can't find 20 ponds or already has found 20, the fisherman should randomly choose a fishing spot
-     * from the previously found ones.
+     * If the fisherman couldn't find a new pond, tell that to the player if the colony doesn't know any and search again.
      *
      * @return the next AIState.
      */
-    private AIState setRandomWater()
+    private AIState retrySearch()
     {
-        if (job.getPonds().isEmpty())
+        if (lastPathResult != null && lastPathResult.isEmpty && !lastPathResult.isCancelled())
         {
-            if (lastPathResult != null && lastPathResult.isEmpty && !lastPathResult.isCancelled())
-            {
-                chatSpamFilter.talkWithoutSpam("entity.fisherman.messageWaterTooFar");
-            }
-            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
-            return getState();
+            chatSpamFilter.talkWithoutSpam("entity.fisherman.messageWaterTooFar");
         }
-        job.setWater(job.getPonds().get(random.nextInt(job.getPonds().size())));
-
-        return FISHERMAN_CHECK_WATER;
+        pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, getPondManager().copyPondIndex());
+        return getState();
     }
 
     /**
      * Uses the pathFinding system to search close water spots which possibilitate fishing.
-     * Sets a number of possible water pools and sets the water pool the fisherman should fish now.
+     * Registers the found water pool at the colony and reserves it for the fisherman.
      *
      * @return the next AIState the fisherman should switch to, after executing this method
      */
@@ -398,19 +390,20 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     {
         if (pathResult == null)
         {
-            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
+            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, getPondManager().copyPondIndex());
             return getState();
         }
         if (pathResult.failedToReachDestination())
         {
-            return setRandomWater();
+            return retrySearch();
         }
         if (pathResult.isPathReachingDestination())
         {
             if (pathResult.pond != null)
             {
-                job.setWater(pathResult.pond);
-                job.addToPonds(pathResult.pond);
+                getPondManager().registerPond(pathResult.pond);
+                final BlockPos reservedPond = getPondManager().reservePond(pathResult.pond, 0, worker.getCitizenId());
+                job.setWater(reservedPond == null ? pathResult.pond : reservedPond);
             }
             lastPathResult = pathResult;
             pathResult = null;
@@ -424,6 +417,16 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         return getState();
     }
 
+    /**
+     * Get the pond manager of the colony of the fisherman.
+     *
+     * @return the manager.
+     */
+    private IPondManager getPondManager()
+    {
+        return worker.getCitizenColonyHandler().getColony().getPondManager();
+    }
+
     /**
      * Main fishing methods,
      * let's the fisherman gather xp orbs next to him,
@@ -448,6 +451,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
             playCaughtFishSound();
             if (random.nextDouble() < CHANCE_NEW_POND)
             {
+                getPondManager().releasePond(job.getWater(), worker.getCitizenId());
                 job.setWater(null);
                 return FISHERMAN_SEARCHING_WATER;
             }
@@ -561,7 +565,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (world.getBlockState(worker.getPosition()).getBlock() == Blocks.WATER)
         {
-            job.removeFromPonds(job.getWater());
+            getPondManager().removePond(job.getWater());
             job.setWater(null);
             return FISHERMAN_SEARCHING_WATER;
         }
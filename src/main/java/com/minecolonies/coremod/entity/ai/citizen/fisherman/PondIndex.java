@@ -0,0 +1,157 @@
+package com.minecolonies.coremod.entity.ai.citizen.fisherman;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fishing spots bucketed by a horizontal grid, to find spots close to a position without looking at all of them.
+ */
+public class PondIndex
+{
+    /**
+     * The size of a grid cell as a power of two.
+     */
+    private static final int CELL_SHIFT = 3;
+
+    /**
+     * The spots by cell.
+     */
+    private final Map<Long, List<BlockPos>> cells = new HashMap<>();
+
+    /**
+     * The number of spots.
+     */
+    private int size = 0;
+
+    /**
+     * Create an empty index.
+     */
+    public PondIndex()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Create a copy of another index, to be used on another thread.
+     *
+     * @param other the index to copy.
+     */
+    public PondIndex(@NotNull final PondIndex other)
+    {
+        for (final Map.Entry<Long, List<BlockPos>> entry : other.cells.entrySet())
+        {
+            cells.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        size = other.size;
+    }
+
+    /**
+     * Add a spot.
+     *
+     * @param pos the spot.
+     * @return false if it was known already.
+     */
+    public boolean add(@NotNull final BlockPos pos)
+    {
+        final List<BlockPos> cell = cells.computeIfAbsent(getCell(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT), key -> new ArrayList<>());
+        if (cell.contains(pos))
+        {
+            return false;
+        }
+        cell.add(pos);
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove a spot.
+     *
+     * @param pos the spot.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        final long key = getCell(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+        final List<BlockPos> cell = cells.get(key);
+        if (cell != null && cell.remove(pos))
+        {
+            size--;
+            if (cell.isEmpty())
+            {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Check if a spot is known or another spot is closer to it than a distance.
+     *
+     * @param pos        the position.
+     * @param distanceSq the squared distance.
+     * @return true if so.
+     */
+    public boolean isNear(@NotNull final BlockPos pos, final double distanceSq)
+    {
+        for (final BlockPos spot : getWithin(pos, (int) Math.ceil(Math.sqrt(distanceSq))))
+        {
+            if (spot.distanceSq(pos) < distanceSq || spot.equals(pos))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the spots in the cells touching a square around a position.
+     *
+     * @param pos   the center of the square.
+     * @param range the half width of the square.
+     * @return the spots, some of them may be a little further away.
+     */
+    @NotNull
+    public List<BlockPos> getWithin(@NotNull final BlockPos pos, final int range)
+    {
+        final List<BlockPos> spots = new ArrayList<>();
+        for (int x = (pos.getX() - range) >> CELL_SHIFT; x <= (pos.getX() + range) >> CELL_SHIFT; x++)
+        {
+            for (int z = (pos.getZ() - range) >> CELL_SHIFT; z <= (pos.getZ() + range) >> CELL_SHIFT; z++)
+            {
+                final List<BlockPos> cell = cells.get(getCell(x, z));
+                if (cell != null)
+                {
+                    spots.addAll(cell);
+                }
+            }
+        }
+        return spots;
+    }
+
+    /**
+     * Check if there are no spots.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the key of a cell.
+     *
+     * @param cellX the x coordinate of the cell.
+     * @param cellZ the z coordinate of the cell.
+     * @return the key.
+     */
+    private static long getCell(final int cellX, final int cellZ)
+    {
+        return ((long) cellX << Integer.SIZE) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -11,13 +11,13 @@ import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TranslationConstants;
-import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.views.MobEntryView;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.colony.managers.IThreatManager;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
-import com.minecolonies.coremod.entity.ai.mobs.barbarians.AbstractEntityBarbarian;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
 import net.minecraft.entity.EntityLivingBase;
@@ -343,7 +343,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
             final AbstractBuildingGuards guardBuilding = getOwnBuilding();
             if (worker.getLastAttackedEntity() != null && !worker.getLastAttackedEntity().isDead)
             {
-                if ((worker.getDistance(worker.getLastAttackedEntity()) > getAttackRange() * 5 && !worker.canEntityBeSeen(worker.getLastAttackedEntity())))
+                if ((worker.getDistance(worker.getLastAttackedEntity()) > getAttackRange() * 5 && !canSee(worker.getLastAttackedEntity())))
                 {
                     worker.setLastAttackedEntity(null);
                     return DECIDE;
@@ -406,7 +406,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
             worker.getCitizenExperienceHandler().addExperience(EXP_PER_MOB_DEATH);
             target = null;
         }
-        else if (target != null && (worker.getDistance(target) > getAttackRange() * 5 && !worker.canEntityBeSeen(target)))
+        else if (target != null && (worker.getDistance(target) > getAttackRange() * 5 && !canSee(target)))
         {
             target = null;
         }
@@ -448,67 +448,60 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
     protected EntityLivingBase getTarget()
     {
         final AbstractBuildingGuards building = getOwnBuilding();
-        if (building != null && target == null && worker.getCitizenColonyHandler().getColony() != null)
+        final Colony colony = worker.getCitizenColonyHandler().getColony();
+        if (building != null && target == null && colony != null)
         {
-            for (final CitizenData citizen : worker.getCitizenColonyHandler().getColony().getCitizenManager().getCitizens())
+            final IThreatManager threatManager = colony.getThreatManager();
+            for (final EntityLivingBase entity : threatManager.getRevengeTargets())
             {
-                if (citizen.getCitizenEntity().isPresent())
+                if (threatManager.canSee(worker, entity))
                 {
-                    final EntityLivingBase entity = citizen.getCitizenEntity().get().getRevengeTarget();
-                    
-                    if (entity instanceof AbstractEntityBarbarian
-                          && worker.canEntityBeSeen(entity))
-                    {
-                        return entity;
-                    }
+                    return entity;
                 }
             }
 
-            final List<EntityLivingBase> targets = world.getEntitiesWithinAABB(EntityLivingBase.class, getSearchArea());
-
-            for (final EntityLivingBase entity : targets)
+            final AxisAlignedBB searchArea = getSearchArea();
+            for (final EntityLivingBase entity : threatManager.getThreats(searchArea, EntityPlayer.class))
             {
-                if (entity instanceof EntityPlayer)
+                final EntityPlayer player = (EntityPlayer) entity;
+                if (colony.getPermissions().hasPermission(player, Action.GUARDS_ATTACK)
+                      || colony.isValidAttackingPlayer(player) && threatManager.canSee(worker, player))
                 {
-                    final EntityPlayer player = (EntityPlayer) entity;
-
-                    if (worker.getCitizenColonyHandler().getColony() != null
-                          && worker.getCitizenColonyHandler().getColony().getPermissions().hasPermission(player, Action.GUARDS_ATTACK) || worker.getCitizenColonyHandler().getColony().isValidAttackingPlayer(player)
-                          && worker.canEntityBeSeen(player))
-                    {
-                        return entity;
-                    }
+                    return entity;
                 }
-                else if (entity instanceof EntityCitizen && worker.getCitizenColonyHandler().getColony().isValidAttackingGuard((EntityCitizen) entity) && worker.canEntityBeSeen(entity))
+            }
+
+            for (final EntityLivingBase entity : threatManager.getThreats(searchArea, EntityCitizen.class))
+            {
+                if (colony.isValidAttackingGuard((EntityCitizen) entity) && threatManager.canSee(worker, entity))
                 {
                     return entity;
                 }
             }
 
-            float closest = -1;
-            EntityLivingBase targetEntity = null;
-
+            // The mobs are sorted by their priority, attack the closest one of the first class around.
             for (final MobEntryView mobEntry : building.getMobsToAttack())
             {
+                if (!mobEntry.hasAttack())
+                {
+                    continue;
+                }
 
-                if (mobEntry.hasAttack())
+                float closest = -1;
+                EntityLivingBase targetEntity = null;
+                for (final EntityLivingBase entity : threatManager.getThreats(searchArea, mobEntry.getEntityEntry().getEntityClass()))
                 {
-                    for (final EntityLivingBase entity : targets)
+                    final float distance = worker.getDistance(entity);
+                    if ((distance < closest || (int) closest == -1) && threatManager.canSee(worker, entity))
                     {
-                        if (mobEntry.getEntityEntry().getEntityClass().isInstance(entity)
-                              && worker.canEntityBeSeen(entity)
-                              && (worker.getDistance(entity) < closest
-                                    || (int) closest == -1))
-                        {
-                            closest = worker.getDistance(entity);
-                            targetEntity = entity;
-                        }
+                        closest = distance;
+                        targetEntity = entity;
                     }
+                }
 
-                    if (targetEntity != null)
-                    {
-                        return targetEntity;
-                    }
+                if (targetEntity != null)
+                {
+                    return targetEntity;
                 }
             }
         }
@@ -520,6 +513,18 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
         return null;
     }
 
+    /**
+     * Check if the guard can see an entity, the result is cached shortly by the colony.
+     *
+     * @param entity the entity to check.
+     * @return true if so.
+     */
+    protected boolean canSee(@NotNull final EntityLivingBase entity)
+    {
+        final Colony colony = worker.getCitizenColonyHandler().getColony();
+        return colony == null ? worker.canEntityBeSeen(entity) : colony.getThreatManager().canSee(worker, entity);
+    }
+
     /**
      * Gets the reload time for a Range guard attack.
      *
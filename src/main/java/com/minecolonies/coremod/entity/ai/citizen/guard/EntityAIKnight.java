@@ -145,7 +145,7 @@ public class EntityAIKnight extends AbstractEntityAIGuard<JobKnight>
             worker.getCitizenExperienceHandler().addExperience(EXP_PER_MOB_DEATH);
             return DECIDE;
         }
-        else if (worker.getDistance(target) > getAttackRange() * 5 && !worker.canEntityBeSeen(target))
+        else if (worker.getDistance(target) > getAttackRange() * 5 && !canSee(target))
         {
             target = null;
             return DECIDE;
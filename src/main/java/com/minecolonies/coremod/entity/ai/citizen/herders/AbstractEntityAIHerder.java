@@ -4,6 +4,8 @@ import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TranslationConstants;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingHerder;
+import com.minecolonies.coremod.colony.buildings.utils.AnimalCensus;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
@@ -22,7 +24,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -121,9 +122,9 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
     {
         setDelay(DECIDING_DELAY);
 
-        final List<T> animals = new ArrayList<>(searchForAnimals());
+        final AnimalCensus census = getAnimalCensus();
 
-        if (animals.isEmpty())
+        if (census == null || census.getAnimalCount(getAnimalClass()) == 0)
         {
             setDelay(NO_ANIMALS_DELAY);
             return DECIDE;
@@ -131,13 +132,13 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
 
         worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(TranslationConstants.COM_MINECOLONIES_COREMOD_STATUS_DECIDING));
 
-        final int numOfBreedableAnimals = (int) animals.stream().filter(animal -> animal.getGrowingAge() == 0).count();
+        final int numOfBreedableAnimals = census.getBreedableCount(getAnimalClass());
 
         final boolean hasBreedingItem =
           InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
             (ItemStack stack) -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, getBreedingItem()));
 
-        if (!searchForItemsInArea().isEmpty())
+        if (!census.getItems().isEmpty())
         {
             return HERDER_PICKUP;
         }
@@ -227,6 +228,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
 
         if (animal != null && !animal.isEntityAlive())
         {
+            markCensusDirty();
             worker.getCitizenExperienceHandler().addExperience(1.0);
             incrementActionsDoneAndDecSaturation();
         }
@@ -277,6 +279,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
         worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(TranslationConstants.COM_MINECOLONIES_COREMOD_STATUS_HERDER_BREEDING));
 
         breedTwoAnimals(animalOne, animalTwo);
+        markCensusDirty();
         incrementActionsDoneAndDecSaturation();
         worker.getCitizenExperienceHandler().addExperience(1.0);
         return DECIDE;
@@ -297,6 +300,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
         {
             walkToBlock(item.getPosition());
         }
+        markCensusDirty();
 
         incrementActionsDoneAndDecSaturation();
 
@@ -310,13 +314,10 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
      */
     public List<T> searchForAnimals()
     {
-
-        if (this.getTargetableArea() != null)
+        final AnimalCensus census = getAnimalCensus();
+        if (census != null)
         {
-            return new ArrayList<>(world.getEntitiesWithinAABB(
-              getAnimalClass(),
-              this.getTargetableArea()
-            ));
+            return census.getAnimals(getAnimalClass());
         }
         return new ArrayList<>();
     }
@@ -333,16 +334,44 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
      */
     public List<EntityItem> searchForItemsInArea()
     {
-        if (this.getTargetableArea() != null)
+        final AnimalCensus census = getAnimalCensus();
+        if (census != null)
         {
-            return new ArrayList<>(world.getEntitiesWithinAABB(
-              EntityItem.class,
-              this.getTargetableArea()
-            ));
+            return census.getItems();
         }
         return new ArrayList<>();
     }
 
+    /**
+     * Get the census of the animals and items around the hut, searched again if it is outdated.
+     *
+     * @return the census or null if the herder has no hut.
+     */
+    @Nullable
+    private AnimalCensus getAnimalCensus()
+    {
+        final AbstractBuildingHerder building = getOwnBuilding();
+        final AxisAlignedBB area = getTargetableArea();
+        if (building == null || area == null)
+        {
+            return null;
+        }
+        building.getAnimalCensus().update(world, area);
+        return building.getAnimalCensus();
+    }
+
+    /**
+     * Let the census search the area again, called when the herder changed the animals or items around the hut.
+     */
+    public void markCensusDirty()
+    {
+        final AbstractBuildingHerder building = getOwnBuilding();
+        if (building != null)
+        {
+            building.getAnimalCensus().markDirty();
+        }
+    }
+
     /**
      * Get the Animal's class from the none Abstract.
      */
@@ -419,11 +448,8 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
     {
         if (getOwnBuilding() != null)
         {
-            final Stream<T> animal = searchForAnimals()
-                    .stream()
-                    .filter(animalToButcher -> animalToButcher.getGrowingAge() == 0);
-
-            final int numOfAnimals = (int) animal.count();
+            final AnimalCensus census = getAnimalCensus();
+            final int numOfAnimals = census == null ? 0 : census.getBreedableCount(getAnimalClass());
             final int maxAnimals = getOwnBuilding().getBuildingLevel() * getMaxAnimalMultiplier();
 
             return numOfAnimals > maxAnimals;
@@ -6,6 +6,7 @@ import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingLumberjack;
 import com.minecolonies.coremod.colony.jobs.JobLumberjack;
+import com.minecolonies.coremod.colony.managers.ITreeManager;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
@@ -159,6 +160,12 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      */
     private int searchIncrement = 0;
 
+    /**
+     * The bottom log of the tree reserved at the tree manager of the colony.
+     */
+    @Nullable
+    private BlockPos reservedTree;
+
     /**
      * Create a new LumberjackAI.
      *
@@ -268,6 +275,22 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
     {
         final AbstractBuilding building = getOwnBuilding();
 
+        if (pathResult == null)
+        {
+            final BlockPos knownTree = getTreeManager().reserveNearestTree(world,
+              worker.getPosition(),
+              SEARCH_LIMIT,
+              ((BuildingLumberjack) building).getTreesToCut(),
+              worker.getCitizenId());
+            if (knownTree != null)
+            {
+                reservedTree = knownTree;
+                job.tree = new Tree(world, knownTree);
+                job.tree.findLogs(world);
+                return getState();
+            }
+        }
+
         if (pathResult == null || pathResult.treeLocation == null)
         {
             pathResult = worker.getNavigator().moveToTree(SEARCH_RANGE + searchIncrement, 1.0D, ((BuildingLumberjack) building).getTreesToCut(), worker.getCitizenColonyHandler().getColony());
@@ -298,6 +321,11 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         }
         else
         {
+            reservedTree = getTreeManager().registerTree(world, pathResult.treeLocation);
+            if (reservedTree != null)
+            {
+                getTreeManager().reserveTree(reservedTree, worker.getCitizenId());
+            }
             job.tree = new Tree(world, pathResult.treeLocation);
             job.tree.findLogs(world);
         }
@@ -322,6 +350,10 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         {
             return LUMBERJACK_SEARCHING_TREE;
         }
+        if (reservedTree != null)
+        {
+            getTreeManager().reserveTree(reservedTree, worker.getCitizenId());
+        }
         return chopTree();
     }
 
@@ -362,7 +394,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
             }
             else
             {
-                job.tree = null;
+                finishTree();
                 checkedInHut = false;
             }
             building.getColony().getStatsManager().incrementStatistic("trees");
@@ -460,11 +492,34 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
     {
         if (plantSapling(job.tree.getLocation()))
         {
-            job.tree = null;
+            finishTree();
             checkedInHut = false;
         }
     }
 
+    /**
+     * Forget the current tree, it has been cut down.
+     */
+    private void finishTree()
+    {
+        if (reservedTree != null)
+        {
+            getTreeManager().removeTree(reservedTree);
+            reservedTree = null;
+        }
+        job.tree = null;
+    }
+
+    /**
+     * Get the tree manager of the colony of the lumberjack.
+     *
+     * @return the manager.
+     */
+    private ITreeManager getTreeManager()
+    {
+        return worker.getCitizenColonyHandler().getColony().getTreeManager();
+    }
+
     /**
      * Check if the worker is standing on a sapling.
      *
@@ -233,6 +233,19 @@ public class Tree
                  && hasEnoughLeavesAndIsSupposedToCut(world, baseAndTOp.getSecond(), treesToCut);
     }
 
+    /**
+     * Get the bottom and the top log of the tree a log belongs to.
+     *
+     * @param world the world.
+     * @param log   a log of the tree.
+     * @return a tuple containing, first: bottom log and second: top log.
+     */
+    @NotNull
+    public static Tuple<BlockPos, BlockPos> getBottomAndTopLog(@NotNull final IBlockAccess world, @NotNull final BlockPos log)
+    {
+        return getBottomAndTopLog(world, log, new LinkedList<>(), null, null);
+    }
+
     /**
      * Adds a log and searches for further logs(Breadth first search).
      *
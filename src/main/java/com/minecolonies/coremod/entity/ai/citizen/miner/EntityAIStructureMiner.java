@@ -4,14 +4,12 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Vec2i;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
-import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingMiner;
 import com.minecolonies.coremod.colony.jobs.JobMiner;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructureWithWorkOrder;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
-import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLadder;
 import net.minecraft.block.state.IBlockState;
@@ -671,15 +669,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
      */
     private String getCorrectStyleLocation(final String style, final String shaft)
     {
-        final StructureWrapper wrapper = new StructureWrapper(world, Structures.SCHEMATICS_PREFIX + "/" + style + shaft);
-        if (wrapper.getStructure().getStructure().getTemplate() != null)
-        {
-            return Structures.SCHEMATICS_PREFIX + "/" + style + shaft;
-        }
-        else
-        {
-            return Structures.SCHEMATICS_PREFIX + shaft;
-        }
+        return MinePlanner.getSchematic(style, shaft);
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.minecolonies.coremod.entity.ai.citizen.miner;
+
+import com.minecolonies.coremod.colony.Structures;
+import com.minecolonies.structures.helpers.Structure;
+import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the schematic names of the mine shafts and nodes once per style, instead of probing the style schematic for every node.
+ * The names are resolved again after the schematics have been reloaded.
+ */
+public final class MinePlanner
+{
+    /**
+     * The resolved schematic names by style and shaft.
+     */
+    private static final Map<String, String> SCHEMATICS = new ConcurrentHashMap<>();
+
+    /**
+     * The load count of the schematics the names have been resolved for.
+     */
+    private static int resolvedLoadCount = -1;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private MinePlanner()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the schematic of a shaft or node in a style, falls back to the default schematic if the style has none.
+     * A missing style schematic is remembered until the schematics are loaded again.
+     *
+     * @param style the style of the miner hut.
+     * @param shaft the shaft or node.
+     * @return the schematic name.
+     */
+    @NotNull
+    public static String getSchematic(@NotNull final String style, @NotNull final String shaft)
+    {
+        final int loadCount = Structures.getLoadCount();
+        if (loadCount != resolvedLoadCount)
+        {
+            SCHEMATICS.clear();
+            resolvedLoadCount = loadCount;
+        }
+
+        return SCHEMATICS.computeIfAbsent(style + shaft, key ->
+        {
+            final String styled = Structures.SCHEMATICS_PREFIX + "/" + key;
+            return exists(styled) ? styled : (Structures.SCHEMATICS_PREFIX + shaft);
+        });
+    }
+
+    /**
+     * Check if a schematic can be loaded.
+     *
+     * @param name the schematic name.
+     * @return true if it is known or can be found.
+     */
+    private static boolean exists(@NotNull final String name)
+    {
+        if (Structures.hasMD5(name))
+        {
+            return true;
+        }
+
+        final InputStream stream = Structure.getStream(name);
+        IOUtils.closeQuietly(stream);
+        return stream != null;
+    }
+}
@@ -23,6 +23,10 @@ public class AITarget
     private final BooleanSupplier   predicate;
     @NotNull
     private final Supplier<AIState> action;
+    /**
+     * The number of ticks between two checks of this target.
+     */
+    private final int               tickRate;
 
     /**
      * Construct a target.
@@ -45,6 +49,29 @@ public class AITarget
         this(null, predicate, action);
     }
 
+    /**
+     * Construct a target which is only checked every few ticks.
+     *
+     * @param action   the action to apply
+     * @param tickRate the number of ticks between two checks
+     */
+    public AITarget(@NotNull final Supplier<AIState> action, final int tickRate)
+    {
+        this(() -> true, action, tickRate);
+    }
+
+    /**
+     * Construct a target which is only checked every few ticks.
+     *
+     * @param predicate the predicate for execution
+     * @param action    the action to apply
+     * @param tickRate  the number of ticks between two checks
+     */
+    public AITarget(@NotNull final BooleanSupplier predicate, @NotNull final Supplier<AIState> action, final int tickRate)
+    {
+        this(null, predicate, action, tickRate);
+    }
+
     /**
      * Construct a target.
      *
@@ -53,10 +80,28 @@ public class AITarget
      * @param action    the action to apply
      */
     public AITarget(@Nullable final AIState state, @NotNull final BooleanSupplier predicate, @NotNull final Supplier<AIState> action)
+    {
+        this(state, predicate, action, 1);
+    }
+
+    /**
+     * Construct a target.
+     *
+     * @param state     the state it needs to be | null
+     * @param predicate the predicate for execution
+     * @param action    the action to apply
+     * @param tickRate  the number of ticks between two checks
+     */
+    public AITarget(
+                     @Nullable final AIState state,
+                     @NotNull final BooleanSupplier predicate,
+                     @NotNull final Supplier<AIState> action,
+                     final int tickRate)
     {
         this.state = state;
         this.predicate = predicate;
         this.action = action;
+        this.tickRate = Math.max(1, tickRate);
     }
 
     /**
@@ -104,6 +149,16 @@ public class AITarget
         return state;
     }
 
+    /**
+     * The number of ticks between two checks of this target.
+     *
+     * @return the tick rate, 1 to check every tick.
+     */
+    public int getTickRate()
+    {
+        return tickRate;
+    }
+
     /**
      * Return whether the ai wants this target to be executed.
      *
@@ -6,6 +6,7 @@ import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.blocks.ModBlocks;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.util.PlacementPlan;
 import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
@@ -24,9 +25,11 @@ import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 /**
  * Represents a build task for the Structure AI.
@@ -197,6 +200,16 @@ public class Structure
     private final World            targetWorld;
     private       Stage            stage;
 
+    /**
+     * The positions which have been completed by stage, the builder won't visit them again.
+     */
+    private final Map<Stage, BitSet> completedBlocks;
+
+    /**
+     * The index of the current position in the positions of the current stage, -1 if not started.
+     */
+    private int cursor = -1;
+
     /**
      * Create a new building task.
      *
@@ -237,6 +250,7 @@ public class Structure
         this.theStructure = loadStructure(targetWorld, buildingLocation, structureFileName, rotation, stageProgress, blockProgress, mirror);
         this.stage = stageProgress;
         this.targetWorld = targetWorld;
+        this.completedBlocks = new EnumMap<>(Stage.class);
     }
 
     /**
@@ -296,10 +310,24 @@ public class Structure
      * @param stageProgress the stage to start off with.
      */
     public Structure(final World targetWorld, final StructureWrapper structure, final Stage stageProgress)
+    {
+        this(targetWorld, structure, stageProgress, new EnumMap<>(Stage.class));
+    }
+
+    /**
+     * Create a new building task which continues earlier progress.
+     *
+     * @param targetWorld     the world.
+     * @param structure       the structure.
+     * @param stageProgress   the stage to start off with.
+     * @param completedBlocks the completed positions by stage, updated while building.
+     */
+    public Structure(final World targetWorld, final StructureWrapper structure, final Stage stageProgress, @NotNull final Map<Stage, BitSet> completedBlocks)
     {
         this.theStructure = structure;
         this.stage = stageProgress;
         this.targetWorld = targetWorld;
+        this.completedBlocks = completedBlocks;
     }
 
     /**
@@ -327,6 +355,7 @@ public class Structure
     public void setStage(final Stage stage)
     {
         this.stage = stage;
+        this.cursor = -1;
     }
 
     /**
@@ -352,49 +381,65 @@ public class Structure
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.theStructure::decrementBlock,
-                  structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                      || structureBlock.worldBlock == Blocks.AIR);
+                return advanceBlocks(structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                                                         || structureBlock.worldBlock == Blocks.AIR);
             case BUILD:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                                         && structureBlock.block == Blocks.AIR
-                                                                                         && !structureBlock.metadata.getMaterial().isSolid());
+                return advanceBlocks(structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                                                         && structureBlock.block == Blocks.AIR
+                                                         && !structureBlock.metadata.getMaterial().isSolid());
             case SPAWN:
-                return advanceBlocks(this.theStructure::decrementBlock, structureBlock ->
-                                                                       structureBlock.entity == null);
+                return advanceBlocks(structureBlock -> structureBlock.entity == null);
             case DECORATE:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock ->
-                                                                       structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                         || structureBlock.metadata.getMaterial().isSolid());
+                return advanceBlocks(structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                                                         || structureBlock.metadata.getMaterial().isSolid());
             case REMOVE:
-                return advanceBlocks(this.theStructure::decrementBlock,
-                        structureBlock -> structureBlock.worldBlock == Blocks.AIR);
+                return advanceBlocks(structureBlock -> structureBlock.worldBlock == Blocks.AIR);
             default:
                 return Result.NEW_BLOCK;
         }
     }
 
     /**
-     * Advance many blocks until either moveOneBlock or checkIfApplies return false
+     * Advance through the planned positions of the stage until checkIfApplies returns false
      * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder.
+     * The current position and skipped positions are marked as completed.
      *
-     * @param moveOneBlock   this will be called to advance the structure one block.
      * @param checkIfApplies this will be evaluated to check if we should skip a block.
      * @return a Result enum specifying the result
      */
     @NotNull
-    private Result advanceBlocks(@NotNull final Supplier<Boolean> moveOneBlock, @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
+    private Result advanceBlocks(@NotNull final Function<StructureBlock, Boolean> checkIfApplies)
     {
+        final PlacementPlan plan = this.theStructure.getPlacementPlan();
+        final int[] positions = plan.getPositions(this.stage);
+        final BitSet completed = completedBlocks.computeIfAbsent(this.stage, key -> new BitSet());
+
+        if (cursor >= 0 && cursor < positions.length)
+        {
+            completed.set(positions[cursor]);
+        }
+
         for (int i = 0; i < Configurations.gameplay.maxBlocksCheckedByBuilder; i++)
         {
-            if (!moveOneBlock.get())
+            do
             {
+                cursor++;
+            }
+            while (cursor < positions.length && completed.get(positions[cursor]));
+
+            if (cursor >= positions.length)
+            {
+                cursor = -1;
+                this.theStructure.reset();
                 return Result.AT_END;
             }
+
+            this.theStructure.setLocalPosition(plan.getLocalPosition(positions[cursor]));
             if (!checkIfApplies.apply(getCurrentBlock()))
             {
                 return Result.NEW_BLOCK;
             }
+            completed.set(positions[cursor]);
         }
         return Result.CONFIG_LIMIT;
     }
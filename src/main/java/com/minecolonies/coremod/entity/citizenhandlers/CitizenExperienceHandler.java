@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.citizenhandlers;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.entity.CollectibleTracker;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.util.ExperienceUtils;
 import net.minecraft.enchantment.EnchantmentHelper;
@@ -222,7 +223,7 @@ public class CitizenExperienceHandler
     {
         @NotNull final AxisAlignedBB bb = new AxisAlignedBB(citizen.posX - 2, citizen.posY - 2, citizen.posZ - 2, citizen.posX + 2, citizen.posY + 2, citizen.posZ + 2);
 
-        return CompatibilityUtils.getWorld(citizen).getEntitiesWithinAABB(EntityXPOrb.class, bb);
+        return CollectibleTracker.getXPOrbs(CompatibilityUtils.getWorld(citizen), bb);
     }
 
     /**
@@ -4,6 +4,7 @@ import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.entity.CollectibleTracker;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.network.messages.BlockParticleEffectMessage;
 import net.minecraft.block.Block;
@@ -25,8 +26,6 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.BLOCK_BREAK_PARTICLE_RANGE;
@@ -244,20 +243,9 @@ public class CitizenItemHandler
      */
     public void pickupItems()
     {
-        @NotNull final List<EntityItem> retList = new ArrayList<>();
-        //I know streams look better but they are flawed in type erasure
-        for (final Object o :
-          CompatibilityUtils.getWorld(citizen).
-                                             getEntitiesWithinAABB(EntityItem.class,
-                                               new AxisAlignedBB(citizen.getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F)))
-        {
-            if (o instanceof EntityItem)
-            {
-                retList.add((EntityItem) o);
-            }
-        }
-
-        retList.stream()
+        CollectibleTracker.getItems(CompatibilityUtils.getWorld(citizen),
+          new AxisAlignedBB(citizen.getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F))
+          .stream()
           .filter(Objects::nonNull)
           .filter(item -> !item.isDead)
           .filter(item -> citizen.canPickUpLoot())
@@ -0,0 +1,140 @@
+package com.minecolonies.coremod.entity.citizenhandlers;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+import static com.minecolonies.api.util.constant.CitizenConstants.TICKS_20;
+
+/**
+ * Handles the level of detail of the citizen simulation.
+ * The worker AI of citizens far away from every player subscribed to their colony only gets updated every few ticks,
+ * its delays and target timers are then advanced by all the ticks which passed in between.
+ * The rest of the entity update, including walking along the current path, runs every tick.
+ */
+public class CitizenLodHandler
+{
+    /**
+     * The citizen assigned to this manager.
+     */
+    private final EntityCitizen citizen;
+
+    /**
+     * If the citizen is currently simulated coarsely.
+     */
+    private boolean coarse = false;
+
+    /**
+     * If the worker AI gets updated this tick.
+     */
+    private boolean updateTick = true;
+
+    /**
+     * The ticks which passed since the last simulation step.
+     */
+    private int ticksSinceUpdate = 0;
+
+    /**
+     * The ticks the current simulation step stands for.
+     */
+    private int simulatedTicks = 1;
+
+    /**
+     * Constructor for the lod handler.
+     * @param citizen the citizen owning the handler.
+     */
+    public CitizenLodHandler(final EntityCitizen citizen)
+    {
+        this.citizen = citizen;
+    }
+
+    /**
+     * Called in the citizen every tick on the server side.
+     */
+    public void onUpdate()
+    {
+        if (citizen.getOffsetTicks() % TICKS_20 == 0)
+        {
+            updateDetailLevel();
+        }
+
+        ticksSinceUpdate++;
+        // Back in the full simulation the first update still catches up with the ticks skipped before.
+        updateTick = !coarse || ticksSinceUpdate >= Math.max(1, Configurations.gameplay.citizenLodTickInterval);
+        if (updateTick)
+        {
+            simulatedTicks = ticksSinceUpdate;
+            ticksSinceUpdate = 0;
+        }
+    }
+
+    /**
+     * Check if the worker AI of the citizen should be updated this tick.
+     * @return true if so.
+     */
+    public boolean isUpdateTick()
+    {
+        return updateTick;
+    }
+
+    /**
+     * Check if the citizen is simulated coarsely.
+     * @return true if so.
+     */
+    public boolean isCoarse()
+    {
+        return coarse;
+    }
+
+    /**
+     * The amount of ticks the current update stands for.
+     * Worker AIs use this to advance their delays and target timers.
+     * @return 1 for a fully simulated citizen, else the ticks since the last update.
+     */
+    public int getSimulatedTicks()
+    {
+        return simulatedTicks;
+    }
+
+    /**
+     * Switch between the full and the coarse simulation depending on the distance to the players.
+     */
+    private void updateDetailLevel()
+    {
+        final int distance = Configurations.gameplay.citizenLodDistance;
+        final boolean shouldBeCoarse = distance > 0
+                                         && citizen.getCitizenData() != null
+                                         && !isSubscriberWithinRange(distance);
+        if (shouldBeCoarse == coarse)
+        {
+            return;
+        }
+
+        coarse = shouldBeCoarse;
+    }
+
+    /**
+     * Check if a player receiving the updates of the colony of the citizen is close to it.
+     * @param distance the range.
+     * @return true if so, or if the citizen has no colony.
+     */
+    private boolean isSubscriberWithinRange(final int distance)
+    {
+        final Colony colony = citizen.getCitizenColonyHandler().getColony();
+        if (colony == null)
+        {
+            return true;
+        }
+
+        final double rangeSq = (double) distance * distance;
+        for (final EntityPlayerMP player : colony.getPackageManager().getSubscribers())
+        {
+            if (player.dimension == citizen.dimension && player.getDistanceSq(citizen) <= rangeSq)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
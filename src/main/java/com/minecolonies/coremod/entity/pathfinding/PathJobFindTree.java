@@ -10,6 +10,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Find and return a path to the nearest tree.
@@ -37,6 +38,11 @@ public class PathJobFindTree extends AbstractPathJob
      */
     private final Colony colony;
 
+    /**
+     * The bottom logs of the trees reserved by other lumberjacks.
+     */
+    private final Set<BlockPos> excludedTrees;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -45,6 +51,8 @@ public class PathJobFindTree extends AbstractPathJob
      * @param home       the position of the worker hut.
      * @param range      maximum path range.
      * @param treesToCut the trees the lj is supposed to cut.
+     * @param colony the colony of the lumberjack.
+     * @param excludedTrees the bottom logs of the trees reserved by other lumberjacks.
      */
     public PathJobFindTree(
                             final World world,
@@ -52,12 +60,14 @@ public class PathJobFindTree extends AbstractPathJob
                             final BlockPos home,
                             final int range,
                             final Map<ItemStorage, Boolean> treesToCut,
-                            final Colony colony)
+                            final Colony colony,
+                            final Set<BlockPos> excludedTrees)
     {
         super(world, start, start, range, new TreePathResult());
         this.treesToCut = treesToCut;
         this.hutLocation = home;
         this.colony = colony;
+        this.excludedTrees = excludedTrees;
     }
 
     /**
@@ -111,7 +121,9 @@ public class PathJobFindTree extends AbstractPathJob
 
     private boolean isTree(final BlockPos pos)
     {
-        if (Tree.checkTree(world, pos, treesToCut) && Tree.checkIfInColonyAndNotInBuilding(pos, colony))
+        if (Tree.checkTree(world, pos, treesToCut)
+              && Tree.checkIfInColonyAndNotInBuilding(pos, colony)
+              && (excludedTrees.isEmpty() || !excludedTrees.contains(Tree.getBottomAndTopLog(world, pos).getFirst())))
         {
             getResult().treeLocation = pos;
             return true;
@@ -1,15 +1,12 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.coremod.entity.ai.citizen.fisherman.Pond;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.PondIndex;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Predicate;
-
 /**
  * Find and return a path to the nearest water.
  * Created: March 25, 2016
@@ -20,7 +17,7 @@ public class PathJobFindWater extends AbstractPathJob
     private static final int MAX_RANGE    = 250;
     private final BlockPos            hutLocation;
     @NotNull
-    private final ArrayList<BlockPos> ponds;
+    private final PondIndex           ponds;
 
     /**
      * AbstractPathJob constructor.
@@ -29,12 +26,12 @@ public class PathJobFindWater extends AbstractPathJob
      * @param start the start position from which to path from.
      * @param home  the position of the worker hut.
      * @param range maximum path range.
-     * @param ponds already visited fishing places.
+     * @param ponds the fishing places known to the colony, a copy only used by this job.
      */
-    PathJobFindWater(final World world, @NotNull final BlockPos start, final BlockPos home, final int range, @NotNull final List<BlockPos> ponds)
+    PathJobFindWater(final World world, @NotNull final BlockPos start, final BlockPos home, final int range, @NotNull final PondIndex ponds)
     {
         super(world, start, start, range, new WaterPathResult());
-        this.ponds = new ArrayList<>(ponds);
+        this.ponds = ponds;
         hutLocation = home;
     }
 
@@ -111,7 +108,7 @@ public class PathJobFindWater extends AbstractPathJob
      */
     private boolean isWater(@NotNull final BlockPos newPond)
     {
-        if (ponds.contains(newPond) || pondsAreNear(ponds, newPond))
+        if (ponds.isNear(newPond, MIN_DISTANCE))
         {
             return false;
         }
@@ -128,35 +125,6 @@ public class PathJobFindWater extends AbstractPathJob
         return false;
     }
 
-    /**
-     * Creates the distance to calculate it in a stream.
-     *
-     * @param range   the range.
-     * @param newPond the pond.
-     * @return a predicate of the position.
-     */
-    private static Predicate<BlockPos> generateDistanceFrom(final int range, @NotNull final BlockPos newPond)
-    {
-        return pond -> squareDistance(pond, newPond) < range;
-    }
-
-    /**
-     * Checks if there are close ponds to a position.
-     *
-     * @param ponds   all ponds.
-     * @param newPond the position.
-     * @return true if so.
-     */
-    private static boolean pondsAreNear(@NotNull final ArrayList<BlockPos> ponds, @NotNull final BlockPos newPond)
-    {
-        if (ponds.isEmpty())
-        {
-            return false;
-        }
-        @NotNull final Predicate<BlockPos> compare = generateDistanceFrom(MIN_DISTANCE, newPond);
-        return ponds.stream().anyMatch(compare);
-    }
-
     @Override
     protected double getNodeResultScore(final Node n)
     {
@@ -7,6 +7,7 @@ import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.PondIndex;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.*;
@@ -18,7 +19,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -409,6 +409,7 @@ public class PathNavigate extends PathNavigateGround
      * @param range      in the range.
      * @param speed      walking speed.
      * @param treesToCut the trees which should be cut.
+     * @param colony the colony of the lumberjack.
      * @return the result of the search.
      */
     public PathJobFindTree.TreePathResult moveToTree(final int range, final double speed, final Map<ItemStorage, Boolean> treesToCut, final Colony colony)
@@ -422,7 +423,8 @@ public class PathNavigate extends PathNavigateGround
         }
 
         return (PathJobFindTree.TreePathResult) setPathJob(
-          new PathJobFindTree(CompatibilityUtils.getWorld(entity), start, buildingPos, range, treesToCut, colony), null, speed);
+          new PathJobFindTree(CompatibilityUtils.getWorld(entity), start, buildingPos, range, treesToCut, colony,
+            colony.getTreeManager().getTreesReservedByOthers(((EntityCitizen) entity).getCitizenId())), null, speed);
     }
 
     /**
@@ -430,11 +432,11 @@ public class PathNavigate extends PathNavigateGround
      *
      * @param range in the range.
      * @param speed walking speed.
-     * @param ponds a list of ponds.
+     * @param ponds a copy of the ponds known to the colony.
      * @return the result of the search.
      */
     @Nullable
-    public PathJobFindWater.WaterPathResult moveToWater(final int range, final double speed, final List<BlockPos> ponds)
+    public PathJobFindWater.WaterPathResult moveToWater(final int range, final double speed, final PondIndex ponds)
     {
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         return (PathJobFindWater.WaterPathResult) setPathJob(
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.event;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.LanguageHandler;
@@ -17,13 +18,18 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.entity.CitizenEntityRegistry;
+import com.minecolonies.coremod.entity.CollectibleTracker;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.items.ModItems;
 import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
+import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSilverfish;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.client.multiplayer.WorldClient;
@@ -32,6 +38,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
@@ -166,9 +173,9 @@ public class EventHandler
             final IColonyTagCapability oldCloseColonies = oldChunk.getCapability(CLOSE_COLONY_CAP, null);
 
             // Add new subscribers to colony.
-            for (final int colonyId : newCloseColonies.getAllCloseColonies())
+            for (int i = 0; i < newCloseColonies.getCloseColonyCount(); i++)
             {
-                final Colony colony = ColonyManager.getColony(colonyId);
+                final Colony colony = ColonyManager.getColony(newCloseColonies.getCloseColony(i));
                 if (colony != null)
                 {
                     colony.getPackageManager().addSubscribers(player);
@@ -176,9 +183,10 @@ public class EventHandler
             }
 
             //Remove old subscribers from colony.
-            for (final int colonyId : oldCloseColonies.getAllCloseColonies())
+            for (int i = 0; i < oldCloseColonies.getCloseColonyCount(); i++)
             {
-                if (!newCloseColonies.getAllCloseColonies().contains(colonyId))
+                final int colonyId = oldCloseColonies.getCloseColony(i);
+                if (!newCloseColonies.isCloseColony(colonyId))
                 {
                     final Colony colony = ColonyManager.getColony(colonyId);
                     if (colony != null)
@@ -218,6 +226,8 @@ public class EventHandler
     @SubscribeEvent
     public void onEnteringChunkEntity(@NotNull final EntityEvent.EnteringChunk event)
     {
+        CollectibleTracker.onEnteringChunk(event.getEntity(), event.getOldChunkX(), event.getOldChunkZ(), event.getNewChunkX(), event.getNewChunkZ());
+
         if (Configurations.gameplay.pvp_mode && event.getEntity() instanceof EntityCitizen)
         {
             if (event.getEntity().world != null && !event.getEntity().world.isBlockLoaded(new BlockPos(event.getNewChunkX()*BLOCKS_PER_CHUNK, 70, event.getNewChunkZ()*BLOCKS_PER_CHUNK)))
@@ -266,6 +276,67 @@ public class EventHandler
             itemstack.setTagCompound(compound);
 
             event.setCanceled(true);
+            return;
+        }
+
+        onColonyBlockChanged(event.getWorld(), event.getPos(), event.getState());
+    }
+
+    /**
+     * Event when a player places a block, tells the colony when a tree or a field got changed.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.PlaceEvent}
+     */
+    @SubscribeEvent
+    public void onBlockPlaced(@NotNull final BlockEvent.PlaceEvent event)
+    {
+        onColonyBlockChanged(event.getWorld(), event.getPos(), event.getPlacedBlock());
+    }
+
+    /**
+     * Event when a crop grew, tells the colony when a field got changed.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.CropGrowEvent.Post}
+     */
+    @SubscribeEvent
+    public void onCropGrow(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        onColonyBlockChanged(event.getWorld(), event.getPos(), event.getState());
+    }
+
+    /**
+     * Let the colony at a position know that a block changed.
+     * The trees of the chunk are scanned again if a log or leaf changed, the fields around the block check it again.
+     *
+     * @param world the world.
+     * @param pos   the position of the block.
+     * @param state the block which was placed, broken or grew.
+     */
+    private static void onColonyBlockChanged(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState state)
+    {
+        if (world.isRemote)
+        {
+            return;
+        }
+
+        final Colony colony = ColonyManager.getColony(world, pos);
+        if (colony == null)
+        {
+            return;
+        }
+
+        if (state.getBlock().isWood(world, pos) || state.getMaterial() == Material.LEAVES || Compatibility.isSlimeBlock(state.getBlock()))
+        {
+            colony.getTreeManager().markChunkDirty(pos);
+        }
+
+        for (final BlockPos field : colony.getBuildingManager().getFieldsCovering(pos))
+        {
+            final TileEntity entity = world.getTileEntity(field);
+            if (entity instanceof ScarecrowTileEntity)
+            {
+                ((ScarecrowTileEntity) entity).getFieldStateMap().markChanged(pos);
+            }
         }
     }
 
@@ -573,6 +644,8 @@ public class EventHandler
     public void onWorldLoad(@NotNull final WorldEvent.Load event)
     {
         ColonyManager.onWorldLoad(event.getWorld());
+        CitizenEntityRegistry.onWorldLoad(event.getWorld());
+        CollectibleTracker.onWorldLoad(event.getWorld());
     }
 
     /**
@@ -585,5 +658,7 @@ public class EventHandler
     public void onWorldUnload(@NotNull final WorldEvent.Unload event)
     {
         ColonyManager.onWorldUnload(event.getWorld());
+        CitizenEntityRegistry.onWorldUnload(event.getWorld());
+        CollectibleTracker.onWorldUnload(event.getWorld());
     }
 }
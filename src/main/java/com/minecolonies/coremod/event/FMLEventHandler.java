@@ -3,6 +3,7 @@ package com.minecolonies.coremod.event;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.network.NetworkStatistics;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
 import com.minecolonies.coremod.sounds.ModSoundEvents;
@@ -32,6 +33,10 @@ public class FMLEventHandler
     public void onServerTick(final TickEvent.ServerTickEvent event)
     {
         ColonyManager.onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            NetworkStatistics.onServerTick();
+        }
     }
 
     /**
@@ -1,7 +1,10 @@
 package com.minecolonies.coremod.inventory;
 
 import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.CitizenData;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReport;
@@ -10,6 +13,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ItemStackHelper;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -24,7 +28,10 @@ import net.minecraftforge.fml.relauncher.Side;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
 
@@ -76,6 +83,44 @@ public class InventoryCitizen implements IInventory
      */
     private CitizenData citizen;
 
+    /**
+     * Increased on every change of the content.
+     */
+    private int version = 0;
+    /**
+     * The item of each slot when it was indexed, null for an empty slot.
+     * Allocated with the first query, the slot arrays are indexed like the slots of the inventory.
+     */
+    private Item[] indexedItems;
+    /**
+     * The damage value of each slot when it was indexed.
+     */
+    private int[] indexedDamages;
+    /**
+     * The amount of items of each slot when it was indexed.
+     */
+    private int[] indexedCounts;
+    /**
+     * If slots may have changed without the index knowing which, they are compared with the index on the next query.
+     */
+    private boolean slotsDirty = true;
+    /**
+     * The amount of items in the inventory by item and damage value.
+     */
+    private final Map<ItemStorage, Integer> itemCounts = new HashMap<>();
+    /**
+     * The amount of items in the inventory by item, independent of the damage value.
+     */
+    private final Map<Item, Integer> itemCountsIgnoreDamage = new HashMap<>();
+    /**
+     * The slots containing food.
+     */
+    private final BitSet foodSlots = new BitSet();
+    /**
+     * The slots containing a tool of a type, for the types queried so far.
+     */
+    private final Map<IToolType, BitSet> toolSlots = new HashMap<>();
+
     /**
      * Creates the inventory of the citizen.
      *
@@ -152,6 +197,260 @@ public class InventoryCitizen implements IInventory
         return false;
     }
 
+    /**
+     * Get the version of the content of the inventory.
+     * It changes whenever the content changes, so AI code can skip checks if it stayed the same.
+     *
+     * @return the current version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Count the items in the inventory matching a storage.
+     * Items are matched by item and, if the storage doesn't ignore it, damage value; NBT is not compared.
+     * The counts are updated per slot by the methods of the inventory,
+     * code changing a stack of the inventory in place has to call {@link #markDirty()} so the slots get compared with the counts.
+     *
+     * @param storage the storage to match.
+     * @return the amount of matching items.
+     */
+    public int getItemCount(@NotNull final ItemStorage storage)
+    {
+        updateIndex();
+        final Integer count;
+        if (storage.ignoreDamageValue())
+        {
+            count = itemCountsIgnoreDamage.get(storage.getItem());
+        }
+        else
+        {
+            count = itemCounts.get(new ItemStorage(storage.getItemStack(), false, true));
+        }
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Check if the inventory contains an item matching a storage, see {@link #getItemCount(ItemStorage)}.
+     *
+     * @param storage the storage to match.
+     * @return true if so.
+     */
+    public boolean hasItem(@NotNull final ItemStorage storage)
+    {
+        return getItemCount(storage) > 0;
+    }
+
+    /**
+     * Get the first slot containing food.
+     *
+     * @return the slot or -1 if there is no food.
+     */
+    public int getFirstFoodSlot()
+    {
+        updateIndex();
+        for (int slot = foodSlots.nextSetBit(0); slot >= 0; slot = foodSlots.nextSetBit(slot + 1))
+        {
+            if (isFood(getStackInSlot(slot)))
+            {
+                return slot;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Get the slot of the lowest level tool of a type which can be used.
+     *
+     * @param toolType     the type of the tool.
+     * @param minimalLevel the minimal level the tool needs.
+     * @param maximumLevel the maximal level the tool may have, including enchantments.
+     * @return the slot or -1 if there is no such tool.
+     */
+    public int getBestToolSlot(@NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        final BitSet candidates = getToolSlots(toolType);
+        int bestSlot = NO_SLOT;
+        int bestLevel = Integer.MAX_VALUE;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1))
+        {
+            final ItemStack item = getStackInSlot(slot);
+            final int level = ItemStackUtils.getMiningLevel(item, toolType);
+            if (level >= minimalLevel && level < bestLevel
+                  && (toolType == ToolType.NONE || ItemStackUtils.verifyToolLevel(item, level, minimalLevel, maximumLevel)))
+            {
+                bestSlot = slot;
+                bestLevel = level;
+            }
+        }
+        return bestSlot;
+    }
+
+    /**
+     * Get the slots which may contain a tool of a type.
+     * The slots of a type are looked up with its first query and then kept up to date with the index.
+     *
+     * @param toolType the type of the tool.
+     * @return the slots, all slots for {@link ToolType#NONE}.
+     */
+    private BitSet getToolSlots(@NotNull final IToolType toolType)
+    {
+        updateIndex();
+        BitSet slots = toolSlots.get(toolType);
+        if (slots == null)
+        {
+            slots = new BitSet();
+            for (int slot = 0; slot < getSizeInventory(); slot++)
+            {
+                slots.set(slot, isToolCandidate(getStackInSlot(slot), toolType));
+            }
+            toolSlots.put(toolType, slots);
+        }
+        return slots;
+    }
+
+    /**
+     * Check if a stack may be a tool of a type.
+     *
+     * @param stack    the stack.
+     * @param toolType the type of the tool.
+     * @return true if so, always for {@link ToolType#NONE}.
+     */
+    private static boolean isToolCandidate(final ItemStack stack, @NotNull final IToolType toolType)
+    {
+        return toolType == ToolType.NONE || (!ItemStackUtils.isEmpty(stack) && ItemStackUtils.getMiningLevel(stack, toolType) >= 0);
+    }
+
+    /**
+     * Bring the index up to date if slots changed without telling which.
+     */
+    private void updateIndex()
+    {
+        if (indexedItems == null)
+        {
+            indexedItems = new Item[getSizeInventory()];
+            indexedDamages = new int[getSizeInventory()];
+            indexedCounts = new int[getSizeInventory()];
+            slotsDirty = true;
+        }
+
+        if (slotsDirty)
+        {
+            slotsDirty = false;
+            for (int slot = 0; slot < getSizeInventory(); slot++)
+            {
+                reindexSlot(slot);
+            }
+        }
+    }
+
+    /**
+     * Update the item counts, food and tool slots of a slot whose stack differs from the one it was indexed with.
+     *
+     * @param slot the slot.
+     */
+    private void reindexSlot(final int slot)
+    {
+        if (indexedItems == null || slotsDirty)
+        {
+            return;
+        }
+
+        final ItemStack stack = getStackInSlot(slot);
+        final boolean empty = ItemStackUtils.isEmpty(stack);
+        final Item item = empty ? null : stack.getItem();
+        final int damage = empty ? 0 : stack.getItemDamage();
+        final int count = empty ? 0 : stack.getCount();
+        final boolean sameItem = item == indexedItems[slot] && damage == indexedDamages[slot];
+        if (sameItem && count == indexedCounts[slot])
+        {
+            return;
+        }
+
+        if (indexedItems[slot] != null)
+        {
+            addCount(itemCounts, getCountKey(indexedItems[slot], indexedDamages[slot]), -indexedCounts[slot]);
+            addCount(itemCountsIgnoreDamage, indexedItems[slot], -indexedCounts[slot]);
+        }
+        if (item != null)
+        {
+            addCount(itemCounts, getCountKey(item, damage), count);
+            addCount(itemCountsIgnoreDamage, item, count);
+        }
+
+        if (!sameItem)
+        {
+            foodSlots.set(slot, isFood(stack));
+            for (final Map.Entry<IToolType, BitSet> entry : toolSlots.entrySet())
+            {
+                entry.getValue().set(slot, isToolCandidate(stack, entry.getKey()));
+            }
+        }
+
+        indexedItems[slot] = item;
+        indexedDamages[slot] = damage;
+        indexedCounts[slot] = count;
+    }
+
+    /**
+     * Get the key of the item counts by item and damage value.
+     *
+     * @param item   the item.
+     * @param damage the damage value.
+     * @return the key.
+     */
+    private static ItemStorage getCountKey(@NotNull final Item item, final int damage)
+    {
+        return new ItemStorage(new ItemStack(item, 1, damage), false, true);
+    }
+
+    /**
+     * Add to the count of a key, dropping the key when it reaches zero.
+     *
+     * @param counts the counts.
+     * @param key    the key.
+     * @param delta  the amount to add, negative to remove.
+     * @param <K>    the type of the key.
+     */
+    private static <K> void addCount(@NotNull final Map<K, Integer> counts, @NotNull final K key, final int delta)
+    {
+        counts.merge(key, delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+
+    /**
+     * Check if a stack is food.
+     *
+     * @param stack the stack.
+     * @return true if so.
+     */
+    private static boolean isFood(final ItemStack stack)
+    {
+        return !ItemStackUtils.isEmpty(stack) && stack.getItem() instanceof ItemFood;
+    }
+
+    /**
+     * Called whenever the content of the inventory changes without knowing which slot,
+     * all slots are compared with the index on the next query.
+     */
+    private void onContentChanged()
+    {
+        version++;
+        slotsDirty = true;
+    }
+
+    /**
+     * Called whenever the content of a slot changes.
+     *
+     * @param slot the slot.
+     */
+    private void onSlotChanged(final int slot)
+    {
+        version++;
+        reindexSlot(slot);
+    }
+
     /**
      * Returns the item that is currently being held by citizen.
      *
@@ -310,7 +609,14 @@ public class InventoryCitizen implements IInventory
             tempIndex -= nonnulllist.size();
         }
 
-        return list != null && !ItemStackUtils.isEmpty(list.get(tempIndex)) ? ItemStackHelper.getAndSplit(list, tempIndex, count) : ItemStackUtils.EMPTY;
+        if (list == null || ItemStackUtils.isEmpty(list.get(tempIndex)))
+        {
+            return ItemStackUtils.EMPTY;
+        }
+
+        final ItemStack removed = ItemStackHelper.getAndSplit(list, tempIndex, count);
+        onSlotChanged(index);
+        return removed;
     }
 
     /**
@@ -339,6 +645,7 @@ public class InventoryCitizen implements IInventory
         {
             final ItemStack itemstack = nonnulllist.get(tempIndex);
             nonnulllist.set(tempIndex, ItemStackUtils.EMPTY);
+            onSlotChanged(index);
             return itemstack;
         }
         else
@@ -372,6 +679,7 @@ public class InventoryCitizen implements IInventory
         if (nonnulllist != null)
         {
             nonnulllist.set(tempIndex, stack);
+            onSlotChanged(index);
         }
     }
 
@@ -394,6 +702,7 @@ public class InventoryCitizen implements IInventory
     public void markDirty()
     {
         this.inventoryChanged = true;
+        onContentChanged();
         if (this.citizen != null)
         {
             this.citizen.markDirty();
@@ -516,6 +825,7 @@ public class InventoryCitizen implements IInventory
         {
             list.clear();
         }
+        onContentChanged();
     }
 
     /**
@@ -542,6 +852,7 @@ public class InventoryCitizen implements IInventory
                     {
                         this.mainInventory.set(j, itemStackIn.copy());
                         (this.mainInventory.get(j)).setAnimationsToGo(5);
+                        onSlotChanged(j);
                         ItemStackUtils.setSize(itemStackIn, 0);
                         return true;
                     }
@@ -657,6 +968,7 @@ public class InventoryCitizen implements IInventory
             {
                 i = i - k;
                 itemstack.grow(k);
+                onSlotChanged(j);
                 itemstack.setAnimationsToGo(5);
                 return i;
             }
@@ -707,6 +1019,7 @@ public class InventoryCitizen implements IInventory
      */
     public void deleteStack(final ItemStack stack)
     {
+        int offset = 0;
         for (final NonNullList<ItemStack> nonnulllist : this.allInventories)
         {
             for (int i = 0; i < nonnulllist.size(); ++i)
@@ -714,9 +1027,11 @@ public class InventoryCitizen implements IInventory
                 if (nonnulllist.get(i) == stack)
                 {
                     nonnulllist.set(i, ItemStackUtils.EMPTY);
+                    onSlotChanged(offset + i);
                     break;
                 }
             }
+            offset += nonnulllist.size();
         }
     }
 
@@ -801,6 +1116,7 @@ public class InventoryCitizen implements IInventory
         this.mainInventory.clear();
         this.armorInventory.clear();
         this.offHandInventory.clear();
+        onContentChanged();
 
         for (int i = 0; i < nbtTagListIn.tagCount(); ++i)
         {
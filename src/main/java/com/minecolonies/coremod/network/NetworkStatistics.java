@@ -0,0 +1,449 @@
+package com.minecolonies.coremod.network;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.network.messages.AbstractMessage;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.network.FMLEmbeddedChannel;
+import net.minecraftforge.fml.common.network.FMLOutboundHandler;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Records the outgoing network traffic of the minecolonies channel.
+ * <p>
+ * Two handlers are hooked into the server side channel pipeline, one in front of and one behind the message codec.
+ * This way the size of every encoded packet and the time spent in {@link IMessage#toBytes} are measured on the real
+ * send path, without serializing any message a second time. Traffic is accounted per message type, per colony
+ * (see {@link AbstractMessage#getColonyId()}) and per receiving player.
+ */
+public final class NetworkStatistics
+{
+    /**
+     * Name of the fml handler in front of which the encoded packets are measured.
+     */
+    private static final String FML_OUTBOUND_HANDLER = "fml:outbound";
+
+    /**
+     * Names of our handlers in the channel pipeline.
+     */
+    private static final String PACKET_HANDLER_NAME  = "minecolonies:stats_packet";
+    private static final String MESSAGE_HANDLER_NAME = "minecolonies:stats_message";
+
+    /**
+     * Amount of one second buckets in the rolling window.
+     */
+    public static final int WINDOW_SECONDS = 60;
+
+    /**
+     * Amount of entries listed per category in a report.
+     */
+    private static final int REPORT_ENTRIES = 10;
+
+    /**
+     * Ticks per minute, used for the periodic log dump.
+     */
+    private static final int TICKS_PER_MINUTE = 1200;
+
+    /**
+     * Conversion factors.
+     */
+    private static final double NANOS_PER_MILLI  = 1_000_000D;
+    private static final long   MILLIS_PER_SECOND = 1000L;
+
+    /**
+     * Key used for traffic which can't be attributed to a single player.
+     */
+    private static final String BROADCAST = "<broadcast>";
+
+    /**
+     * Traffic per message type, colony and player.
+     */
+    private static final Map<String, TrafficCounter>  perType   = new HashMap<>();
+    private static final Map<Integer, TrafficCounter> perColony = new HashMap<>();
+    private static final Map<String, TrafficCounter>  perPlayer = new HashMap<>();
+
+    /**
+     * Overall traffic.
+     */
+    private static final TrafficCounter total = new TrafficCounter();
+
+    /**
+     * The message currently travelling through the codec and the time it entered it.
+     */
+    private static final ThreadLocal<PendingMessage> pending = ThreadLocal.withInitial(PendingMessage::new);
+
+    /**
+     * Server ticks since the last log dump.
+     */
+    private static int ticksSinceDump = 0;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private NetworkStatistics()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Hook the statistic handlers into the pipeline of a channel.
+     *
+     * @param channel the server side channel of the mod.
+     */
+    public static void install(@NotNull final FMLEmbeddedChannel channel)
+    {
+        channel.pipeline().addAfter(FML_OUTBOUND_HANDLER, PACKET_HANDLER_NAME, new PacketHandler());
+        channel.pipeline().addLast(MESSAGE_HANDLER_NAME, new MessageHandler());
+    }
+
+    /**
+     * Called every server tick, dumps the statistics to the log in the configured interval.
+     */
+    public static void onServerTick()
+    {
+        if (!Configurations.gameplay.enableNetworkStatistics || Configurations.gameplay.networkStatisticsLogInterval <= 0)
+        {
+            return;
+        }
+
+        if (++ticksSinceDump >= Configurations.gameplay.networkStatisticsLogInterval * TICKS_PER_MINUTE)
+        {
+            ticksSinceDump = 0;
+            for (final String line : getReport())
+            {
+                Log.getLogger().info(line);
+            }
+        }
+    }
+
+    /**
+     * Clear all recorded statistics.
+     */
+    public static synchronized void reset()
+    {
+        perType.clear();
+        perColony.clear();
+        perPlayer.clear();
+        total.clear();
+    }
+
+    /**
+     * Create a human readable report of the recorded traffic.
+     *
+     * @return the lines of the report.
+     */
+    @NotNull
+    public static synchronized List<String> getReport()
+    {
+        final long second = currentSecond();
+        final List<String> lines = new ArrayList<>();
+        lines.add("Minecolonies network statistics (window " + WINDOW_SECONDS + "s):");
+        lines.add(total.format("total", second));
+
+        lines.add("Top message types:");
+        appendTop(lines, perType, second);
+        lines.add("Top colonies:");
+        appendTop(lines, perColony, second);
+        lines.add("Top players:");
+        appendTop(lines, perPlayer, second);
+        return lines;
+    }
+
+    /**
+     * Append the entries with the highest traffic in the window of a category.
+     *
+     * @param lines    the lines to append to.
+     * @param counters the counters of the category.
+     * @param second   the current second.
+     * @param <K>      the key type.
+     */
+    private static <K> void appendTop(@NotNull final List<String> lines, @NotNull final Map<K, TrafficCounter> counters, final long second)
+    {
+        final List<Map.Entry<K, TrafficCounter>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<K, TrafficCounter> entry) -> entry.getValue().getWindowBytes(second))
+                       .thenComparingLong(entry -> entry.getValue().totalBytes)
+                       .reversed());
+        for (int i = 0; i < entries.size() && i < REPORT_ENTRIES; i++)
+        {
+            lines.add("  " + entries.get(i).getValue().format(String.valueOf(entries.get(i).getKey()), second));
+        }
+    }
+
+    /**
+     * Record a message which was encoded on the channel.
+     *
+     * @param message the message.
+     * @param bytes   the size of the encoded packet.
+     * @param nanos   the time it took to encode it.
+     * @param target  the target type of the message.
+     * @param args    the target arguments.
+     */
+    private static synchronized void record(
+      @NotNull final IMessage message,
+      final int bytes,
+      final long nanos,
+      @Nullable final FMLOutboundHandler.OutboundTarget target,
+      @Nullable final Object args)
+    {
+        final long second = currentSecond();
+        final List<String> receivers = getReceivers(target, args);
+        final int count = Math.max(1, receivers.size());
+
+        total.add(second, bytes, nanos, count);
+        perType.computeIfAbsent(getTypeName(message), key -> new TrafficCounter()).add(second, bytes, nanos, count);
+
+        final int colonyId = message instanceof AbstractMessage ? ((AbstractMessage<?, ?>) message).getColonyId() : AbstractMessage.NO_COLONY;
+        if (colonyId != AbstractMessage.NO_COLONY)
+        {
+            perColony.computeIfAbsent(colonyId, key -> new TrafficCounter()).add(second, bytes, nanos, count);
+        }
+
+        if (receivers.isEmpty())
+        {
+            perPlayer.computeIfAbsent(BROADCAST, key -> new TrafficCounter()).add(second, bytes, nanos, 1);
+        }
+        else
+        {
+            for (final String receiver : receivers)
+            {
+                perPlayer.computeIfAbsent(receiver, key -> new TrafficCounter()).add(second, bytes, nanos, 1);
+            }
+        }
+    }
+
+    /**
+     * Resolve the names of the players a message is sent to.
+     *
+     * @param target the target type of the message.
+     * @param args   the target arguments.
+     * @return the player names, empty if they can't be determined.
+     */
+    @NotNull
+    private static List<String> getReceivers(@Nullable final FMLOutboundHandler.OutboundTarget target, @Nullable final Object args)
+    {
+        if (target == FMLOutboundHandler.OutboundTarget.PLAYER && args instanceof EntityPlayerMP)
+        {
+            return Collections.singletonList(((EntityPlayerMP) args).getName());
+        }
+
+        final MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (target == FMLOutboundHandler.OutboundTarget.ALL && server != null)
+        {
+            final List<String> receivers = new ArrayList<>();
+            for (final EntityPlayerMP player : server.getPlayerList().getPlayers())
+            {
+                receivers.add(player.getName());
+            }
+            return receivers;
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the name a message type is reported under.
+     *
+     * @param message the message.
+     * @return the class name without package.
+     */
+    @NotNull
+    private static String getTypeName(@NotNull final IMessage message)
+    {
+        final String name = message.getClass().getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Get the current second used for the rolling windows.
+     *
+     * @return the current epoch second.
+     */
+    private static long currentSecond()
+    {
+        return System.currentTimeMillis() / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * Sits behind the codec and sees the messages before they are encoded.
+     */
+    private static class MessageHandler extends ChannelOutboundHandlerAdapter
+    {
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception
+        {
+            if (Configurations.gameplay.enableNetworkStatistics && msg instanceof IMessage)
+            {
+                final PendingMessage current = pending.get();
+                current.message = (IMessage) msg;
+                current.start = System.nanoTime();
+                try
+                {
+                    super.write(ctx, msg, promise);
+                }
+                finally
+                {
+                    current.message = null;
+                }
+                return;
+            }
+            super.write(ctx, msg, promise);
+        }
+    }
+
+    /**
+     * Sits in front of the codec and sees the encoded packets.
+     */
+    private static class PacketHandler extends ChannelOutboundHandlerAdapter
+    {
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception
+        {
+            final PendingMessage current = pending.get();
+            if (current.message != null && msg instanceof FMLProxyPacket)
+            {
+                final long nanos = System.nanoTime() - current.start;
+                record(current.message,
+                  ((FMLProxyPacket) msg).payload().readableBytes(),
+                  nanos,
+                  ctx.channel().attr(FMLOutboundHandler.FML_MESSAGETARGET).get(),
+                  ctx.channel().attr(FMLOutboundHandler.FML_MESSAGETARGETARGS).get());
+                current.message = null;
+            }
+            super.write(ctx, msg, promise);
+        }
+    }
+
+    /**
+     * The message which is currently encoded on a thread.
+     */
+    private static class PendingMessage
+    {
+        @Nullable
+        private IMessage message;
+        private long     start;
+    }
+
+    /**
+     * Total and rolling window traffic of one key.
+     */
+    private static class TrafficCounter
+    {
+        private final long[] windowBytes    = new long[WINDOW_SECONDS];
+        private final long[] windowMessages = new long[WINDOW_SECONDS];
+        private final long[] windowSecond   = new long[WINDOW_SECONDS];
+
+        private long totalBytes;
+        private long totalMessages;
+        private long totalEncodes;
+        private long totalNanos;
+
+        /**
+         * Add a sent message.
+         *
+         * @param second the current second.
+         * @param bytes  the size of the packet.
+         * @param nanos  the time spent encoding it.
+         * @param count  the amount of receivers.
+         */
+        private void add(final long second, final int bytes, final long nanos, final int count)
+        {
+            final int slot = (int) (second % WINDOW_SECONDS);
+            if (windowSecond[slot] != second)
+            {
+                windowSecond[slot] = second;
+                windowBytes[slot] = 0;
+                windowMessages[slot] = 0;
+            }
+            windowBytes[slot] += (long) bytes * count;
+            windowMessages[slot] += count;
+
+            totalBytes += (long) bytes * count;
+            totalMessages += count;
+            totalEncodes++;
+            totalNanos += nanos;
+        }
+
+        /**
+         * Get the bytes sent within the rolling window.
+         *
+         * @param second the current second.
+         * @return the amount of bytes.
+         */
+        private long getWindowBytes(final long second)
+        {
+            long bytes = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++)
+            {
+                if (second - windowSecond[i] < WINDOW_SECONDS)
+                {
+                    bytes += windowBytes[i];
+                }
+            }
+            return bytes;
+        }
+
+        /**
+         * Get the messages sent within the rolling window.
+         *
+         * @param second the current second.
+         * @return the amount of messages.
+         */
+        private long getWindowMessages(final long second)
+        {
+            long messages = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++)
+            {
+                if (second - windowSecond[i] < WINDOW_SECONDS)
+                {
+                    messages += windowMessages[i];
+                }
+            }
+            return messages;
+        }
+
+        /**
+         * Reset the counter.
+         */
+        private void clear()
+        {
+            Arrays.fill(windowBytes, 0);
+            Arrays.fill(windowMessages, 0);
+            Arrays.fill(windowSecond, 0);
+            totalBytes = 0;
+            totalMessages = 0;
+            totalEncodes = 0;
+            totalNanos = 0;
+        }
+
+        /**
+         * Format the counter as a report line.
+         *
+         * @param name   the name of the counter.
+         * @param second the current second.
+         * @return the line.
+         */
+        @NotNull
+        private String format(@NotNull final String name, final long second)
+        {
+            final double avgMillis = totalEncodes == 0 ? 0 : totalNanos / NANOS_PER_MILLI / totalEncodes;
+            return String.format("%s: %d msgs / %d B total, %.1f msgs/s / %.1f B/s, %.3f ms per encode",
+              name,
+              totalMessages,
+              totalBytes,
+              getWindowMessages(second) / (double) WINDOW_SECONDS,
+              getWindowBytes(second) / (double) WINDOW_SECONDS,
+              avgMillis);
+        }
+    }
+}
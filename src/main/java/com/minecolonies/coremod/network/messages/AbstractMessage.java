@@ -16,6 +16,21 @@ import org.jetbrains.annotations.Nullable;
  */
 public abstract class AbstractMessage<A extends IMessage, B extends IMessage> implements IMessage, IMessageHandler<A, B>
 {
+    /**
+     * Colony id reported for messages which don't belong to a colony.
+     */
+    public static final int NO_COLONY = -1;
+
+    /**
+     * Get the id of the colony this message belongs to.
+     * Used to account the network traffic per colony, override this in colony related messages.
+     *
+     * @return the colony id or {@link #NO_COLONY}.
+     */
+    public int getColonyId()
+    {
+        return NO_COLONY;
+    }
 
     @Nullable
     @Override
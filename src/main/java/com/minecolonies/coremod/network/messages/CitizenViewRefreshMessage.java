@@ -0,0 +1,67 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sent by open citizen windows to request the deferred citizen updates of a colony
+ * and to keep receiving them right away while the window is open.
+ */
+public class CitizenViewRefreshMessage extends AbstractMessage<CitizenViewRefreshMessage, IMessage>
+{
+    /**
+     * The colony id.
+     */
+    private int colonyId;
+
+    /**
+     * Empty public constructor.
+     */
+    public CitizenViewRefreshMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request the citizen updates of a colony.
+     *
+     * @param colonyId the id of the colony.
+     */
+    public CitizenViewRefreshMessage(final int colonyId)
+    {
+        super();
+        this.colonyId = colonyId;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+    }
+
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+    }
+
+    @Override
+    public void messageOnServerThread(final CitizenViewRefreshMessage message, final EntityPlayerMP player)
+    {
+        final Colony colony = ColonyManager.getColony(message.colonyId);
+        if (colony != null)
+        {
+            colony.getCitizenManager().onCitizenViewRefresh(player);
+        }
+    }
+}
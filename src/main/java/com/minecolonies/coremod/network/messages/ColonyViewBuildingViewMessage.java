@@ -49,6 +49,12 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.readBytes(buildingData, buf.readableBytes());
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
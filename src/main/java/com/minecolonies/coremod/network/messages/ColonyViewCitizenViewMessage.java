@@ -48,6 +48,12 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
         this.citizenBuffer = buf.retain();
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
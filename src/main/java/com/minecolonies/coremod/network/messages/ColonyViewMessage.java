@@ -4,11 +4,13 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.ColonyViewSnapshot;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Add or Update a ColonyView on the client.
@@ -32,13 +34,19 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
      *
      * @param colony            Colony of the view to update.
      * @param isNewSubscription Boolean whether or not this is a new subscription.
+     * @param current           the current state of the colony.
+     * @param lastSent          the state the receiver already knows, null to send everything.
      */
-    public ColonyViewMessage(@NotNull final Colony colony, final boolean isNewSubscription)
+    public ColonyViewMessage(
+      @NotNull final Colony colony,
+      final boolean isNewSubscription,
+      @NotNull final ColonyViewSnapshot current,
+      @Nullable final ColonyViewSnapshot lastSent)
     {
         this.colonyId = colony.getID();
         this.isNewSubscription = isNewSubscription;
         this.colonyBuffer = Unpooled.buffer();
-        ColonyView.serializeNetworkData(colony, colonyBuffer, isNewSubscription);
+        ColonyView.serializeNetworkData(colonyBuffer, current, lastSent);
     }
 
     @Override
@@ -50,6 +58,12 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         colonyBuffer = newBuf;
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
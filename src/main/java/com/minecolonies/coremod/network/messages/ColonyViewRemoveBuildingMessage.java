@@ -44,6 +44,12 @@ public class ColonyViewRemoveBuildingMessage extends AbstractMessage<ColonyViewR
         buildingId = BlockPosUtil.readFromByteBuf(buf);
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
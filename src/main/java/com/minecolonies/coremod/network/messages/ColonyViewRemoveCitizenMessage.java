@@ -42,6 +42,12 @@ public class ColonyViewRemoveCitizenMessage extends AbstractMessage<ColonyViewRe
         citizenId = buf.readInt();
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
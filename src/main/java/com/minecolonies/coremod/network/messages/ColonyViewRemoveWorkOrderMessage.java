@@ -43,6 +43,12 @@ public class ColonyViewRemoveWorkOrderMessage extends AbstractMessage<ColonyView
         workOrderId = buf.readInt();
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
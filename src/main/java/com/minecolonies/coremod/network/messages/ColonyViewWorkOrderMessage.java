@@ -50,6 +50,12 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
         workOrderBuffer = newbuf;
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
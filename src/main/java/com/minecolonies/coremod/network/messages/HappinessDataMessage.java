@@ -56,6 +56,12 @@ public class HappinessDataMessage extends AbstractMessage<HappinessDataMessage,
         happinessData.fromBytes(byteBuf);
     }
 
+    @Override
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -83,6 +83,12 @@ public class PermissionsMessage
             ColonyManager.handlePermissionsViewMessage(message.colonyID, message.data);
         }
 
+        @Override
+        public int getColonyId()
+        {
+            return colonyID;
+        }
+
         @Override
         public void toBytes(@NotNull final ByteBuf buf)
         {
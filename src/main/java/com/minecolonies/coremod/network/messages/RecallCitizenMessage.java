@@ -8,6 +8,7 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.entity.CitizenEntityRegistry;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.util.TeleportHelper;
 import io.netty.buffer.ByteBuf;
@@ -17,7 +18,6 @@ import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -100,16 +100,15 @@ public class RecallCitizenMessage extends AbstractMessage<RecallCitizenMessage,
                     }
                     else if (optionalEntityCitizen.get().ticksExisted == 0)
                     {
-                        final EntityCitizen oldCitizen = optionalEntityCitizen.get();
-                        final List<EntityCitizen> list = player.getServerWorld().getEntities(EntityCitizen.class, e -> e.equals(oldCitizen));
-                        if (list.isEmpty())
+                        final Optional<EntityCitizen> loadedCitizen = CitizenEntityRegistry.getEntity(colony.getID(), citizenData.getId());
+                        if (loadedCitizen.isPresent())
                         {
-                            citizenData.setCitizenEntity(null);
-                            citizenData.updateCitizenEntityIfNecessary();
+                            citizenData.setCitizenEntity(loadedCitizen.get());
                         }
                         else
                         {
-                            citizenData.setCitizenEntity(list.get(0));
+                            citizenData.setCitizenEntity(null);
+                            citizenData.updateCitizenEntityIfNecessary();
                         }
                     }
 
@@ -3,15 +3,13 @@ package com.minecolonies.coremod.network.messages;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
@@ -19,6 +17,11 @@ import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
  */
 public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<UpdateChunkCapabilityMessage, IMessage>
 {
+    /**
+     * Maximum amount of bytes of a var int.
+     */
+    private static final int MAX_VAR_INT_SIZE = 5;
+
     /**
      * The colony.
      */
@@ -35,9 +38,9 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
     private int z;
 
     /**
-     * The list of the close colonies.
+     * The ids of the close colonies.
      */
-    private List<Integer> closeColonies;
+    private int[] closeColonies;
 
     /**
      * Empty constructor used when registering the message.
@@ -58,7 +61,11 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
         this.x = x;
         this.z = z;
         this.owningColonyId = tagCapability.getOwningColony();
-        this.closeColonies = tagCapability.getAllCloseColonies();
+        this.closeColonies = new int[tagCapability.getCloseColonyCount()];
+        for (int i = 0; i < closeColonies.length; i++)
+        {
+            closeColonies[i] = tagCapability.getCloseColony(i);
+        }
     }
 
     @Override
@@ -66,12 +73,11 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
     {
         x = buf.readInt();
         z = buf.readInt();
-        owningColonyId = buf.readInt();
-        final int size = buf.readInt();
-        closeColonies = new ArrayList<>();
-        for(int i = 0; i < size; i++)
+        owningColonyId = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_SIZE);
+        closeColonies = new int[ByteBufUtils.readVarInt(buf, MAX_VAR_INT_SIZE)];
+        for(int i = 0; i < closeColonies.length; i++)
         {
-            closeColonies.add(buf.readInt());
+            closeColonies[i] = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_SIZE);
         }
     }
 
@@ -80,11 +86,11 @@ public class UpdateChunkCapabilityMessage implements IMessage, IMessageHandler<U
     {
         buf.writeInt(x);
         buf.writeInt(z);
-        buf.writeInt(owningColonyId);
-        buf.writeInt(closeColonies.size());
+        ByteBufUtils.writeVarInt(buf, owningColonyId, MAX_VAR_INT_SIZE);
+        ByteBufUtils.writeVarInt(buf, closeColonies.length, MAX_VAR_INT_SIZE);
         for(final int id: closeColonies)
         {
-            buf.writeInt(id);
+            ByteBufUtils.writeVarInt(buf, id, MAX_VAR_INT_SIZE);
         }
     }
 
@@ -0,0 +1,301 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Routes the permission relevant events to the colony owning the chunk they happen in.
+ * Registered once, the owning colony is resolved from the chunk capability,
+ * so the cost of an event doesn't depend on the amount of colonies.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * Get the permission handler of the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler or null if the position isn't in a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final World world, @Nullable final BlockPos pos)
+    {
+        if (pos == null)
+        {
+            return null;
+        }
+
+        final Colony colony = ColonyManager.getColony(world, pos);
+        return colony == null ? null : colony.getEventHandler();
+    }
+
+    /**
+     * Get the permission handler of the colony owning the position of a player action.
+     * Resolves fake players the same way the permission checks do.
+     *
+     * @param playerIn the player.
+     * @param pos      the position of the action, null for the position of the player.
+     * @return the handler or null if the position isn't in a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final EntityPlayer playerIn, @Nullable final BlockPos pos)
+    {
+        @NotNull final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(playerIn, playerIn.getEntityWorld());
+        return getHandler(player.getEntityWorld(), pos == null ? player.getPosition() : pos);
+    }
+
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are routed to the colony they belong to, even if they are outside of it.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        final World world = event.getWorld();
+        if (!Configurations.gameplay.enableColonyProtection || world.isRemote)
+        {
+            return;
+        }
+
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final AbstractBuilding building = ColonyManager.getBuilding(world, event.getPos());
+            if (building != null)
+            {
+                building.getColony().getEventHandler().on(event);
+            }
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Handed to every colony owning one of the affected blocks or entities.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        final World world = event.getWorld();
+        final Set<Colony> colonies = new HashSet<>();
+        for (final BlockPos pos : event.getAffectedBlocks())
+        {
+            final Colony colony = ColonyManager.getColony(world, pos);
+            if (colony != null)
+            {
+                colonies.add(colony);
+            }
+        }
+        for (final Entity entity : event.getAffectedEntities())
+        {
+            final Colony colony = ColonyManager.getColony(entity.getEntityWorld(), entity.getPosition());
+            if (colony != null)
+            {
+                colonies.add(colony);
+            }
+        }
+
+        for (final Colony colony : colonies)
+        {
+            colony.getEventHandler().on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerEvent.BreakSpeed handler.
+     *
+     * @param event PlayerEvent.BreakSpeed
+     */
+    @SubscribeEvent
+    public void on(final PlayerEvent.BreakSpeed event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity().world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer(), event.getPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getEntityPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final BlockPos pos = event.getTarget() == null ? null : event.getTarget().getBlockPos();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), pos);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getEntity().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), null);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.huts.BlockHutField;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockCrops;
+import net.minecraft.block.BlockStem;
+import net.minecraft.block.IGrowable;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bitmaps of the blocks of a field which need to be hoed, planted or harvested.
+ * A block is only checked again when it got marked as changed, by block and crop growth events or by the farmer,
+ * and every while all blocks are checked again to catch changes which don't fire events.
+ */
+public class FieldStateMap
+{
+    /**
+     * The maximum offset of a block from the scarecrow, one more than the maximum field range to cover the whole walk of the farmer.
+     */
+    private static final int RANGE = 6;
+
+    /**
+     * The width of the mapped area.
+     */
+    private static final int WIDTH = RANGE * 2 + 1;
+
+    /**
+     * Ticks after which all blocks of the field are checked again.
+     */
+    private static final int SWEEP_INTERVAL = 1200;
+
+    /**
+     * The actions a block of a field may need.
+     */
+    public enum FieldAction
+    {
+        HOE,
+        PLANT,
+        HARVEST
+    }
+
+    /**
+     * The field the map belongs to.
+     */
+    private final ScarecrowTileEntity field;
+
+    /**
+     * The blocks needing an action by action.
+     */
+    private final Map<FieldAction, BitSet> actions = new EnumMap<>(FieldAction.class);
+
+    /**
+     * The blocks which have to be checked again.
+     */
+    private final BitSet changed = new BitSet(WIDTH * WIDTH);
+
+    /**
+     * The blocks inside the current bounds of the field.
+     */
+    private final BitSet fieldArea = new BitSet(WIDTH * WIDTH);
+
+    /**
+     * The bounds the field area has been calculated for, in the order plus x, minus x, plus z, minus z.
+     */
+    private final int[] fieldBounds = {-1, -1, -1, -1};
+
+    /**
+     * The world time of the last check of all blocks, negative if never checked.
+     */
+    private long lastSweep = -SWEEP_INTERVAL;
+
+    /**
+     * Create the map of a field.
+     *
+     * @param field the scarecrow of the field.
+     */
+    public FieldStateMap(@NotNull final ScarecrowTileEntity field)
+    {
+        this.field = field;
+        for (final FieldAction action : FieldAction.values())
+        {
+            actions.put(action, new BitSet(WIDTH * WIDTH));
+        }
+    }
+
+    /**
+     * Mark a block as changed.
+     *
+     * @param pos the position of the ground or of the crop.
+     */
+    public void markChanged(@NotNull final BlockPos pos)
+    {
+        final int index = getIndex(pos.getX() - field.getPos().getX(), pos.getZ() - field.getPos().getZ());
+        if (index >= 0)
+        {
+            changed.set(index);
+        }
+    }
+
+    /**
+     * Mark all blocks as changed, for example after the size of the field changed.
+     */
+    public void markAllChanged()
+    {
+        changed.set(0, WIDTH * WIDTH);
+    }
+
+    /**
+     * Check if a block lies in the area of a field, as ground or as crop.
+     *
+     * @param scarecrow the position of the scarecrow of the field.
+     * @param pos       the position of the block.
+     * @return true if so.
+     */
+    public static boolean covers(@NotNull final BlockPos scarecrow, @NotNull final BlockPos pos)
+    {
+        final int offsetY = pos.getY() - scarecrow.getY();
+        return (offsetY == 0 || offsetY == -1) && getIndex(pos.getX() - scarecrow.getX(), pos.getZ() - scarecrow.getZ()) >= 0;
+    }
+
+    /**
+     * Get the chunks the area of a field lies in.
+     *
+     * @param scarecrow the position of the scarecrow of the field.
+     * @return the chunk positions as long, see {@link ChunkPos#asLong(int, int)}.
+     */
+    @NotNull
+    public static List<Long> getCoveredChunks(@NotNull final BlockPos scarecrow)
+    {
+        final List<Long> chunks = new ArrayList<>();
+        for (int chunkX = (scarecrow.getX() - RANGE) >> 4; chunkX <= (scarecrow.getX() + RANGE) >> 4; chunkX++)
+        {
+            for (int chunkZ = (scarecrow.getZ() - RANGE) >> 4; chunkZ <= (scarecrow.getZ() + RANGE) >> 4; chunkZ++)
+            {
+                chunks.add(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Check if any block of the field needs an action.
+     *
+     * @param world  the world.
+     * @param action the action.
+     * @return true if so.
+     */
+    public boolean needsAny(@NotNull final World world, @NotNull final FieldAction action)
+    {
+        update(world);
+        return actions.get(action).intersects(fieldArea);
+    }
+
+    /**
+     * Check if a block of the field needs an action.
+     * Blocks outside of the bounds of the field never need one.
+     *
+     * @param world   the world.
+     * @param action  the action.
+     * @param offsetX the offset of the block from the scarecrow in x direction.
+     * @param offsetZ the offset of the block from the scarecrow in z direction.
+     * @return true if so.
+     */
+    public boolean needs(@NotNull final World world, @NotNull final FieldAction action, final int offsetX, final int offsetZ)
+    {
+        if (!isInField(offsetX, offsetZ))
+        {
+            return false;
+        }
+
+        final int index = getIndex(offsetX, offsetZ);
+        if (index < 0)
+        {
+            // Fields bigger than the mapped area are checked directly.
+            return check(world, action, field.getPos().down().east(offsetX).south(offsetZ));
+        }
+
+        update(world);
+        return actions.get(action).get(index);
+    }
+
+    /**
+     * Check if a block lies in the current bounds of the field.
+     *
+     * @param offsetX the offset of the block from the scarecrow in x direction.
+     * @param offsetZ the offset of the block from the scarecrow in z direction.
+     * @return true if so.
+     */
+    private boolean isInField(final int offsetX, final int offsetZ)
+    {
+        return offsetX <= field.getLengthPlusX() && -offsetX <= field.getLengthMinusX()
+                 && offsetZ <= field.getWidthPlusZ() && -offsetZ <= field.getWidthMinusZ();
+    }
+
+    /**
+     * Check the changed blocks again, or all of them if the last sweep is too old.
+     *
+     * @param world the world.
+     */
+    private void update(@NotNull final World world)
+    {
+        updateFieldArea();
+        if (world.getTotalWorldTime() - lastSweep >= SWEEP_INTERVAL)
+        {
+            lastSweep = world.getTotalWorldTime();
+            markAllChanged();
+        }
+
+        for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1))
+        {
+            final BlockPos position = field.getPos().down().east(index / WIDTH - RANGE).south(index % WIDTH - RANGE);
+            for (final FieldAction action : FieldAction.values())
+            {
+                actions.get(action).set(index, check(world, action, position));
+            }
+        }
+        changed.clear();
+    }
+
+    /**
+     * Recalculate the blocks inside the field if its bounds changed.
+     */
+    private void updateFieldArea()
+    {
+        if (fieldBounds[0] == field.getLengthPlusX() && fieldBounds[1] == field.getLengthMinusX()
+              && fieldBounds[2] == field.getWidthPlusZ() && fieldBounds[3] == field.getWidthMinusZ())
+        {
+            return;
+        }
+
+        fieldBounds[0] = field.getLengthPlusX();
+        fieldBounds[1] = field.getLengthMinusX();
+        fieldBounds[2] = field.getWidthPlusZ();
+        fieldBounds[3] = field.getWidthMinusZ();
+        fieldArea.clear();
+        for (int offsetX = -RANGE; offsetX <= RANGE; offsetX++)
+        {
+            for (int offsetZ = -RANGE; offsetZ <= RANGE; offsetZ++)
+            {
+                if (isInField(offsetX, offsetZ))
+                {
+                    fieldArea.set(getIndex(offsetX, offsetZ));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check a block of the field against the world.
+     *
+     * @param world    the world.
+     * @param action   the action.
+     * @param position the position of the ground.
+     * @return true if the block needs the action.
+     */
+    protected boolean check(@NotNull final World world, @NotNull final FieldAction action, @NotNull final BlockPos position)
+    {
+        switch (action)
+        {
+            case HOE:
+                return shouldHoe(world, position);
+            case PLANT:
+                return shouldPlant(world, position, field);
+            case HARVEST:
+                return shouldHarvest(world, position);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Get the index of a block in the bitmaps.
+     *
+     * @param offsetX the offset in x direction.
+     * @param offsetZ the offset in z direction.
+     * @return the index or -1 if it is out of range.
+     */
+    private static int getIndex(final int offsetX, final int offsetZ)
+    {
+        if (Math.abs(offsetX) > RANGE || Math.abs(offsetZ) > RANGE)
+        {
+            return -1;
+        }
+        return (offsetX + RANGE) * WIDTH + offsetZ + RANGE;
+    }
+
+    /**
+     * Checks if the ground should be hoed.
+     *
+     * @param world    the world.
+     * @param position the position of the ground.
+     * @return true if should be hoed.
+     */
+    public static boolean shouldHoe(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        return !BlockUtils.isBlockSeed(world, position.up())
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
+                 && (world.getBlockState(position).getBlock() == Blocks.DIRT || world.getBlockState(position).getBlock() == Blocks.GRASS);
+    }
+
+    /**
+     * Checks if the ground should be planted.
+     *
+     * @param world    the world.
+     * @param position the position of the ground.
+     * @param field    the field close to this position.
+     * @return true if the farmer should plant.
+     */
+    public static boolean shouldPlant(@NotNull final World world, @NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
+    {
+        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
+                 && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+    }
+
+    /**
+     * Checks if the crop should be harvested.
+     *
+     * @param world    the world.
+     * @param position the position of the ground.
+     * @return true if should be harvested.
+     */
+    public static boolean shouldHarvest(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        final IBlockState state = world.getBlockState(position.up());
+        final Block block = state.getBlock();
+
+        if (block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK)
+        {
+            return true;
+        }
+
+        if (block instanceof IGrowable && block instanceof BlockCrops && !(block instanceof BlockStem))
+        {
+            @NotNull final BlockCrops crop = (BlockCrops) block;
+            return crop.isMaxAge(state);
+        }
+
+        return false;
+    }
+}
@@ -116,6 +116,11 @@ public class ScarecrowTileEntity extends TileEntityChest
      */
     private final IItemHandlerModifiable inventory = new ItemStackHandler(1);
 
+    /**
+     * The blocks of the field which need work.
+     */
+    private final FieldStateMap fieldStateMap = new FieldStateMap(this);
+
     /**
      * Creates an instance of the tileEntity.
      */
@@ -172,6 +177,7 @@ public class ScarecrowTileEntity extends TileEntityChest
         this.lengthMinusX = searchNextBlock(0, position.west(), EnumFacing.WEST, world);
         this.widthPlusZ = searchNextBlock(0, position.south(), EnumFacing.SOUTH, world);
         this.widthMinusZ = searchNextBlock(0, position.north(), EnumFacing.NORTH, world);
+        fieldStateMap.markAllChanged();
         markDirty();
     }
 
@@ -433,6 +439,15 @@ public class ScarecrowTileEntity extends TileEntityChest
         PLANTED
     }
 
+    /**
+     * Get the bitmaps of the blocks of the field which need work.
+     * @return the field state map.
+     */
+    public FieldStateMap getFieldStateMap()
+    {
+        return fieldStateMap;
+    }
+
     /**
      * Get the inventory of the scarecrow.
      * @return the IItemHandler.
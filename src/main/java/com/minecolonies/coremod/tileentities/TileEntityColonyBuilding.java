@@ -1,19 +1,18 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.minecolonies.api.colony.permissions.Action;
-import com.minecolonies.api.util.InventoryFunctions;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingContainer;
+import com.minecolonies.coremod.colony.buildings.BuildingStorageView;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
@@ -148,41 +147,15 @@ public class TileEntityColonyBuilding extends TileEntityChest
 
         if (theBuilding != null)
         {
-            if (isInTileEntity(theBuilding.getTileEntity(), itemStackSelectionPredicate))
+            final BuildingStorageView.StorageSlot slot = theBuilding.getStorageView().locate(itemStackSelectionPredicate);
+            if (slot != null)
             {
-                return theBuilding.getLocation();
-            }
-
-            for (final BlockPos pos : theBuilding.getAdditionalCountainers())
-            {
-                final TileEntity entity = getWorld().getTileEntity(pos);
-                if ((entity instanceof TileEntityRack
-                        && ((TileEntityRack) entity).hasItemStack(itemStackSelectionPredicate))
-                        || (entity instanceof TileEntityChest
-                        && isInTileEntity((TileEntityChest) entity, itemStackSelectionPredicate)))
-                {
-                    return pos;
-                }
+                return slot.getContainer() == theBuilding.getTileEntity() ? theBuilding.getLocation() : slot.getContainer().getPos();
             }
         }
         return null;
     }
 
-    /**
-     * Finds the first @see ItemStack the type of {@code is}.
-     * It will be taken from the chest and placed in the worker inventory.
-     * Make sure that the worker stands next the chest to not break immersion.
-     * Also make sure to have inventory space for the stack.
-     *
-     * @param entity                      the tileEntity chest or building.
-     * @param itemStackSelectionPredicate the itemStack predicate.
-     * @return true if found the stack.
-     */
-    public static boolean isInTileEntity(final TileEntityChest entity, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
-    {
-        return InventoryFunctions.matchFirstInProvider(entity, itemStackSelectionPredicate);
-    }
-
     /**
      * Sets the colony of the tile entity.
      *
@@ -202,6 +175,7 @@ public class TileEntityColonyBuilding extends TileEntityChest
         if (building != null)
         {
             building.markDirty();
+            building.getStorageView().onContentChanged();
         }
     }
 
@@ -0,0 +1,359 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.coremod.blocks.schematic.BlockSolidSubstitution;
+import com.minecolonies.coremod.colony.Structures;
+import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockBed;
+import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * The raw bill of materials of a rotated and mirrored structure, without looking at the world.
+ * Lists are calculated once per schematic (by its md5 hash), rotation and mirror on a worker thread and cached,
+ * the builders only have to check the world at the listed positions to subtract what is already placed.
+ */
+public final class MaterialList
+{
+    /**
+     * The maximum number of cached lists.
+     */
+    private static final int MAX_CACHED_LISTS = 64;
+
+    /**
+     * The thread calculating the lists.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Material Lists");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The cached lists by schematic, rotation and mirror, the least recently used is dropped first.
+     */
+    private static final Map<String, Future<MaterialList>> materialLists = Collections.synchronizedMap(
+      new LinkedHashMap<String, Future<MaterialList>>(MAX_CACHED_LISTS, 0.75F, true)
+      {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, Future<MaterialList>> eldest)
+          {
+              return size() > MAX_CACHED_LISTS;
+          }
+      });
+
+    /**
+     * The positions which need to be checked against the world, in the order of the builder.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * The amount of every block item the structure contains.
+     */
+    private final Map<ItemStorage, Integer> totals = new HashMap<>();
+
+    /**
+     * Calculate the list of a structure.
+     *
+     * @param structure the rotated structure.
+     */
+    private MaterialList(@NotNull final StructureProxy structure)
+    {
+        for (int y = 0; y < structure.getHeight(); y++)
+        {
+            for (int z = 0; z < structure.getLength(); z++)
+            {
+                for (int x = 0; x < structure.getWidth(); x++)
+                {
+                    addEntry(structure, new BlockPos(x, y, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the list of a structure, it is calculated on a worker thread if it isn't cached yet.
+     * Lists which failed to calculate are not kept, they are calculated again the next time.
+     * The structure must not be rotated again afterwards.
+     *
+     * @param structure the structure which has already been rotated and mirrored.
+     * @param rotation  the rotation of the structure.
+     * @param mirror    if the structure is mirrored.
+     * @return the future of the list.
+     */
+    @NotNull
+    public static Future<MaterialList> getMaterialList(@NotNull final StructureWrapper structure, final int rotation, final boolean mirror)
+    {
+        final String md5 = Structures.getMD5(structure.getName());
+        final String key = (md5 == null ? structure.getName() : md5) + ":" + rotation + ":" + mirror;
+        final StructureProxy proxy = structure.getStructure();
+
+        synchronized (materialLists)
+        {
+            return materialLists.computeIfAbsent(key, name ->
+            {
+                final MaterialListTask task = new MaterialListTask(name, proxy);
+                executor.execute(task);
+                return task;
+            });
+        }
+    }
+
+    /**
+     * Remember a position if the builder may need items for it.
+     *
+     * @param structure the structure.
+     * @param pos       the position in the structure.
+     */
+    private void addEntry(@NotNull final StructureProxy structure, @NotNull final BlockPos pos)
+    {
+        final boolean hasEntity = structure.getEntityinfo(pos) != null;
+        final Template.BlockInfo blockInfo = structure.getBlockInfo(pos);
+        if (blockInfo == null || !isBlockRequired(blockInfo.blockState))
+        {
+            if (hasEntity)
+            {
+                entries.add(new Entry(pos, null, false, false, true));
+            }
+            return;
+        }
+
+        if (blockInfo.blockState.getBlock() instanceof BlockSolidSubstitution)
+        {
+            entries.add(new Entry(pos, null, true, false, hasEntity));
+            return;
+        }
+
+        final ItemStack item = getRequiredItem(blockInfo.blockState);
+        entries.add(new Entry(pos, item, false, blockInfo.tileentityData != null, hasEntity));
+        if (item != null)
+        {
+            totals.merge(new ItemStorage(item), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Check if a block of a structure can require items at all, independent of the world.
+     *
+     * @param blockState the block of the structure.
+     * @return false if it is never requested.
+     */
+    private static boolean isBlockRequired(@NotNull final IBlockState blockState)
+    {
+        final Block block = blockState.getBlock();
+        return block != ModBlocks.blockSubstitution
+                 && !(block instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
+                 && !(block instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER))
+                 && (block instanceof BlockSolidSubstitution || (block != Blocks.AIR && !AbstractEntityAIStructure.isBlockFree(block, 0)));
+    }
+
+    /**
+     * Get the item a block requires itself, without the content of its tileEntity.
+     *
+     * @param blockState the block.
+     * @return the item or null if it doesn't need one.
+     */
+    @Nullable
+    public static ItemStack getRequiredItem(@NotNull final IBlockState blockState)
+    {
+        if (ChiselAndBitsCheck.isChiselAndBitsBlock(blockState)
+              || blockState.getBlock() == Blocks.BED
+              || blockState.getBlock() == Blocks.STANDING_BANNER
+              || blockState.getBlock() == Blocks.WALL_BANNER)
+        {
+            return null;
+        }
+
+        final ItemStack stack = BlockUtils.getItemStackFromBlockState(blockState);
+        return ItemStackUtils.isEmpty(stack) ? null : stack;
+    }
+
+    /**
+     * Get the positions which need to be checked against the world.
+     *
+     * @return an unmodifiable list of the entries.
+     */
+    @NotNull
+    public List<Entry> getEntries()
+    {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Get the amount of every block item of the structure, as if nothing was placed yet.
+     *
+     * @return an unmodifiable map of the amounts.
+     */
+    @NotNull
+    public Map<ItemStorage, Integer> getTotals()
+    {
+        return Collections.unmodifiableMap(totals);
+    }
+
+    /**
+     * The calculation of a list, removes itself from the cache if it fails or is cancelled.
+     */
+    private static final class MaterialListTask extends FutureTask<MaterialList>
+    {
+        /**
+         * The key of the list in the cache.
+         */
+        private final String key;
+
+        /**
+         * Create the calculation of a list.
+         *
+         * @param key       the key of the list in the cache.
+         * @param structure the rotated structure.
+         */
+        private MaterialListTask(@NotNull final String key, @NotNull final StructureProxy structure)
+        {
+            super(() -> new MaterialList(structure));
+            this.key = key;
+        }
+
+        @Override
+        protected void done()
+        {
+            try
+            {
+                get();
+            }
+            catch (final ExecutionException | CancellationException e)
+            {
+                materialLists.remove(key, this);
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A position of a structure which may require items.
+     */
+    public static final class Entry
+    {
+        /**
+         * The position in the structure.
+         */
+        private final BlockPos pos;
+
+        /**
+         * The item the block requires, already counted in the totals.
+         */
+        @Nullable
+        private final ItemStack item;
+
+        /**
+         * If the block is a solid substitution which depends on the world.
+         */
+        private final boolean solidSubstitution;
+
+        /**
+         * If the block has a tileEntity with content.
+         */
+        private final boolean tileEntity;
+
+        /**
+         * If an entity has to be placed at the position.
+         */
+        private final boolean entity;
+
+        /**
+         * Create an entry.
+         *
+         * @param pos               the position in the structure.
+         * @param item              the item the block requires.
+         * @param solidSubstitution if the block is a solid substitution.
+         * @param tileEntity        if the block has a tileEntity.
+         * @param entity            if an entity has to be placed.
+         */
+        private Entry(
+          @NotNull final BlockPos pos,
+          @Nullable final ItemStack item,
+          final boolean solidSubstitution,
+          final boolean tileEntity,
+          final boolean entity)
+        {
+            this.pos = pos;
+            this.item = item;
+            this.solidSubstitution = solidSubstitution;
+            this.tileEntity = tileEntity;
+            this.entity = entity;
+        }
+
+        /**
+         * Getter for the position in the structure.
+         *
+         * @return the position.
+         */
+        @NotNull
+        public BlockPos getPos()
+        {
+            return pos;
+        }
+
+        /**
+         * Getter for the item the block requires.
+         *
+         * @return a copy of the item or null if none.
+         */
+        @Nullable
+        public ItemStack getItem()
+        {
+            return item == null ? null : item.copy();
+        }
+
+        /**
+         * Check if the block is a solid substitution.
+         *
+         * @return true if so.
+         */
+        public boolean isSolidSubstitution()
+        {
+            return solidSubstitution;
+        }
+
+        /**
+         * Check if the block has a tileEntity.
+         *
+         * @return true if so.
+         */
+        public boolean hasTileEntity()
+        {
+            return tileEntity;
+        }
+
+        /**
+         * Check if an entity has to be placed.
+         *
+         * @return true if so.
+         */
+        public boolean hasEntity()
+        {
+            return entity;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.coremod.entity.ai.util.Structure;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The positions of a rotated structure the builder has to visit in each stage, in the order of the stage.
+ * Positions the stage would skip anyways because of the structure alone are left out,
+ * so that only the positions which depend on the world have to be checked.
+ */
+public final class PlacementPlan
+{
+    /**
+     * The width of the structure.
+     */
+    private final int width;
+
+    /**
+     * The length of the structure.
+     */
+    private final int length;
+
+    /**
+     * The indices of the positions by stage.
+     */
+    private final Map<Structure.Stage, int[]> positions = new EnumMap<>(Structure.Stage.class);
+
+    /**
+     * Calculate the plan of a structure.
+     *
+     * @param structure the rotated structure.
+     */
+    public PlacementPlan(@NotNull final StructureProxy structure)
+    {
+        this.width = structure.getWidth();
+        this.length = structure.getLength();
+        final int size = width * structure.getHeight() * length;
+
+        final int[] all = new int[size];
+        final int[] build = new int[size];
+        final int[] decorate = new int[size];
+        final int[] spawn = new int[size];
+        int buildCount = 0;
+        int decorateCount = 0;
+        int spawnCount = 0;
+
+        for (int index = 0; index < size; index++)
+        {
+            final BlockPos pos = getLocalPosition(index);
+            final Template.BlockInfo info = structure.getBlockInfo(pos);
+            final IBlockState state = info == null ? null : info.blockState;
+
+            all[index] = size - 1 - index;
+            // Non solid blocks except air are placed while decorating.
+            if (state == null || state.getMaterial().isSolid() || state.getBlock() == Blocks.AIR)
+            {
+                build[buildCount++] = index;
+            }
+            if (state == null || !state.getMaterial().isSolid())
+            {
+                decorate[decorateCount++] = index;
+            }
+            if (structure.getEntityinfo(getLocalPosition(size - 1 - index)) != null)
+            {
+                spawn[spawnCount++] = size - 1 - index;
+            }
+        }
+
+        positions.put(Structure.Stage.CLEAR, all);
+        positions.put(Structure.Stage.REMOVE, all);
+        positions.put(Structure.Stage.BUILD, copy(build, buildCount));
+        positions.put(Structure.Stage.DECORATE, copy(decorate, decorateCount));
+        positions.put(Structure.Stage.SPAWN, copy(spawn, spawnCount));
+        positions.put(Structure.Stage.COMPLETE, new int[0]);
+    }
+
+    /**
+     * Copy the used part of an array.
+     *
+     * @param array the array.
+     * @param count the number of used elements.
+     * @return the new array.
+     */
+    private static int[] copy(@NotNull final int[] array, final int count)
+    {
+        final int[] result = new int[count];
+        System.arraycopy(array, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Get the indices of the positions to visit in a stage, in order.
+     *
+     * @param stage the stage.
+     * @return the indices, must not be modified.
+     */
+    @NotNull
+    public int[] getPositions(@NotNull final Structure.Stage stage)
+    {
+        return positions.get(stage);
+    }
+
+    /**
+     * Get the position in the structure of an index.
+     *
+     * @param index the index.
+     * @return the position.
+     */
+    @NotNull
+    public BlockPos getLocalPosition(final int index)
+    {
+        return new BlockPos(index % width, index / (width * length), (index / width) % length);
+    }
+}
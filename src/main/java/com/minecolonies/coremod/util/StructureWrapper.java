@@ -67,6 +67,11 @@ public final class StructureWrapper
      * placed on in the minecraft world.
      */
     private       BlockPos       position;
+    /**
+     * The positions to visit in each stage, calculated on first use after rotating.
+     */
+    @Nullable
+    private       PlacementPlan  placementPlan;
 
     /**
      * Load a structure into this world.
@@ -133,6 +138,22 @@ public final class StructureWrapper
     public void rotate(final int times, @NotNull final World world, @NotNull final BlockPos rotatePos, @NotNull final Mirror mirror)
     {
         structure.rotateWithMirror(times, world, rotatePos, mirror);
+        placementPlan = null;
+    }
+
+    /**
+     * Get the positions to visit in each stage.
+     *
+     * @return the plan of the rotated structure.
+     */
+    @NotNull
+    public PlacementPlan getPlacementPlan()
+    {
+        if (placementPlan == null)
+        {
+            placementPlan = new PlacementPlan(structure);
+        }
+        return placementPlan;
     }
 
     /**
@@ -389,7 +410,18 @@ public final class StructureWrapper
      */
     public boolean isStructureBlockEqualWorldBlock()
     {
-        final IBlockState structureBlockState = structure.getBlockState(this.getLocalPosition());
+        return isStructureBlockEqualWorldBlock(this.getLocalPosition());
+    }
+
+    /**
+     * Checks if the block in the world is the same as what is in the structure at a certain position.
+     *
+     * @param localPos the position in the structure.
+     * @return true if the structure block equals the world block.
+     */
+    public boolean isStructureBlockEqualWorldBlock(@NotNull final BlockPos localPos)
+    {
+        final IBlockState structureBlockState = structure.getBlockState(localPos);
         final Block structureBlock = structureBlockState.getBlock();
 
         //All worldBlocks are equal the substitution block
@@ -398,7 +430,7 @@ public final class StructureWrapper
             return true;
         }
 
-        final BlockPos worldPos = this.getBlockPosition();
+        final BlockPos worldPos = localPos.add(getOffsetPosition());
 
         final IBlockState worldBlockState = world.getBlockState(worldPos);
 
@@ -426,7 +458,7 @@ public final class StructureWrapper
             return true;
         }
 
-        final Template.EntityInfo entityInfo = structure.getEntityinfo(this.getLocalPosition());
+        final Template.EntityInfo entityInfo = structure.getEntityinfo(localPos);
         if (entityInfo != null)
         {
             return false;
@@ -8,18 +8,13 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.StructureName;
 import com.minecolonies.coremod.colony.Structures;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Rotation;
-import net.minecraft.util.datafix.DataFixer;
-import net.minecraft.util.datafix.DataFixesManager;
-import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
@@ -75,11 +70,6 @@ public class Structure
      */
     private static final int BUFFER_SIZE = 1024;
 
-    /**
-     * Required Datafixer
-     */
-    private final DataFixer fixer;
-
     /**
      * The last starting position.
      */
@@ -89,6 +79,10 @@ public class Structure
      * Template of the structure.
      */
     private Template          template;
+    /**
+     * The shared cache entry of the template.
+     */
+    private TemplateCache.CachedTemplate cachedTemplate;
     private Minecraft         mc;
     private PlacementSettings settings;
     private String            md5;
@@ -108,7 +102,12 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
+
+        //Structures which have been parsed before don't have to be read again
+        if (Structures.hasMD5(correctStructureName) && setCachedTemplate(Structures.getMD5(correctStructureName), TemplateCache.get(Structures.getMD5(correctStructureName))))
+        {
+            return;
+        }
 
         InputStream inputStream = null;
         try
@@ -134,14 +133,11 @@ public class Structure
                 return;
             }
 
-            try
+            final byte[] data = Structure.getStreamAsByteArray(inputStream);
+            final String dataMD5 = Structure.calculateMD5(data);
+            if (dataMD5 == null || !setCachedTemplate(dataMD5, TemplateCache.get(dataMD5, data)))
             {
-                this.md5 = Structure.calculateMD5(Structure.getStream(correctStructureName));
-                this.template = readTemplateFromStream(inputStream, fixer);
-            }
-            catch (final IOException e)
-            {
-                Log.getLogger().warn(String.format("Failed to load template %s", correctStructureName), e);
+                Log.getLogger().warn(String.format("Failed to load template %s", correctStructureName));
             }
         }
         finally
@@ -216,20 +212,22 @@ public class Structure
     }
 
     /**
-     * Reads a template from an inputstream.
+     * Use a template of the cache.
+     *
+     * @param md5    the md5 hash of the schematic.
+     * @param cached the cache entry, may be null.
+     * @return true if the entry was set.
      */
-    private static Template readTemplateFromStream(final InputStream stream, final DataFixer fixer) throws IOException
+    private boolean setCachedTemplate(final String md5, @Nullable final TemplateCache.CachedTemplate cached)
     {
-        final NBTTagCompound nbttagcompound = CompressedStreamTools.readCompressed(stream);
-
-        if (!nbttagcompound.hasKey("DataVersion", 99))
+        if (cached == null)
         {
-            nbttagcompound.setInteger("DataVersion", 500);
+            return false;
         }
-
-        final Template template = new Template();
-        template.read(fixer.process(FixTypes.STRUCTURE, nbttagcompound));
-        return template;
+        this.md5 = md5;
+        this.cachedTemplate = cached;
+        this.template = cached.getTemplate();
+        return true;
     }
 
     /**
@@ -384,7 +382,6 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
     }
 
     public static byte[] compress(final byte[] data)
@@ -460,9 +457,7 @@ public class Structure
 
     public Template.BlockInfo[] getBlockInfo()
     {
-        Template.BlockInfo[] blockList = new Template.BlockInfo[template.blocks.size()];
-        blockList = template.blocks.toArray(blockList);
-        return blockList;
+        return cachedTemplate.getBlockInfo();
     }
 
     /**
@@ -513,16 +508,7 @@ public class Structure
      */
     public ImmutableList<Template.BlockInfo> getBlockInfoWithSettings(final PlacementSettings settings)
     {
-        final ImmutableList.Builder<Template.BlockInfo> builder = ImmutableList.builder();
-
-        template.blocks.forEach(blockInfo -> {
-            final IBlockState finalState = blockInfo.blockState.withMirror(settings.getMirror()).withRotation(settings.getRotation());
-            final BlockPos finalPos = Template.transformedBlockPos(settings, blockInfo.pos);
-            final Template.BlockInfo finalInfo = new Template.BlockInfo(finalPos, finalState, blockInfo.tileentityData);
-            builder.add(finalInfo);
-        });
-
-        return builder.build();
+        return cachedTemplate.getBlockInfoWithSettings(settings);
     }
 
     /**
@@ -0,0 +1,231 @@
+package com.minecolonies.structures.helpers;
+
+import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.util.Log;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.DataFixesManager;
+import net.minecraft.util.datafix.FixTypes;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.template.PlacementSettings;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the parsed templates by md5 hash of their schematic.
+ * Every structure with the same content shares one template, so building the same hut again doesn't parse the schematic again.
+ * The templates must be treated as read only.
+ */
+public final class TemplateCache
+{
+    /**
+     * Maximum amount of templates kept, the least recently used ones are dropped first.
+     */
+    private static final int MAX_TEMPLATES = 64;
+
+    /**
+     * The data fixer used to read all templates, creating one is expensive.
+     */
+    private static final DataFixer FIXER = DataFixesManager.createFixer();
+
+    /**
+     * The cached templates by md5, in access order.
+     */
+    private static final Map<String, CachedTemplate> TEMPLATES = new LinkedHashMap<String, CachedTemplate>(MAX_TEMPLATES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedTemplate> eldest)
+        {
+            return size() > MAX_TEMPLATES;
+        }
+    };
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private TemplateCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the shared data fixer.
+     *
+     * @return the fixer.
+     */
+    @NotNull
+    public static DataFixer getFixer()
+    {
+        return FIXER;
+    }
+
+    /**
+     * Get a cached template without reading anything.
+     *
+     * @param md5 the md5 hash of the schematic.
+     * @return the template or null if it isn't cached.
+     */
+    @Nullable
+    public static CachedTemplate get(@Nullable final String md5)
+    {
+        if (md5 == null)
+        {
+            return null;
+        }
+
+        synchronized (TEMPLATES)
+        {
+            return TEMPLATES.get(md5);
+        }
+    }
+
+    /**
+     * Get the template of a schematic, parses it if it isn't cached.
+     *
+     * @param md5  the md5 hash of the schematic.
+     * @param data the compressed schematic.
+     * @return the template or null if it can't be read.
+     */
+    @Nullable
+    public static CachedTemplate get(@NotNull final String md5, @NotNull final byte[] data)
+    {
+        final CachedTemplate cached = get(md5);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final Template template;
+        try
+        {
+            template = readTemplate(data);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn(String.format("Failed to read template %s", md5), e);
+            return null;
+        }
+
+        synchronized (TEMPLATES)
+        {
+            return TEMPLATES.computeIfAbsent(md5, key -> new CachedTemplate(template));
+        }
+    }
+
+    /**
+     * Parse a template with the shared data fixer.
+     *
+     * @param data the compressed schematic.
+     * @return the template.
+     * @throws IOException if it isn't a valid schematic.
+     */
+    @NotNull
+    private static Template readTemplate(@NotNull final byte[] data) throws IOException
+    {
+        final NBTTagCompound nbttagcompound = CompressedStreamTools.readCompressed(new ByteArrayInputStream(data));
+
+        if (!nbttagcompound.hasKey("DataVersion", 99))
+        {
+            nbttagcompound.setInteger("DataVersion", 500);
+        }
+
+        final Template template = new Template();
+        template.read(FIXER.process(FixTypes.STRUCTURE, nbttagcompound));
+        return template;
+    }
+
+    /**
+     * A parsed template with its block infos, the transformed block infos are calculated on first use.
+     */
+    public static final class CachedTemplate
+    {
+        /**
+         * The template.
+         */
+        private final Template template;
+
+        /**
+         * The block infos of the template.
+         */
+        private final Template.BlockInfo[] blockInfo;
+
+        /**
+         * The transformed block infos by rotation and mirror.
+         */
+        private final ImmutableList<Template.BlockInfo>[] transformedBlockInfo;
+
+        /**
+         * Create the cache entry of a template.
+         *
+         * @param template the template.
+         */
+        @SuppressWarnings("unchecked")
+        private CachedTemplate(@NotNull final Template template)
+        {
+            this.template = template;
+            this.blockInfo = template.blocks.toArray(new Template.BlockInfo[template.blocks.size()]);
+            this.transformedBlockInfo = new ImmutableList[Rotation.values().length * Mirror.values().length];
+        }
+
+        /**
+         * Get the template.
+         *
+         * @return the shared template.
+         */
+        @NotNull
+        public Template getTemplate()
+        {
+            return template;
+        }
+
+        /**
+         * Get the block infos of the template.
+         *
+         * @return a copy of the array.
+         */
+        @NotNull
+        public Template.BlockInfo[] getBlockInfo()
+        {
+            return blockInfo.clone();
+        }
+
+        /**
+         * Get the block infos rotated and mirrored by the settings.
+         *
+         * @param settings the settings.
+         * @return the transformed block infos.
+         */
+        @NotNull
+        public ImmutableList<Template.BlockInfo> getBlockInfoWithSettings(@NotNull final PlacementSettings settings)
+        {
+            final int index = settings.getRotation().ordinal() * Mirror.values().length + settings.getMirror().ordinal();
+            synchronized (transformedBlockInfo)
+            {
+                if (transformedBlockInfo[index] == null)
+                {
+                    final ImmutableList.Builder<Template.BlockInfo> builder = ImmutableList.builder();
+                    for (final Template.BlockInfo info : blockInfo)
+                    {
+                        final IBlockState finalState = info.blockState.withMirror(settings.getMirror()).withRotation(settings.getRotation());
+                        final BlockPos finalPos = Template.transformedBlockPos(settings, info.pos);
+                        builder.add(new Template.BlockInfo(finalPos, finalState, info.tileentityData));
+                    }
+                    transformedBlockInfo[index] = builder.build();
+                }
+                return transformedBlockInfo[index];
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.minecolonies.api.util;
+
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ChunkStorageRegionsTest
+{
+    private ChunkStorageRegions regions;
+
+    @Before
+    public void setUp()
+    {
+        regions = new ChunkStorageRegions();
+    }
+
+    @Test
+    public void testPutAndGet()
+    {
+        final ChunkLoadStorage storage = storage(3, -4);
+        regions.put(3, -4, storage);
+
+        assertSame(storage, regions.get(3, -4));
+        assertNull(regions.get(-4, 3));
+        assertNull(regions.get(3 + 32, -4));
+        assertEquals(1, regions.size());
+    }
+
+    @Test
+    public void testPutReplaces()
+    {
+        regions.put(1, 1, storage(1, 1));
+        final ChunkLoadStorage storage = new ChunkLoadStorage(9, ChunkPos.asLong(1, 1), 0, new int[] {9}, new int[0]);
+        regions.put(1, 1, storage);
+
+        assertSame(storage, regions.get(1, 1));
+        assertEquals(1, regions.size());
+    }
+
+    @Test
+    public void testRemove()
+    {
+        final ChunkLoadStorage storage = storage(-1, -1);
+        regions.put(-1, -1, storage);
+        regions.put(-2, -1, storage(-2, -1));
+
+        assertSame(storage, regions.remove(-1, -1));
+        assertNull(regions.remove(-1, -1));
+        assertNull(regions.get(-1, -1));
+        assertNotNull(regions.get(-2, -1));
+        assertEquals(1, regions.size());
+
+        assertNotNull(regions.remove(-2, -1));
+        assertEquals(0, regions.size());
+        assertEquals(0, regions.toNBT().tagCount());
+    }
+
+    @Test
+    public void testManyRegionsWithRemovals()
+    {
+        final Random random = new Random(0);
+        final Map<Long, ChunkLoadStorage> expected = new HashMap<>();
+        final List<Long> positions = new ArrayList<>();
+
+        // Enough regions to resize the table several times, so probe chains and removals across them get exercised.
+        for (int i = 0; i < 2000; i++)
+        {
+            final int chunkX = random.nextInt(2000) - 1000;
+            final int chunkZ = random.nextInt(2000) - 1000;
+            final ChunkLoadStorage storage = storage(chunkX, chunkZ);
+            regions.put(chunkX, chunkZ, storage);
+            if (expected.put(ChunkPos.asLong(chunkX, chunkZ), storage) == null)
+            {
+                positions.add(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+        assertEquals(expected.size(), regions.size());
+
+        for (int i = 0; i < positions.size(); i += 2)
+        {
+            final long pos = positions.get(i);
+            assertSame(expected.remove(pos), regions.remove(getX(pos), getZ(pos)));
+        }
+        assertEquals(expected.size(), regions.size());
+
+        for (final long pos : positions)
+        {
+            assertSame(expected.get(pos), regions.get(getX(pos), getZ(pos)));
+        }
+    }
+
+    @Test
+    public void testFullRegion()
+    {
+        // Fill one region in a scattered order, so the chunks of the region get inserted in between and grow the arrays.
+        for (int i = 0; i < 32 * 32; i++)
+        {
+            final int index = (i * 37) & 1023;
+            regions.put(64 + (index & 31), -32 + (index >> 5), storage(64 + (index & 31), -32 + (index >> 5)));
+        }
+        assertEquals(32 * 32, regions.size());
+
+        for (int chunkX = 64; chunkX < 96; chunkX++)
+        {
+            for (int chunkZ = -32; chunkZ < 0; chunkZ += 2)
+            {
+                assertEquals(ChunkPos.asLong(chunkX, chunkZ), regions.remove(chunkX, chunkZ).getXz());
+            }
+        }
+        assertEquals(32 * 16, regions.size());
+
+        for (int chunkX = 64; chunkX < 96; chunkX++)
+        {
+            for (int chunkZ = -32; chunkZ < 0; chunkZ++)
+            {
+                final ChunkLoadStorage storage = regions.get(chunkX, chunkZ);
+                if (chunkZ % 2 == 0)
+                {
+                    assertNull(storage);
+                }
+                else
+                {
+                    assertEquals(ChunkPos.asLong(chunkX, chunkZ), storage.getXz());
+                }
+            }
+        }
+
+        final List<Long> read = new ArrayList<>();
+        ChunkStorageRegions.readNBT(regions.toNBT(), storage -> read.add(storage.getXz()));
+        assertEquals(32 * 16, read.size());
+    }
+
+    @Test
+    public void testNBTRoundTrip()
+    {
+        final Map<Long, ChunkLoadStorage> expected = new HashMap<>();
+        final int[][] chunks = {{0, 0}, {31, 31}, {32, 0}, {-1, -1}, {-32, -33}, {-33, 5}, {1000, -1000}, {-1000, 1000}};
+        for (int i = 0; i < chunks.length; i++)
+        {
+            final int chunkX = chunks[i][0];
+            final int chunkZ = chunks[i][1];
+            final int[] toAdd = new int[i % 3];
+            for (int j = 0; j < toAdd.length; j++)
+            {
+                toAdd[j] = i * 10 + j;
+            }
+            final ChunkLoadStorage storage = new ChunkLoadStorage(i, ChunkPos.asLong(chunkX, chunkZ), i % 2 - 1, toAdd, i % 2 == 0 ? new int[] {i} : new int[0]);
+            regions.put(chunkX, chunkZ, storage);
+            expected.put(storage.getXz(), storage);
+        }
+
+        final NBTTagList nbt = regions.toNBT();
+        final Map<Long, ChunkLoadStorage> read = new HashMap<>();
+        ChunkStorageRegions.readNBT(nbt, storage -> assertNull(read.put(storage.getXz(), storage)));
+
+        assertEquals(expected, read);
+    }
+
+    private static ChunkLoadStorage storage(final int chunkX, final int chunkZ)
+    {
+        return new ChunkLoadStorage(1, ChunkPos.asLong(chunkX, chunkZ), 0, new int[] {1}, new int[0]);
+    }
+
+    private static int getX(final long pos)
+    {
+        return (int) pos;
+    }
+
+    private static int getZ(final long pos)
+    {
+        return (int) (pos >> 32);
+    }
+}
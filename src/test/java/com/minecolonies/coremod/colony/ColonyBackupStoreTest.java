@@ -0,0 +1,201 @@
+package com.minecolonies.coremod.colony;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ColonyBackupStoreTest
+{
+    private static final int FILE_SIZE = 1024 * 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File              dataFolder;
+    private ColonyBackupStore store;
+    private Random            random;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        dataFolder = folder.newFolder("minecolonies");
+        store = new ColonyBackupStore(dataFolder);
+        random = new Random(0);
+    }
+
+    @Test
+    public void testSplitJoinsToOriginal()
+    {
+        final byte[] data = randomData(FILE_SIZE);
+        final List<byte[]> chunks = ColonyBackupStore.split(data);
+
+        assertTrue(chunks.size() > 1);
+        assertArrayEquals(data, join(chunks));
+    }
+
+    @Test
+    public void testSplitEmpty()
+    {
+        assertTrue(ColonyBackupStore.split(new byte[0]).isEmpty());
+    }
+
+    @Test
+    public void testSplitKeepsChunksAfterChange() throws IOException
+    {
+        final byte[] data = randomData(FILE_SIZE);
+        final byte[] changed = data.clone();
+        changed[FILE_SIZE / 2] ^= 1;
+
+        final Set<String> hashes = hashes(ColonyBackupStore.split(data));
+        final List<byte[]> changedChunks = ColonyBackupStore.split(changed);
+        final Set<String> changedHashes = hashes(changedChunks);
+        changedHashes.removeAll(hashes);
+
+        assertTrue(changedHashes.size() <= 2);
+        assertTrue(changedHashes.size() < changedChunks.size());
+    }
+
+    @Test
+    public void testReadChunk() throws IOException
+    {
+        final byte[] data = randomData(FILE_SIZE);
+        writeFile("colony1.dat", data);
+        assertNotNull(store.backup(Collections.singletonList("colony1.dat")));
+
+        for (final byte[] chunk : ColonyBackupStore.split(data))
+        {
+            assertArrayEquals(chunk, store.readChunk(ColonyBackupStore.hash(chunk)));
+        }
+    }
+
+    @Test
+    public void testSecondSnapshotIsDeduplicated() throws IOException
+    {
+        final byte[] data = randomData(FILE_SIZE);
+        writeFile("colony1.dat", data);
+        writeFile("colony2.dat", randomData(FILE_SIZE));
+        final List<String> files = Arrays.asList("colony1.dat", "colony2.dat");
+
+        assertNotNull(store.backup(files));
+        final int chunksAfterFirst = countChunks();
+
+        data[FILE_SIZE / 2] ^= 1;
+        writeFile("colony1.dat", data);
+        assertNotNull(store.backup(files));
+
+        assertEquals(2, store.getSnapshots().size());
+        assertTrue(countChunks() - chunksAfterFirst <= 2);
+    }
+
+    @Test
+    public void testRestore() throws IOException
+    {
+        final byte[] first = randomData(FILE_SIZE);
+        final byte[] second = randomData(FILE_SIZE / 3);
+        writeFile("colony1.dat", first);
+        writeFile("colony2.dat", second);
+        final String snapshot = store.backup(Arrays.asList("colony1.dat", "colony2.dat"));
+        assertNotNull(snapshot);
+
+        final byte[] changed = first.clone();
+        changed[FILE_SIZE / 2] ^= 1;
+        writeFile("colony1.dat", changed);
+        writeFile("colony3.dat", randomData(FILE_SIZE / 4));
+        assertNotNull(store.backup(Arrays.asList("colony1.dat", "colony2.dat", "colony3.dat")));
+
+        store.restore(snapshot);
+
+        assertArrayEquals(first, readFile("colony1.dat"));
+        assertArrayEquals(second, readFile("colony2.dat"));
+        assertFalse(new File(dataFolder, "colony3.dat").exists());
+        assertFalse(new File(dataFolder, "colony1.dat_tmp").exists());
+    }
+
+    @Test
+    public void testRestoreMissingChunkKeepsData() throws IOException
+    {
+        final byte[] data = randomData(FILE_SIZE);
+        writeFile("colony1.dat", data);
+        final String snapshot = store.backup(Collections.singletonList("colony1.dat"));
+        assertNotNull(snapshot);
+
+        final byte[] current = randomData(FILE_SIZE);
+        writeFile("colony1.dat", current);
+        writeFile("colony2.dat", current);
+        final byte[] chunk = ColonyBackupStore.split(data).get(0);
+        final String hash = ColonyBackupStore.hash(chunk);
+        assertTrue(new File(new File(new File(new File(dataFolder, "backups"), "chunks"), hash.substring(0, 2)), hash).delete());
+
+        try
+        {
+            store.restore(snapshot);
+            fail("Restore with a missing chunk should fail");
+        }
+        catch (final IOException e)
+        {
+            assertArrayEquals(current, readFile("colony1.dat"));
+            assertArrayEquals(current, readFile("colony2.dat"));
+        }
+    }
+
+    private byte[] randomData(final int size)
+    {
+        final byte[] data = new byte[size];
+        random.nextBytes(data);
+        return data;
+    }
+
+    private static byte[] join(final List<byte[]> chunks)
+    {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (final byte[] chunk : chunks)
+        {
+            stream.write(chunk, 0, chunk.length);
+        }
+        return stream.toByteArray();
+    }
+
+    private static Set<String> hashes(final List<byte[]> chunks) throws IOException
+    {
+        final Set<String> hashes = new HashSet<>();
+        for (final byte[] chunk : chunks)
+        {
+            hashes.add(ColonyBackupStore.hash(chunk));
+        }
+        return hashes;
+    }
+
+    private int countChunks()
+    {
+        int count = 0;
+        final File[] folders = new File(new File(dataFolder, "backups"), "chunks").listFiles();
+        if (folders != null)
+        {
+            for (final File chunkFolder : folders)
+            {
+                final File[] chunks = chunkFolder.listFiles();
+                count += chunks == null ? 0 : chunks.length;
+            }
+        }
+        return count;
+    }
+
+    private void writeFile(final String name, final byte[] data) throws IOException
+    {
+        Files.write(new File(dataFolder, name).toPath(), data);
+    }
+
+    private byte[] readFile(final String name) throws IOException
+    {
+        return Files.readAllBytes(new File(dataFolder, name).toPath());
+    }
+}
@@ -0,0 +1,82 @@
+package com.minecolonies.coremod.entity;
+
+import com.minecolonies.coremod.entity.citizenhandlers.CitizenColonyHandler;
+import com.minecolonies.coremod.test.AbstractMockStaticsTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class CitizenEntityRegistryTest extends AbstractMockStaticsTest
+{
+    private static final int COLONY_ID  = 7;
+    private static final int CITIZEN_ID = 3;
+
+    @Mock
+    private EntityCitizen citizen;
+    @Mock
+    private CitizenColonyHandler citizenColonyHandler;
+
+    @Before
+    public void setUp()
+    {
+        when(citizen.getCitizenColonyHandler()).thenReturn(citizenColonyHandler);
+        when(citizenColonyHandler.getColonyId()).thenReturn(COLONY_ID);
+        when(citizen.getCitizenId()).thenReturn(CITIZEN_ID);
+        citizen.isDead = false;
+    }
+
+    @After
+    public void tearDown()
+    {
+        CitizenEntityRegistry.onCitizenRemoved(citizen);
+    }
+
+    @Test
+    public void testRegister()
+    {
+        CitizenEntityRegistry.onCitizenAdded(citizen);
+        assertSame(citizen, CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID).orElse(null));
+        assertFalse(CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID + 1).isPresent());
+    }
+
+    @Test
+    public void testRemoveAfterColonyReset()
+    {
+        CitizenEntityRegistry.onCitizenAdded(citizen);
+
+        when(citizenColonyHandler.getColonyId()).thenReturn(0);
+        when(citizen.getCitizenId()).thenReturn(0);
+        CitizenEntityRegistry.onCitizenRemoved(citizen);
+
+        assertFalse(CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID).isPresent());
+    }
+
+    @Test
+    public void testDeadEntityIsDropped()
+    {
+        CitizenEntityRegistry.onCitizenAdded(citizen);
+        citizen.isDead = true;
+
+        assertFalse(CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID).isPresent());
+
+        citizen.isDead = false;
+        assertFalse(CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID).isPresent());
+    }
+
+    @Test
+    public void testReRegisterAfterRemove()
+    {
+        CitizenEntityRegistry.onCitizenAdded(citizen);
+        CitizenEntityRegistry.onCitizenRemoved(citizen);
+        assertFalse(CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID).isPresent());
+
+        CitizenEntityRegistry.onCitizenAdded(citizen);
+        assertTrue(CitizenEntityRegistry.getEntity(COLONY_ID, CITIZEN_ID).isPresent());
+    }
+}
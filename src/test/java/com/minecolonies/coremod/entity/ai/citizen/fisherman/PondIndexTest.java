@@ -0,0 +1,87 @@
+package com.minecolonies.coremod.entity.ai.citizen.fisherman;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PondIndexTest
+{
+    private PondIndex index;
+
+    @Before
+    public void setUp()
+    {
+        index = new PondIndex();
+    }
+
+    @Test
+    public void testAddAndRemove()
+    {
+        final BlockPos pos = new BlockPos(5, 62, -9);
+        assertTrue(index.isEmpty());
+
+        assertTrue(index.add(pos));
+        assertFalse(index.add(new BlockPos(5, 62, -9)));
+        assertFalse(index.isEmpty());
+
+        index.remove(pos);
+        assertTrue(index.isEmpty());
+        assertTrue(index.getWithin(pos, 16).isEmpty());
+
+        index.remove(pos);
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void testGetWithinAcrossCells()
+    {
+        final BlockPos center = new BlockPos(0, 62, 0);
+        final BlockPos negative = new BlockPos(-1, 62, -1);
+        final BlockPos positive = new BlockPos(7, 62, 8);
+        final BlockPos far = new BlockPos(100, 62, -100);
+        index.add(negative);
+        index.add(positive);
+        index.add(far);
+
+        final List<BlockPos> spots = index.getWithin(center, 8);
+        assertTrue(spots.contains(negative));
+        assertTrue(spots.contains(positive));
+        assertFalse(spots.contains(far));
+
+        assertTrue(index.getWithin(far, 0).contains(far));
+    }
+
+    @Test
+    public void testIsNear()
+    {
+        final BlockPos spot = new BlockPos(-20, 62, 30);
+        index.add(spot);
+
+        assertTrue(index.isNear(spot, 0));
+        assertTrue(index.isNear(new BlockPos(-23, 62, 30), 10));
+        assertFalse(index.isNear(new BlockPos(-24, 62, 30), 10));
+        assertTrue(index.isNear(new BlockPos(-20, 62, 39), 100));
+        assertFalse(index.isNear(new BlockPos(-20, 62, 40), 100));
+    }
+
+    @Test
+    public void testCopyIsIndependent()
+    {
+        final BlockPos first = new BlockPos(1, 62, 1);
+        final BlockPos second = new BlockPos(2, 62, 2);
+        index.add(first);
+
+        final PondIndex copy = new PondIndex(index);
+        copy.add(second);
+        copy.remove(first);
+
+        assertTrue(index.getWithin(first, 4).contains(first));
+        assertFalse(index.getWithin(first, 4).contains(second));
+        assertFalse(copy.getWithin(first, 4).contains(first));
+        assertTrue(copy.getWithin(first, 4).contains(second));
+    }
+}
@@ -0,0 +1,129 @@
+package com.minecolonies.coremod.inventory;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InventoryCitizenTest
+{
+    private InventoryCitizen inventory;
+
+    @BeforeClass
+    public static void setUpRegistries()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        inventory = new InventoryCitizen("Test", false);
+    }
+
+    @Test
+    public void testItemCount()
+    {
+        inventory.setInventorySlotContents(0, new ItemStack(Blocks.COBBLESTONE, 10));
+        inventory.setInventorySlotContents(5, new ItemStack(Blocks.COBBLESTONE, 5));
+        inventory.setInventorySlotContents(6, new ItemStack(Blocks.DIRT, 3));
+
+        assertEquals(15, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.COBBLESTONE))));
+        assertEquals(3, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.DIRT))));
+        assertFalse(inventory.hasItem(new ItemStorage(new ItemStack(Blocks.STONE))));
+    }
+
+    @Test
+    public void testItemCountDamageValue()
+    {
+        inventory.setInventorySlotContents(0, new ItemStack(Blocks.WOOL, 4, 1));
+        inventory.setInventorySlotContents(1, new ItemStack(Blocks.WOOL, 2, 2));
+
+        assertEquals(4, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 1))));
+        assertEquals(2, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 2))));
+        assertEquals(0, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 3))));
+        assertEquals(6, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 3), true)));
+    }
+
+    @Test
+    public void testIndexFollowsChanges()
+    {
+        final ItemStorage cobblestone = new ItemStorage(new ItemStack(Blocks.COBBLESTONE));
+        final ItemStack stack = new ItemStack(Blocks.COBBLESTONE, 10);
+        inventory.setInventorySlotContents(3, stack);
+        assertEquals(10, inventory.getItemCount(cobblestone));
+
+        final int version = inventory.getVersion();
+        stack.shrink(4);
+        inventory.markDirty();
+        assertNotEquals(version, inventory.getVersion());
+        assertEquals(6, inventory.getItemCount(cobblestone));
+
+        inventory.decrStackSize(3, 2);
+        assertEquals(4, inventory.getItemCount(cobblestone));
+
+        inventory.removeStackFromSlot(3);
+        assertEquals(0, inventory.getItemCount(cobblestone));
+
+        assertTrue(inventory.addItemStackToInventory(new ItemStack(Blocks.COBBLESTONE, 7)));
+        assertEquals(7, inventory.getItemCount(cobblestone));
+    }
+
+    @Test
+    public void testReplacedSlotMovesCount()
+    {
+        inventory.setInventorySlotContents(4, new ItemStack(Blocks.WOOL, 3, 1));
+        assertEquals(3, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 1))));
+
+        inventory.setInventorySlotContents(4, new ItemStack(Blocks.WOOL, 5, 2));
+        assertEquals(0, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 1))));
+        assertEquals(5, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL, 1, 2))));
+        assertEquals(5, inventory.getItemCount(new ItemStorage(new ItemStack(Blocks.WOOL), true)));
+
+        inventory.deleteStack(inventory.getStackInSlot(4));
+        assertFalse(inventory.hasItem(new ItemStorage(new ItemStack(Blocks.WOOL), true)));
+    }
+
+    @Test
+    public void testBestToolSlotFollowsChanges()
+    {
+        assertEquals(-1, inventory.getBestToolSlot(ToolType.PICKAXE, 0, Integer.MAX_VALUE));
+
+        inventory.setInventorySlotContents(8, new ItemStack(Items.IRON_PICKAXE));
+        inventory.setInventorySlotContents(12, new ItemStack(Items.STONE_PICKAXE));
+        assertEquals(12, inventory.getBestToolSlot(ToolType.PICKAXE, 0, Integer.MAX_VALUE));
+        assertEquals(8, inventory.getBestToolSlot(ToolType.PICKAXE, 2, Integer.MAX_VALUE));
+
+        inventory.removeStackFromSlot(12);
+        assertEquals(8, inventory.getBestToolSlot(ToolType.PICKAXE, 0, Integer.MAX_VALUE));
+
+        inventory.setInventorySlotContents(8, new ItemStack(Items.IRON_AXE));
+        assertEquals(-1, inventory.getBestToolSlot(ToolType.PICKAXE, 0, Integer.MAX_VALUE));
+        assertEquals(8, inventory.getBestToolSlot(ToolType.AXE, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testFirstFoodSlot()
+    {
+        assertEquals(-1, inventory.getFirstFoodSlot());
+
+        inventory.setInventorySlotContents(2, new ItemStack(Blocks.DIRT, 1));
+        inventory.setInventorySlotContents(7, new ItemStack(Items.APPLE, 2));
+        inventory.setInventorySlotContents(9, new ItemStack(Items.BREAD, 1));
+        assertEquals(7, inventory.getFirstFoodSlot());
+
+        inventory.setInventorySlotContents(7, ItemStackUtils.EMPTY);
+        assertEquals(9, inventory.getFirstFoodSlot());
+
+        inventory.clear();
+        assertEquals(-1, inventory.getFirstFoodSlot());
+    }
+}
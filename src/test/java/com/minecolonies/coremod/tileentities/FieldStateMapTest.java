@@ -0,0 +1,135 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.coremod.tileentities.FieldStateMap.FieldAction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FieldStateMapTest
+{
+    private static final BlockPos SCARECROW = new BlockPos(100, 64, -100);
+
+    @Mock
+    private ScarecrowTileEntity field;
+    @Mock
+    private World world;
+
+    private final Set<BlockPos> needsHoe = new HashSet<>();
+
+    private FieldStateMap map;
+
+    @Before
+    public void setUp()
+    {
+        when(field.getPos()).thenReturn(SCARECROW);
+        setBounds(2, 2, 2, 2);
+        when(world.getTotalWorldTime()).thenReturn(0L);
+
+        map = new FieldStateMap(field)
+        {
+            @Override
+            protected boolean check(@NotNull final World world, @NotNull final FieldAction action, @NotNull final BlockPos position)
+            {
+                return action == FieldAction.HOE && needsHoe.contains(position);
+            }
+        };
+    }
+
+    @Test
+    public void testNeedsAnyEmptyField()
+    {
+        assertFalse(map.needsAny(world, FieldAction.HOE));
+        assertFalse(map.needsAny(world, FieldAction.HARVEST));
+    }
+
+    @Test
+    public void testNeedsAnyInsideField()
+    {
+        needsHoe.add(ground(-2, 1));
+        assertTrue(map.needsAny(world, FieldAction.HOE));
+        assertFalse(map.needsAny(world, FieldAction.PLANT));
+    }
+
+    @Test
+    public void testNeedsAnyIgnoresBlocksOutsideField()
+    {
+        needsHoe.add(ground(3, 0));
+        needsHoe.add(ground(0, -5));
+        assertFalse(map.needsAny(world, FieldAction.HOE));
+    }
+
+    @Test
+    public void testNeedsAnyFollowsFieldSize()
+    {
+        needsHoe.add(ground(4, 0));
+        assertFalse(map.needsAny(world, FieldAction.HOE));
+
+        setBounds(4, 0, 0, 0);
+        assertTrue(map.needsAny(world, FieldAction.HOE));
+    }
+
+    @Test
+    public void testNeedsOnlyChangesAfterMarking()
+    {
+        assertFalse(map.needs(world, FieldAction.HOE, 1, 1));
+
+        needsHoe.add(ground(1, 1));
+        assertFalse(map.needs(world, FieldAction.HOE, 1, 1));
+
+        map.markChanged(ground(1, 1));
+        assertTrue(map.needs(world, FieldAction.HOE, 1, 1));
+        assertFalse(map.needs(world, FieldAction.HOE, 1, 0));
+    }
+
+    @Test
+    public void testNeedsSweep()
+    {
+        assertFalse(map.needs(world, FieldAction.HOE, -1, 2));
+
+        needsHoe.add(ground(-1, 2));
+        when(world.getTotalWorldTime()).thenReturn(1200L);
+        assertTrue(map.needs(world, FieldAction.HOE, -1, 2));
+    }
+
+    @Test
+    public void testNeedsOutsideField()
+    {
+        needsHoe.add(ground(3, 0));
+        assertFalse(map.needs(world, FieldAction.HOE, 3, 0));
+    }
+
+    @Test
+    public void testNeedsBeyondMappedArea()
+    {
+        setBounds(10, 0, 0, 0);
+        needsHoe.add(ground(9, 0));
+        assertTrue(map.needs(world, FieldAction.HOE, 9, 0));
+        assertFalse(map.needs(world, FieldAction.HOE, 8, 0));
+    }
+
+    private void setBounds(final int plusX, final int minusX, final int plusZ, final int minusZ)
+    {
+        when(field.getLengthPlusX()).thenReturn(plusX);
+        when(field.getLengthMinusX()).thenReturn(minusX);
+        when(field.getWidthPlusZ()).thenReturn(plusZ);
+        when(field.getWidthMinusZ()).thenReturn(minusZ);
+    }
+
+    private static BlockPos ground(final int offsetX, final int offsetZ)
+    {
+        return SCARECROW.down().east(offsetX).south(offsetZ);
+    }
+}
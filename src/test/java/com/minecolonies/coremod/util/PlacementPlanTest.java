@@ -0,0 +1,189 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.coremod.entity.ai.util.Structure;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.gen.structure.template.Template;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlacementPlanTest
+{
+    private static final int WIDTH  = 3;
+    private static final int HEIGHT = 2;
+    private static final int LENGTH = 4;
+
+    @Mock
+    private StructureProxy structure;
+    @Mock
+    private IBlockState    solidState;
+    @Mock
+    private Material       solidMaterial;
+
+    private final Map<BlockPos, Template.BlockInfo>  blocks   = new HashMap<>();
+    private final Map<BlockPos, Template.EntityInfo> entities = new HashMap<>();
+
+    @Before
+    public void setUp()
+    {
+        when(structure.getWidth()).thenReturn(WIDTH);
+        when(structure.getHeight()).thenReturn(HEIGHT);
+        when(structure.getLength()).thenReturn(LENGTH);
+        when(structure.getBlockInfo(any(BlockPos.class))).thenAnswer(invocation -> blocks.get(invocation.getArguments()[0]));
+        when(structure.getEntityinfo(any(BlockPos.class))).thenAnswer(invocation -> entities.get(invocation.getArguments()[0]));
+        when(solidState.getMaterial()).thenReturn(solidMaterial);
+        when(solidMaterial.isSolid()).thenReturn(true);
+
+        // Solid floor, empty above with a few solid blocks.
+        for (int x = 0; x < WIDTH; x++)
+        {
+            for (int z = 0; z < LENGTH; z++)
+            {
+                setSolid(new BlockPos(x, 0, z));
+            }
+        }
+        setSolid(new BlockPos(2, 1, 0));
+        setSolid(new BlockPos(0, 1, 3));
+        setEntity(new BlockPos(1, 1, 1));
+        setEntity(new BlockPos(2, 0, 3));
+    }
+
+    @Test
+    public void testLocalPositionsFollowIncrementWalk()
+    {
+        final PlacementPlan plan = new PlacementPlan(structure);
+        final List<BlockPos> walk = incrementWalk();
+
+        assertEquals(WIDTH * HEIGHT * LENGTH, walk.size());
+        for (int index = 0; index < walk.size(); index++)
+        {
+            assertEquals(walk.get(index), plan.getLocalPosition(index));
+        }
+    }
+
+    @Test
+    public void testClearAndRemoveFollowDecrementWalk()
+    {
+        final PlacementPlan plan = new PlacementPlan(structure);
+        final int[] expected = indices(plan, decrementWalk(), pos -> true);
+
+        assertArrayEquals(expected, plan.getPositions(Structure.Stage.CLEAR));
+        assertArrayEquals(expected, plan.getPositions(Structure.Stage.REMOVE));
+    }
+
+    @Test
+    public void testBuildFollowsIncrementWalk()
+    {
+        final PlacementPlan plan = new PlacementPlan(structure);
+        assertArrayEquals(indices(plan, incrementWalk(), pos -> true), plan.getPositions(Structure.Stage.BUILD));
+    }
+
+    @Test
+    public void testDecorateFollowsIncrementWalk()
+    {
+        final PlacementPlan plan = new PlacementPlan(structure);
+        assertArrayEquals(indices(plan, incrementWalk(), pos -> !blocks.containsKey(pos)), plan.getPositions(Structure.Stage.DECORATE));
+    }
+
+    @Test
+    public void testSpawnFollowsDecrementWalk()
+    {
+        final PlacementPlan plan = new PlacementPlan(structure);
+        final int[] spawn = plan.getPositions(Structure.Stage.SPAWN);
+
+        assertArrayEquals(indices(plan, decrementWalk(), entities::containsKey), spawn);
+        assertEquals(new BlockPos(1, 1, 1), plan.getLocalPosition(spawn[0]));
+        assertEquals(new BlockPos(2, 0, 3), plan.getLocalPosition(spawn[1]));
+    }
+
+    @Test
+    public void testCompleteIsEmpty()
+    {
+        assertEquals(0, new PlacementPlan(structure).getPositions(Structure.Stage.COMPLETE).length);
+    }
+
+    private void setSolid(final BlockPos pos)
+    {
+        blocks.put(pos, new Template.BlockInfo(pos, solidState, null));
+    }
+
+    private void setEntity(final BlockPos pos)
+    {
+        entities.put(pos, new Template.EntityInfo(new Vec3d(pos), pos, null));
+    }
+
+    /**
+     * Same order as StructureWrapper.incrementBlock.
+     */
+    private static List<BlockPos> incrementWalk()
+    {
+        final List<BlockPos> walk = new ArrayList<>();
+        for (int y = 0; y < HEIGHT; y++)
+        {
+            for (int z = 0; z < LENGTH; z++)
+            {
+                for (int x = 0; x < WIDTH; x++)
+                {
+                    walk.add(new BlockPos(x, y, z));
+                }
+            }
+        }
+        return walk;
+    }
+
+    /**
+     * Same order as StructureWrapper.decrementBlock.
+     */
+    private static List<BlockPos> decrementWalk()
+    {
+        final List<BlockPos> walk = new ArrayList<>();
+        for (int y = HEIGHT - 1; y >= 0; y--)
+        {
+            for (int z = LENGTH - 1; z >= 0; z--)
+            {
+                for (int x = WIDTH - 1; x >= 0; x--)
+                {
+                    walk.add(new BlockPos(x, y, z));
+                }
+            }
+        }
+        return walk;
+    }
+
+    private static int[] indices(final PlacementPlan plan, final List<BlockPos> walk, final Predicate<BlockPos> filter)
+    {
+        final Map<BlockPos, Integer> indexByPos = new HashMap<>();
+        for (int index = 0; index < WIDTH * HEIGHT * LENGTH; index++)
+        {
+            indexByPos.put(plan.getLocalPosition(index), index);
+        }
+
+        final List<Integer> result = new ArrayList<>();
+        for (final BlockPos pos : walk)
+        {
+            if (filter.test(pos))
+            {
+                result.add(indexByPos.get(pos));
+            }
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+}